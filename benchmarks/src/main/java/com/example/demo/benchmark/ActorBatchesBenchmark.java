@@ -0,0 +1,111 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.actor.ActorBatches;
+import com.example.demo.actor.ActorList;
+import com.example.demo.actor.Boss;
+import com.example.demo.actor.EnemyPlane;
+import com.example.demo.actor.UserPlane;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.TimingWheel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares updating a list of mixed planes through one shared call site with updating it in
+ * {@link ActorBatches} of a single concrete type.
+ * <p>
+ * The list mixes enemy planes, bosses and user planes in shuffled order, so the shared
+ * {@code updateActor} call sees three receiver types. Each operation is one tick of plane updates.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActorBatchesBenchmark {
+
+    private static final long SEED = 42;
+    private static final int PLAYER_HEALTH = 5;
+    /** One in this many planes is a boss, and as many again are user planes. */
+    private static final int OTHER_TYPE_SHARE = 10;
+
+    @Param({"100", "1000", "10000"})
+    public int actorCount;
+
+    ActorList<ActiveActorDestructible> shared;
+    ActorList<ActiveActorDestructible> batched;
+    ActorBatches batches;
+
+    @Setup(Level.Trial)
+    public void createActors() {
+        shared = new ActorList<>();
+        batched = new ActorList<>();
+        createPlanes(shared, actorCount);
+        createPlanes(batched, actorCount);
+        batches = new ActorBatches(batched)
+                .register(EnemyPlane.class, ActorBatchesBenchmark::updateEnemyPlanes)
+                .register(Boss.class, ActorBatchesBenchmark::updateBosses)
+                .register(UserPlane.class, ActorBatchesBenchmark::updateUserPlanes);
+    }
+
+    @Benchmark
+    public double updateShared() {
+        shared.forEach(ActiveActorDestructible::updateActor);
+        return shared.get(0).getMinX();
+    }
+
+    @Benchmark
+    public double updateBatched() {
+        batches.update();
+        return batched.get(0).getMinX();
+    }
+
+    /**
+     * Fills a list with a shuffled mix of planes.
+     *
+     * @param list  the list to fill.
+     * @param count the number of planes.
+     */
+    private static void createPlanes(ActorList<ActiveActorDestructible> list, int count) {
+        GameRandom random = new GameRandom(SEED);
+        TimingWheel scheduler = new TimingWheel();
+        List<ActiveActorDestructible> planes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i % OTHER_TYPE_SHARE == 0) {
+                planes.add(new Boss(random, scheduler));
+            } else if (i % OTHER_TYPE_SHARE == 1) {
+                UserPlane user = new UserPlane(PLAYER_HEALTH);
+                user.moveUp();
+                planes.add(user);
+            } else {
+                planes.add(new EnemyPlane(SyntheticActors.SCREEN_WIDTH, random.nextDouble() * SyntheticActors.SCREEN_HEIGHT, random));
+            }
+        }
+        random.shuffle(planes);
+        list.addAll(planes);
+    }
+
+    private static void updateEnemyPlanes(ActiveActorDestructible[] actors, int count) {
+        for (int i = 0; i < count; i++) {
+            ((EnemyPlane) actors[i]).updateActor();
+        }
+    }
+
+    private static void updateBosses(ActiveActorDestructible[] actors, int count) {
+        for (int i = 0; i < count; i++) {
+            ((Boss) actors[i]).updateActor();
+        }
+    }
+
+    private static void updateUserPlanes(ActiveActorDestructible[] actors, int count) {
+        for (int i = 0; i < count; i++) {
+            ((UserPlane) actors[i]).updateActor();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.actor.Boss;
+import com.example.demo.actor.UserPlane;
+import com.example.demo.util.CollisionHandler;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.SpatialHashGrid;
+import com.example.demo.util.TimingWheel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every {@link CollisionHandler} entry point on synthetic actor sets.
+ * <p>
+ * List-against-list passes run for every combination of projectile count, enemy count and distribution,
+ * both brute force and through a {@link SpatialHashGrid}. Grid benchmarks include rebuilding the grid,
+ * as the level does every tick. Passes against a single target only vary the projectile count.
+ * Run with {@code -prof gc} to report the allocation rate next to the throughput.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionHandlerBenchmark {
+
+    private static final double GRID_CELL_SIZE = 128;
+    private static final int PLAYER_HEALTH = 5;
+
+    /**
+     * Projectiles and enemy planes for the list-against-list passes.
+     */
+    @State(Scope.Benchmark)
+    public static class PairState {
+        @Param({"10", "100", "1000", "10000"})
+        public int projectileCount;
+
+        @Param({"1", "10", "100", "500"})
+        public int enemyCount;
+
+        @Param({"UNIFORM", "CLUSTERED"})
+        public SyntheticActors.Distribution distribution;
+
+        UserPlane user;
+        List<ActiveActorDestructible> projectiles;
+        List<ActiveActorDestructible> enemies;
+        List<ActiveActorDestructible> friendlies;
+        SpatialHashGrid enemyGrid;
+        SpatialHashGrid friendlyGrid;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            user = new UserPlane(PLAYER_HEALTH);
+            projectiles = SyntheticActors.projectiles(projectileCount, distribution, 1);
+            enemies = SyntheticActors.planes(enemyCount, distribution, 2);
+            friendlies = new ArrayList<>(SyntheticActors.planes(enemyCount, distribution, 3));
+            friendlies.add(0, user);
+            enemyGrid = new SpatialHashGrid(SyntheticActors.SCREEN_WIDTH, SyntheticActors.SCREEN_HEIGHT, GRID_CELL_SIZE);
+            friendlyGrid = new SpatialHashGrid(SyntheticActors.SCREEN_WIDTH, SyntheticActors.SCREEN_HEIGHT, GRID_CELL_SIZE);
+        }
+    }
+
+    /**
+     * Projectiles tested against the user or the boss alone.
+     */
+    @State(Scope.Benchmark)
+    public static class TargetState {
+        @Param({"10", "100", "1000", "10000"})
+        public int projectileCount;
+
+        @Param({"UNIFORM", "CLUSTERED"})
+        public SyntheticActors.Distribution distribution;
+
+        UserPlane user;
+        Boss boss;
+        List<ActiveActorDestructible> projectiles;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            user = new UserPlane(PLAYER_HEALTH);
+            boss = new Boss(new GameRandom(1), new TimingWheel());
+            projectiles = SyntheticActors.projectiles(projectileCount, distribution, 1);
+        }
+    }
+
+    @Benchmark
+    public int userProjectilesBruteForce(PairState state) {
+        return CollisionHandler.handleUserProjectileCollisions(state.user, state.projectiles, state.enemies);
+    }
+
+    @Benchmark
+    public int userProjectilesGrid(PairState state) {
+        state.enemyGrid.rebuild(state.enemies);
+        return CollisionHandler.handleUserProjectileCollisions(state.user, state.projectiles, state.enemyGrid);
+    }
+
+    @Benchmark
+    public void enemyProjectilesBruteForce(PairState state) {
+        CollisionHandler.handleEnemyProjectileCollisions(state.projectiles, state.friendlies);
+    }
+
+    @Benchmark
+    public void enemyProjectilesGrid(PairState state) {
+        state.friendlyGrid.rebuild(state.friendlies);
+        CollisionHandler.handleEnemyProjectileCollisions(state.projectiles, state.friendlyGrid);
+    }
+
+    @Benchmark
+    public void planesBruteForce(PairState state) {
+        CollisionHandler.handlePlaneCollisions(state.friendlies, state.enemies);
+    }
+
+    @Benchmark
+    public void planesGrid(PairState state) {
+        state.enemyGrid.rebuild(state.enemies);
+        CollisionHandler.handlePlaneCollisions(state.friendlies, state.enemyGrid);
+    }
+
+    @Benchmark
+    public int userProjectilesBoss(TargetState state) {
+        return CollisionHandler.handleUserProjectileBossCollisions(state.user, state.projectiles, state.boss);
+    }
+
+    @Benchmark
+    public void userHealthPoints(TargetState state) {
+        CollisionHandler.handleUserHealthPointCollisions(PLAYER_HEALTH, state.user, state.projectiles);
+    }
+
+    @Benchmark
+    public void userFireDeactivators(TargetState state) {
+        CollisionHandler.handleUserBossFireDeactivatorCollisions(state.user, state.boss, state.projectiles);
+    }
+}
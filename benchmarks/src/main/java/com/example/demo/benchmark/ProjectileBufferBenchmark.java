@@ -0,0 +1,74 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.actor.Projectile;
+import com.example.demo.actor.ProjectileBuffer;
+import com.example.demo.actor.UserProjectile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares moving projectiles through a {@link ProjectileBuffer} with updating each projectile object in turn.
+ * <p>
+ * Each operation is one tick of projectile motion: saving the previous positions and advancing every
+ * projectile by its velocity. The buffered projectiles are then read back through their bounding boxes,
+ * as the collision and culling stages do, so the cost of reading positions out of the buffer is included.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectileBufferBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"100", "1000", "10000"})
+    public int projectileCount;
+
+    Projectile[] objects;
+    Projectile[] buffered;
+    ProjectileBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void createProjectiles() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        objects = new Projectile[projectileCount];
+        buffered = new Projectile[projectileCount];
+        buffer = new ProjectileBuffer();
+        for (int i = 0; i < projectileCount; i++) {
+            double x = random.nextDouble() * SyntheticActors.SCREEN_WIDTH;
+            double y = random.nextDouble() * SyntheticActors.SCREEN_HEIGHT;
+            objects[i] = new UserProjectile(x, y);
+            buffered[i] = new UserProjectile(x, y);
+            buffer.attach(buffered[i]);
+        }
+    }
+
+    @Benchmark
+    public double updateObjects() {
+        double sum = 0;
+        for (Projectile projectile : objects) {
+            projectile.savePreviousPosition();
+            projectile.updateActor();
+        }
+        for (Projectile projectile : objects) {
+            sum += projectile.getMaxX();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double integrateBuffer() {
+        double sum = 0;
+        buffer.savePreviousPositions();
+        buffer.integrate();
+        for (Projectile projectile : buffered) {
+            sum += projectile.getMaxX();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.level.LevelOne;
+import com.example.demo.level.LevelParent;
+import com.example.demo.level.PlayerInput;
+import com.example.demo.level.ReplayPlayer;
+import com.example.demo.level.ReplayRecorder;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.GameScore;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long a recorded session takes to play back headless, from level construction to the last tick.
+ * <p>
+ * Pass recorded sessions with {@code -p replayFile=<path>}. Without one, a scripted LevelOne session is recorded
+ * in memory, so the benchmark always has something to run.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReplayBenchmark {
+
+    private static final long SCRIPT_SEED = 1;
+    private static final int SCRIPT_TICKS = 5_000;
+    private static final int SCRIPT_INPUT_INTERVAL = 8;
+
+    @Param({""})
+    public String replayFile;
+
+    ReplayPlayer player;
+    LevelParent level;
+
+    @Setup(Level.Trial)
+    public void loadReplay() throws IOException {
+        player = replayFile.isEmpty() ? ReplayPlayer.load(new ByteArrayInputStream(recordScript()))
+                : ReplayPlayer.load(Path.of(replayFile));
+    }
+
+    @Setup(Level.Invocation)
+    public void createLevel() throws ReflectiveOperationException {
+        level = player.createLevel();
+    }
+
+    @Benchmark
+    public long playReplay() {
+        return player.play(level);
+    }
+
+    /**
+     * Records a LevelOne session that weaves up and down while firing until the level is won.
+     *
+     * @return the recording.
+     * @throws IOException if the recording cannot be written.
+     */
+    private static byte[] recordScript() throws IOException {
+        LevelParent level = new LevelOne(SyntheticActors.SCREEN_HEIGHT, SyntheticActors.SCREEN_WIDTH, new GameRandom(SCRIPT_SEED));
+        level.addGameScore(new GameScore(0));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        level.recordReplay(new ReplayRecorder(bytes, level, SCRIPT_SEED));
+        for (int i = 0; i < SCRIPT_TICKS && !level.isStopped(); i++) {
+            if (i % SCRIPT_INPUT_INTERVAL == 0) {
+                level.handleInput(PlayerInput.FIRE);
+                level.handleInput((i / 40) % 2 == 0 ? PlayerInput.MOVE_UP : PlayerInput.MOVE_DOWN);
+            }
+            level.updateScene();
+        }
+        level.stopGame();
+        return bytes.toByteArray();
+    }
+}
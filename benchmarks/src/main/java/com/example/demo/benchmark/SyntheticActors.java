@@ -0,0 +1,115 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.actor.EnemyPlane;
+import com.example.demo.actor.UserProjectile;
+import com.example.demo.util.GameRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates reproducible sets of real actors spread over the game screen for the benchmarks.
+ */
+public final class SyntheticActors {
+
+    static final double SCREEN_WIDTH = 1300;
+    static final double SCREEN_HEIGHT = 750;
+
+    private static final int CLUSTER_COUNT = 4;
+    private static final double CLUSTER_SPREAD = 40;
+
+    /**
+     * How actor positions are spread over the screen.
+     */
+    public enum Distribution {
+        /** Positions are drawn uniformly over the whole screen. */
+        UNIFORM,
+        /** Positions are drawn around a few random centres, as in a dense firefight. */
+        CLUSTERED
+    }
+
+    private SyntheticActors() {}
+
+    /**
+     * Creates user projectiles at generated positions.
+     *
+     * @param count        the number of projectiles.
+     * @param distribution how the positions are spread.
+     * @param seed         the seed for the positions.
+     * @return the projectiles.
+     */
+    static List<ActiveActorDestructible> projectiles(int count, Distribution distribution, long seed) {
+        double[] positions = positions(count, distribution, seed);
+        List<ActiveActorDestructible> projectiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projectiles.add(new UserProjectile(positions[2 * i], positions[2 * i + 1]));
+        }
+        return projectiles;
+    }
+
+    /**
+     * Creates enemy planes at generated positions.
+     *
+     * @param count        the number of planes.
+     * @param distribution how the positions are spread.
+     * @param seed         the seed for the positions.
+     * @return the planes.
+     */
+    static List<ActiveActorDestructible> planes(int count, Distribution distribution, long seed) {
+        double[] positions = positions(count, distribution, seed);
+        List<ActiveActorDestructible> planes = new ArrayList<>(count);
+        GameRandom random = new GameRandom(seed);
+        for (int i = 0; i < count; i++) {
+            planes.add(new EnemyPlane(positions[2 * i], positions[2 * i + 1], random));
+        }
+        return planes;
+    }
+
+    /**
+     * Generates interleaved x and y coordinates within the screen.
+     *
+     * @param count        the number of positions.
+     * @param distribution how the positions are spread.
+     * @param seed         the seed for the positions.
+     * @return an array holding {@code count} x and y pairs.
+     */
+    private static double[] positions(int count, Distribution distribution, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] centres = new double[2 * CLUSTER_COUNT];
+        for (int c = 0; c < CLUSTER_COUNT; c++) {
+            centres[2 * c] = random.nextDouble(SCREEN_WIDTH);
+            centres[2 * c + 1] = random.nextDouble(SCREEN_HEIGHT);
+        }
+
+        double[] positions = new double[2 * count];
+        for (int i = 0; i < count; i++) {
+            double x;
+            double y;
+            if (distribution == Distribution.CLUSTERED) {
+                int c = random.nextInt(CLUSTER_COUNT);
+                x = centres[2 * c] + gaussian(random) * CLUSTER_SPREAD;
+                y = centres[2 * c + 1] + gaussian(random) * CLUSTER_SPREAD;
+            } else {
+                x = random.nextDouble(SCREEN_WIDTH);
+                y = random.nextDouble(SCREEN_HEIGHT);
+            }
+            positions[2 * i] = Math.max(0, Math.min(SCREEN_WIDTH, x));
+            positions[2 * i + 1] = Math.max(0, Math.min(SCREEN_HEIGHT, y));
+        }
+        return positions;
+    }
+
+    /**
+     * Draws a standard normal value using the Box-Muller transform.
+     *
+     * @param random the source of randomness.
+     * @return a normally distributed value with mean 0 and standard deviation 1.
+     */
+    private static double gaussian(SplittableRandom random) {
+        double u = 1 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.demo.actor;
+
+/**
+ * An abstract base class representing an active actor in the game.
+ * The actor is a plain model object holding its sprite, position and size, so the simulation
+ * can run without the JavaFX toolkit. A renderer draws the actor from this state.
+ * Positions follow the JavaFX layout convention: a fixed layout position plus a translation
+ * accumulated while the actor moves.
+ */
+public abstract class ActiveActor {
+
+	private final String imageName;
+	private final int imageHeight;
+	private double layoutX;
+	private double layoutY;
+	private final double fitWidth;
+	private final double fitHeight;
+	private double translateX;
+	private double translateY;
+
+	/**
+	 * Constructs an ActiveActor with the specified image, size, and initial position.
+	 * The width is derived from the sprite's aspect ratio, see {@link SpriteDimensions}.
+	 *
+	 * @param imageName    the name of the image file for the actor
+	 * @param imageHeight  the height of the actor image
+	 * @param initialXPos  the initial X position of the actor
+	 * @param initialYPos  the initial Y position of the actor
+	 */
+	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
+		this.imageName = imageName;
+		this.imageHeight = imageHeight;
+		this.layoutX = initialXPos;
+		this.layoutY = initialYPos;
+		this.fitHeight = imageHeight;
+		this.fitWidth = SpriteDimensions.getAspectRatio(imageName) * imageHeight;
+	}
+
+	/**
+	 * Updates the position of the actor.
+	 * This method should be implemented by subclasses to define specific behavior.
+	 */
+	public abstract void updatePosition();
+
+	/**
+	 * Moves the actor horizontally by the specified amount.
+	 *
+	 * @param horizontalMove the amount to move the actor horizontally
+	 */
+	protected void moveHorizontally(double horizontalMove) {
+		this.setTranslateX(getTranslateX() + horizontalMove);
+	}
+
+	/**
+	 * Moves the actor vertically by the specified amount.
+	 *
+	 * @param verticalMove the amount to move the actor vertically
+	 */
+	protected void moveVertically(double verticalMove) {
+		this.setTranslateY(getTranslateY() + verticalMove);
+	}
+
+	/**
+	 * Moves the actor to a new layout position and clears its translation,
+	 * as if it had just been constructed there.
+	 *
+	 * @param x the new layout X coordinate
+	 * @param y the new layout Y coordinate
+	 */
+	protected void relocate(double x, double y) {
+		this.layoutX = x;
+		this.layoutY = y;
+		this.translateX = 0;
+		this.translateY = 0;
+	}
+
+	/**
+	 * Gets the name of the image file displayed for the actor.
+	 *
+	 * @return the image name.
+	 */
+	public String getImageName() {
+		return imageName;
+	}
+
+	/**
+	 * Gets the height the actor's image is displayed at.
+	 *
+	 * @return the image height.
+	 */
+	public int getImageHeight() {
+		return imageHeight;
+	}
+
+	/**
+	 * Gets the initial X position of the actor.
+	 *
+	 * @return the layout X coordinate.
+	 */
+	public double getLayoutX() {
+		return layoutX;
+	}
+
+	/**
+	 * Gets the initial Y position of the actor.
+	 *
+	 * @return the layout Y coordinate.
+	 */
+	public double getLayoutY() {
+		return layoutY;
+	}
+
+	/**
+	 * Gets the horizontal distance the actor has moved from its layout position.
+	 *
+	 * @return the X translation.
+	 */
+	public double getTranslateX() {
+		return translateX;
+	}
+
+	/**
+	 * Sets the horizontal distance the actor has moved from its layout position.
+	 *
+	 * @param translateX the X translation.
+	 */
+	public void setTranslateX(double translateX) {
+		this.translateX = translateX;
+	}
+
+	/**
+	 * Gets the vertical distance the actor has moved from its layout position.
+	 *
+	 * @return the Y translation.
+	 */
+	public double getTranslateY() {
+		return translateY;
+	}
+
+	/**
+	 * Sets the vertical distance the actor has moved from its layout position.
+	 *
+	 * @param translateY the Y translation.
+	 */
+	public void setTranslateY(double translateY) {
+		this.translateY = translateY;
+	}
+
+	/**
+	 * Gets the displayed width of the actor.
+	 *
+	 * @return the width.
+	 */
+	public double getFitWidth() {
+		return fitWidth;
+	}
+
+	/**
+	 * Gets the displayed height of the actor.
+	 *
+	 * @return the height.
+	 */
+	public double getFitHeight() {
+		return fitHeight;
+	}
+}
@@ -0,0 +1,269 @@
+package com.example.demo.actor;
+
+import com.example.demo.contract.Destructible;
+
+/**
+ * Represents an abstract destructible actor in the game.
+ * Extends {@link ActiveActor} and implements {@link Destructible}.
+ * Provides functionality for handling destruction, removal, and bounding box updates.
+ *
+ * <p>The actor's axis-aligned bounding box is kept in primitive fields, refreshed by
+ * {@link #updateBoundingBox()}, so collision checks read it without allocating.
+ * When {@link #isBoundingBoxVisible()} is set the renderer outlines the box for debugging.</p>
+ *
+ * <p>The position at the start of the current tick is saved by {@link #savePreviousPosition()}, so the
+ * renderer can draw the actor between its last two simulated positions when the display runs faster
+ * than the simulation.</p>
+ *
+ * <p>Each actor also declares how far past the screen edges it may travel and how many ticks it may live
+ * before the level's culling stage removes it. By default actors are culled {@value #DEFAULT_CULL_MARGIN}
+ * pixels past any edge and never for age.</p>
+ */
+public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
+
+	/** The distance past the screen edges an actor may travel before it is culled, unless overridden. */
+	public static final double DEFAULT_CULL_MARGIN = 100;
+
+	/** The lifetime of actors that are never culled for age. */
+	public static final int UNLIMITED_LIFETIME = Integer.MAX_VALUE;
+
+	private boolean isDestroyed;
+	private boolean shouldRemove;
+	@SuppressWarnings("FieldCanBeLocal")
+	private final boolean isBoundingBoxVisible = false;
+	private double minX;
+	private double minY;
+	private double maxX;
+	private double maxY;
+	private double previousMinX;
+	private double previousMinY;
+	private int ageTicks;
+
+	/**
+	 * One more than the actor's index in the {@link ActorList} holding it, or 0 when it is in none.
+	 * Offset by one so an actor that was never added reads as absent.
+	 */
+	int listSlot;
+
+	/**
+	 * Constructs an {@code ActiveActorDestructible} with the specified parameters.
+	 *
+	 * @param imageName    the name of the image file associated with the actor
+	 * @param imageHeight  the height of the image
+	 * @param initialXPos  the initial X position of the actor
+	 * @param initialYPos  the initial Y position of the actor
+	 */
+	public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
+		super(imageName, imageHeight, initialXPos, initialYPos);
+		isDestroyed = false;
+		updateBoundingBox();
+		savePreviousPosition();
+	}
+
+	/**
+	 * Updates the position of the actor.
+	 */
+	@Override
+	public abstract void updatePosition();
+
+	/**
+	 * Updates the state of the actor.
+	 */
+	public abstract void updateActor();
+
+	/**
+	 * Applies damage to the actor.
+	 */
+	public abstract void takeDamage();
+
+	/**
+	 * Repairs damage to the actor.
+	 */
+	public abstract void repairDamage();
+
+	/**
+	 * Marks the actor as destroyed.
+	 */
+	@Override
+	public void destroy() {
+		setDestroyed(true);
+	}
+
+	/**
+	 * Checks if the actor is destroyed.
+	 *
+	 * @return {@code true} if the actor is destroyed, otherwise {@code false}.
+	 */
+	public boolean isDestroyed() {
+		return isDestroyed;
+	}
+
+	/**
+	 * Sets the destruction status of the actor.
+	 *
+	 * @param isDestroyed {@code true} to mark the actor as destroyed, otherwise {@code false}.
+	 */
+	protected void setDestroyed(boolean isDestroyed) {
+		this.isDestroyed = isDestroyed;
+	}
+
+	/**
+	 * Marks the actor for removal.
+	 */
+	@Override
+	public void remove() {
+		setShouldRemove(true);
+	}
+
+	/**
+	 * Checks if the actor should be removed.
+	 *
+	 * @return {@code true} if the actor should be removed, otherwise {@code false}.
+	 */
+	public boolean getShouldRemove() {
+		return shouldRemove;
+	}
+
+	/**
+	 * Sets the removal status of the actor.
+	 *
+	 * @param shouldRemove {@code true} to mark the actor for removal, otherwise {@code false}.
+	 */
+	public void setShouldRemove(boolean shouldRemove) {
+		this.shouldRemove = shouldRemove;
+	}
+
+	/**
+	 * Checks if the bounding box is visible.
+	 *
+	 * @return {@code true} if the bounding box is visible, otherwise {@code false}.
+	 */
+	public boolean isBoundingBoxVisible() {
+		return this.isBoundingBoxVisible;
+	}
+
+	/**
+	 * Gets the left edge of the actor's bounding box.
+	 *
+	 * @return the minimum X coordinate of the bounding box.
+	 */
+	public double getMinX() {
+		return minX;
+	}
+
+	/**
+	 * Gets the top edge of the actor's bounding box.
+	 *
+	 * @return the minimum Y coordinate of the bounding box.
+	 */
+	public double getMinY() {
+		return minY;
+	}
+
+	/**
+	 * Gets the right edge of the actor's bounding box.
+	 *
+	 * @return the maximum X coordinate of the bounding box.
+	 */
+	public double getMaxX() {
+		return maxX;
+	}
+
+	/**
+	 * Gets the bottom edge of the actor's bounding box.
+	 *
+	 * @return the maximum Y coordinate of the bounding box.
+	 */
+	public double getMaxY() {
+		return maxY;
+	}
+
+	/**
+	 * Records the current position as the position at the start of the tick.
+	 * Called by the level before its actors are updated.
+	 */
+	public void savePreviousPosition() {
+		previousMinX = minX;
+		previousMinY = minY;
+	}
+
+	/**
+	 * Gets the left edge of the bounding box interpolated between the previous and current tick.
+	 *
+	 * @param alpha the interpolation factor, 0 for the previous tick and 1 for the current tick.
+	 * @return the interpolated X coordinate.
+	 */
+	public double getInterpolatedX(double alpha) {
+		return previousMinX + (minX - previousMinX) * alpha;
+	}
+
+	/**
+	 * Gets the top edge of the bounding box interpolated between the previous and current tick.
+	 *
+	 * @param alpha the interpolation factor, 0 for the previous tick and 1 for the current tick.
+	 * @return the interpolated Y coordinate.
+	 */
+	public double getInterpolatedY(double alpha) {
+		return previousMinY + (minY - previousMinY) * alpha;
+	}
+
+	/**
+	 * Gets the distance past the screen edges the actor may travel before it is culled.
+	 *
+	 * @return the exit margin in pixels.
+	 */
+	public double getCullMargin() {
+		return DEFAULT_CULL_MARGIN;
+	}
+
+	/**
+	 * Gets the number of ticks the actor may live before it is culled.
+	 *
+	 * @return the maximum lifetime in ticks, or {@link #UNLIMITED_LIFETIME}.
+	 */
+	public int getMaxLifetimeTicks() {
+		return UNLIMITED_LIFETIME;
+	}
+
+	/**
+	 * Gets the number of ticks the actor has lived.
+	 *
+	 * @return the actor's age in ticks.
+	 */
+	public int getAgeTicks() {
+		return ageTicks;
+	}
+
+	/**
+	 * Ages the actor by one tick. Called by the level's culling stage once per tick.
+	 */
+	public void incrementAge() {
+		ageTicks++;
+	}
+
+	/**
+	 * Sets the actor's age, when its age comes back from a {@link ProjectileBuffer}.
+	 *
+	 * @param ageTicks the age in ticks.
+	 */
+	void setAgeTicks(int ageTicks) {
+		this.ageTicks = ageTicks;
+	}
+
+	/**
+	 * Resets the actor's age, for actors that are reused.
+	 */
+	protected void resetAge() {
+		ageTicks = 0;
+	}
+
+	/**
+	 * Updates the bounding box to match the actor's current position and size.
+	 */
+	protected void updateBoundingBox() {
+		minX = getLayoutX() + getTranslateX();
+		minY = getLayoutY() + getTranslateY();
+		maxX = minX + getFitWidth();
+		maxY = minY + getFitHeight();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.example.demo.actor;
+
+import java.util.Arrays;
+
+/**
+ * Updates the actors of an {@link ActorList} in batches of a single concrete type.
+ * <p>
+ * Updating a list of mixed actors through {@link ActiveActorDestructible#updateActor()} calls every actor type
+ * from the same call site, which the JIT compiler can only dispatch virtually once more than two types have
+ * been seen there. Each type registered with {@link #register(Class, BatchUpdate)} comes with its own update
+ * loop, written against the concrete type, so every loop's call site only ever sees one type and its
+ * {@code updateActor} chain can be inlined. The dispatch to a loop happens once per batch instead of once
+ * per actor. Actors of a type that was not registered are updated through the shared virtual call.
+ * </p>
+ * <p>
+ * The batches are copied out of the list and only sorted again when the list has been changed since the
+ * last update, which is a few times per second in a level rather than on every tick. Batches are keyed by
+ * exact class, so a subclass of a registered type is not put in its parent's batch.
+ * </p>
+ */
+public class ActorBatches {
+
+    /**
+     * An update loop over a batch of actors that all have the type the loop was registered for.
+     */
+    @FunctionalInterface
+    public interface BatchUpdate {
+        /**
+         * Updates the actors of a batch.
+         *
+         * @param actors the batch, holding actors of the registered type from index 0.
+         * @param count  the number of actors in the batch.
+         */
+        void update(ActiveActorDestructible[] actors, int count);
+    }
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final ActorList<?> source;
+    private Class<?>[] types;
+    private BatchUpdate[] updates;
+    private ActiveActorDestructible[][] batches;
+    private int[] counts;
+    private int typeCount;
+    private int syncedModifications;
+    private boolean synced;
+    private long rebuildCount;
+
+    /**
+     * Constructs batches over a list, with no registered types.
+     *
+     * @param source the list whose actors are updated.
+     */
+    public ActorBatches(ActorList<?> source) {
+        this.source = source;
+        types = new Class<?>[1];
+        updates = new BatchUpdate[1];
+        batches = new ActiveActorDestructible[1][DEFAULT_CAPACITY];
+        counts = new int[1];
+        // The last batch takes every actor of a type that was not registered.
+        updates[0] = ActorBatches::updateAny;
+        typeCount = 1;
+    }
+
+    /**
+     * Registers the update loop for one concrete actor type.
+     *
+     * @param type   the exact class of the actors the loop updates.
+     * @param update the loop, which may cast each actor to {@code type}.
+     * @return these batches, for chaining.
+     * @throws IllegalArgumentException if the type is already registered.
+     */
+    public ActorBatches register(Class<? extends ActiveActorDestructible> type, BatchUpdate update) {
+        if (indexOf(type) < typeCount - 1) {
+            throw new IllegalArgumentException("Invalid actor type: already registered " + type.getName());
+        }
+        int fallback = typeCount - 1;
+        types = Arrays.copyOf(types, typeCount + 1);
+        updates = Arrays.copyOf(updates, typeCount + 1);
+        batches = Arrays.copyOf(batches, typeCount + 1);
+        counts = Arrays.copyOf(counts, typeCount + 1);
+        types[typeCount] = null;
+        updates[typeCount] = updates[fallback];
+        batches[typeCount] = batches[fallback];
+        counts[typeCount] = counts[fallback];
+        types[fallback] = type;
+        updates[fallback] = update;
+        batches[fallback] = new ActiveActorDestructible[DEFAULT_CAPACITY];
+        counts[fallback] = 0;
+        typeCount++;
+        synced = false;
+        return this;
+    }
+
+    /**
+     * Updates every actor in the list once, batch by batch, sorting the list into batches first
+     * if it has changed.
+     */
+    public void update() {
+        if (!synced || syncedModifications != source.getModifications()) {
+            rebuild();
+        }
+        for (int i = 0; i < typeCount; i++) {
+            if (counts[i] > 0) {
+                updates[i].update(batches[i], counts[i]);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of actors in the batch of a type, as of the last update.
+     *
+     * @param type the registered type, or {@code null} for the actors of unregistered types.
+     * @return the batch size.
+     */
+    public int getBatchSize(Class<? extends ActiveActorDestructible> type) {
+        return counts[indexOf(type)];
+    }
+
+    /**
+     * Gets the number of times the list has been sorted into batches.
+     *
+     * @return the rebuild count.
+     */
+    public long getRebuildCount() {
+        return rebuildCount;
+    }
+
+    /**
+     * Sorts the list's actors into the batch of their exact class.
+     */
+    private void rebuild() {
+        for (int i = 0; i < typeCount; i++) {
+            Arrays.fill(batches[i], 0, counts[i], null);
+            counts[i] = 0;
+        }
+        for (int j = 0, size = source.size(); j < size; j++) {
+            ActiveActorDestructible actor = source.get(j);
+            int i = indexOf(actor.getClass());
+            if (counts[i] == batches[i].length) {
+                batches[i] = Arrays.copyOf(batches[i], counts[i] * 2);
+            }
+            batches[i][counts[i]++] = actor;
+        }
+        syncedModifications = source.getModifications();
+        synced = true;
+        rebuildCount++;
+    }
+
+    /**
+     * Finds the batch of a class.
+     *
+     * @param type the class.
+     * @return the index of its batch, or of the batch for unregistered types.
+     */
+    private int indexOf(Class<?> type) {
+        int last = typeCount - 1;
+        for (int i = 0; i < last; i++) {
+            if (types[i] == type) {
+                return i;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Updates actors of any type through the shared virtual call.
+     *
+     * @param actors the batch.
+     * @param count  the number of actors in the batch.
+     */
+    private static void updateAny(ActiveActorDestructible[] actors, int count) {
+        for (int i = 0; i < count; i++) {
+            actors[i].updateActor();
+        }
+    }
+}
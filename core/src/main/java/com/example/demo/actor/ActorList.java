@@ -0,0 +1,151 @@
+package com.example.demo.actor;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Unordered list of actors where every actor knows its own slot.
+ * <p>
+ * Each actor records its index when it is added, so removing it never searches the list. Removal is a swap-remove:
+ * the last actor is moved into the freed slot and its recorded index is updated, so nothing is shifted.
+ * The order of the remaining actors therefore changes on removal, which the level does not rely on.
+ * An actor can be held by only one {@code ActorList} at a time.
+ * </p>
+ *
+ * @param <T> the type of actor in the list.
+ */
+public class ActorList<T extends ActiveActorDestructible> extends AbstractList<T> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private ActiveActorDestructible[] actors;
+    private int size;
+
+    /**
+     * Constructs an empty list.
+     */
+    public ActorList() {
+        actors = new ActiveActorDestructible[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Gets the actor in a slot.
+     *
+     * @param index the slot index.
+     * @return the actor.
+     * @throws IndexOutOfBoundsException if the index is outside the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (T) actors[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of times actors have been added to or removed from the list, so that
+     * {@link ActorBatches} can tell when to sort the list into batches again.
+     *
+     * @return the modification count.
+     */
+    int getModifications() {
+        return modCount;
+    }
+
+    /**
+     * Appends an actor and records its slot.
+     *
+     * @param actor the actor to add.
+     * @return {@code true}.
+     * @throws IllegalArgumentException if the actor is already in an {@code ActorList}.
+     */
+    @Override
+    public boolean add(T actor) {
+        if (actor.listSlot != 0) {
+            throw new IllegalArgumentException("Invalid actor: already in a list at slot " + (actor.listSlot - 1));
+        }
+        if (size == actors.length) {
+            actors = Arrays.copyOf(actors, size * 2);
+        }
+        actors[size] = actor;
+        actor.listSlot = ++size;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the actor in a slot by moving the last actor into it.
+     *
+     * @param index the slot index.
+     * @return the removed actor.
+     * @throws IndexOutOfBoundsException if the index is outside the list.
+     */
+    @Override
+    public T remove(int index) {
+        T removed = get(index);
+        int last = --size;
+        if (index != last) {
+            ActiveActorDestructible moved = actors[last];
+            actors[index] = moved;
+            moved.listSlot = index + 1;
+        }
+        actors[last] = null;
+        removed.listSlot = 0;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes an actor through its recorded slot, without searching.
+     *
+     * @param o the actor to remove.
+     * @return {@code true} if the actor was in this list.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o instanceof ActiveActorDestructible actor) {
+            int index = actor.listSlot - 1;
+            if (index >= 0 && index < size && actors[index] == actor) {
+                remove(index);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the actor is in this list through its recorded slot.
+     *
+     * @param o the actor to look for.
+     * @return {@code true} if the actor is in this list.
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof ActiveActorDestructible actor) {
+            int index = actor.listSlot - 1;
+            return index >= 0 && index < size && actors[index] == actor;
+        }
+        return false;
+    }
+
+    /**
+     * Removes every actor, clearing their recorded slots.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            actors[i].listSlot = 0;
+            actors[i] = null;
+        }
+        size = 0;
+        modCount++;
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.demo.actor;
 
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.TimingWheel;
+
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * Represents the Boss character in the game. The Boss has unique behaviors
  * such as moving in a predefined pattern, firing projectiles, and activating
  * a shield to protect itself from damage.
+ * <p>
+ * The Boss's timed behavior runs on the level's {@link TimingWheel}: the shield wears off, fire is reactivated
+ * and the next move of the pattern is taken when their timers come due, rather than by counting frames.
+ * </p>
  */
 public class Boss extends FighterPlane {
 
@@ -28,28 +34,39 @@ public class Boss extends FighterPlane {
 	private static final int MAX_FRAMES_WITH_SHIELD = 50;
 	private static final int MAX_FIRE_DEACTIVATION_FRAMES = 100;
 	private boolean isFireDeactivated;
-	private int fireDeactivationFrames;
 
+	private final ProjectilePool<BossProjectile> projectilePool;
+	private final GameRandom random;
+	private final TimingWheel scheduler;
+	private final TimingWheel.Timer shieldTimer;
+	private final TimingWheel.Timer fireReactivationTimer;
+	private final TimingWheel.Timer moveTimer;
 	private final List<Integer> movePattern;
 	private boolean isShielded;
-	private int consecutiveMovesInSameDirection;
 	private int indexOfCurrentMove;
-	private int framesWithShieldActivated;
 
 	/**
 	 * Constructs a Boss instance with initial properties such as position,
 	 * health, and movement pattern.
+	 *
+	 * @param random    the level's source of randomness, driving the Boss's moves, firing and shield.
+	 * @param scheduler the level's timing wheel, on which the Boss's timed behavior is scheduled.
 	 */
-	public Boss() {
+	public Boss(GameRandom random, TimingWheel scheduler) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+		this.random = random;
+		this.scheduler = scheduler;
+		projectilePool = new ProjectilePool<>(() -> new BossProjectile(0));
+		shieldTimer = new TimingWheel.Timer(this::deactivateShield);
+		fireReactivationTimer = new TimingWheel.Timer(this::reactivateFire);
+		moveTimer = new TimingWheel.Timer(this::takeNextMove);
 		movePattern = new ArrayList<>();
-		consecutiveMovesInSameDirection = 0;
 		indexOfCurrentMove = 0;
-		framesWithShieldActivated = 0;
 		isShielded = false;
 		isFireDeactivated = false;
-		fireDeactivationFrames = 0;
 		initializeMovePattern();
+		armFireCountdown(random, BOSS_FIRE_RATE);
+		scheduler.schedule(moveTimer, MAX_FRAMES_WITH_SAME_MOVE);
 	}
 
 	/**
@@ -74,20 +91,40 @@ public class Boss extends FighterPlane {
 	public void updateActor() {
 		updatePosition();
 		updateShield();
-		updateFireState();
 	}
 
 	/**
-	 * Fires a projectile from the Boss based on a predefined fire rate.
+	 * Destroys the Boss and cancels its pending timers.
+	 */
+	@Override
+	public void destroy() {
+		super.destroy();
+		shieldTimer.cancel();
+		fireReactivationTimer.cancel();
+		moveTimer.cancel();
+	}
+
+	/**
+	 * Fires a projectile from the Boss. The level calls this through {@link #tickFireCountdown()},
+	 * so the Boss fires on any one tick with its predefined fire rate.
 	 *
-	 * @return a new BossProjectile if the Boss fires in the current frame, or {@code null}.
+	 * @return a BossProjectile taken from the Boss's projectile pool, or {@code null} while its fire is deactivated.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
 		if (isFireDeactivated) {
 			return null; // Prevent firing when deactivated
 		}
-		return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition()) : null;
+		return projectilePool.acquire(BossProjectile.INITIAL_X_POSITION, getProjectileInitialPosition());
+	}
+
+	/**
+	 * Gets the pool the Boss's projectiles are taken from.
+	 *
+	 * @return the boss projectile pool.
+	 */
+	public ProjectilePool<BossProjectile> getProjectilePool() {
+		return projectilePool;
 	}
 
 	/**
@@ -120,11 +157,12 @@ public class Boss extends FighterPlane {
 
 	/**
 	 * Deactivates the Boss's ability to fire projectiles.
-	 * Resets the frame counter tracking the duration of the fire deactivation.
+	 * Reschedules the reactivation, so a deactivation while already deactivated restarts its duration.
 	 */
 	public void deactivateFire() {
 		isFireDeactivated = true;
-		fireDeactivationFrames = 0;
+		setFireHeld(true);
+		scheduler.schedule(fireReactivationTimer, MAX_FIRE_DEACTIVATION_FRAMES);
 	}
 
 	/**
@@ -136,58 +174,42 @@ public class Boss extends FighterPlane {
 			movePattern.add(-VERTICAL_VELOCITY);
 			movePattern.add(ZERO);
 		}
-		Collections.shuffle(movePattern);
+		random.shuffle(movePattern);
 	}
 
 	/**
-	 * Updates the Boss's shield status. Activates or deactivates the shield based
-	 * on certain conditions.
+	 * Activates the shield when it is down and the activation check passes.
+	 * The shield wears off when its timer comes due.
 	 */
 	private void updateShield() {
-		if (isShielded) framesWithShieldActivated++;
-		else if (shieldShouldBeActivated()) activateShield();
-		if (shieldExhausted()) deactivateShield();
+		if (!isShielded && shieldShouldBeActivated()) activateShield();
 	}
 
 	/**
-	 * Updates the Boss's firing state based on the duration of fire deactivation.
-	 * If the fire has been deactivated for the maximum allowed frames, the Boss can fire again.
+	 * Allows the Boss to fire again once the fire deactivation has run its course.
 	 */
-	private void updateFireState() {
-		if (isFireDeactivated) {
-			fireDeactivationFrames++;
-			if (fireDeactivationFrames >= MAX_FIRE_DEACTIVATION_FRAMES) {
-				isFireDeactivated = false; // Reactivate firing
-			}
-		}
+	private void reactivateFire() {
+		isFireDeactivated = false;
+		setFireHeld(false);
 	}
 
 	/**
-	 * Determines the next vertical movement for the Boss based on its current pattern.
+	 * Gets the vertical movement the Boss is currently making.
 	 *
 	 * @return the vertical movement value.
 	 */
 	private int getNextMove() {
-		int currentMove = movePattern.get(indexOfCurrentMove);
-		consecutiveMovesInSameDirection++;
-		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
-			consecutiveMovesInSameDirection = 0;
-			indexOfCurrentMove++;
-		}
-		if (indexOfCurrentMove == movePattern.size()) {
-			indexOfCurrentMove = 0;
-		}
-		return currentMove;
+		return movePattern.get(indexOfCurrentMove);
 	}
 
 	/**
-	 * Determines if the Boss should fire a projectile in the current frame.
-	 *
-	 * @return {@code true} if the Boss fires, otherwise {@code false}.
+	 * Reshuffles the movement pattern and moves on to its next entry once the current move
+	 * has been made for the maximum number of frames, then schedules the following change.
 	 */
-	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+	private void takeNextMove() {
+		random.shuffle(movePattern);
+		indexOfCurrentMove = (indexOfCurrentMove + 1) % movePattern.size();
+		scheduler.schedule(moveTimer, MAX_FRAMES_WITH_SAME_MOVE);
 	}
 
 	/**
@@ -205,23 +227,15 @@ public class Boss extends FighterPlane {
 	 * @return {@code true} if the shield should be activated, otherwise {@code false}.
 	 */
 	private boolean shieldShouldBeActivated() {
-		return Math.random() < (1 - getHealth() / (double) HEALTH) * BOSS_SHIELD_PROBABILITY;
-	}
-
-	/**
-	 * Checks if the shield has been active for its maximum duration.
-	 *
-	 * @return {@code true} if the shield duration is exhausted, otherwise {@code false}.
-	 */
-	private boolean shieldExhausted() {
-		return framesWithShieldActivated == MAX_FRAMES_WITH_SHIELD;
+		return random.chance((1 - getHealth() / (double) HEALTH) * BOSS_SHIELD_PROBABILITY);
 	}
 
 	/**
-	 * Activates the Boss's shield.
+	 * Activates the Boss's shield and schedules it to wear off after its maximum duration.
 	 */
 	private void activateShield() {
 		isShielded = true;
+		scheduler.schedule(shieldTimer, MAX_FRAMES_WITH_SHIELD);
 	}
 
 	/**
@@ -229,6 +243,5 @@ public class Boss extends FighterPlane {
 	 */
 	private void deactivateShield() {
 		isShielded = false;
-		framesWithShieldActivated = 0;
 	}
 }
\ No newline at end of file
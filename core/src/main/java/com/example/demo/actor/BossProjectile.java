@@ -16,7 +16,7 @@ public class BossProjectile extends Projectile {
 	private static final int HORIZONTAL_VELOCITY = -15;
 
 	/** The initial X position of the projectile. */
-	private static final int INITIAL_X_POSITION = 950;
+	static final int INITIAL_X_POSITION = 950;
 
 	/**
 	 * Constructs a new BossProjectile at a specified Y position.
@@ -24,23 +24,6 @@ public class BossProjectile extends Projectile {
 	 * @param initialYPos the initial Y position of the projectile
 	 */
 	public BossProjectile(double initialYPos) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
+		super(IMAGE_NAME, IMAGE_HEIGHT, HORIZONTAL_VELOCITY, INITIAL_X_POSITION, initialYPos);
 	}
-
-	/**
-	 * Updates the position of the projectile by moving it horizontally and updating its bounding box.
-	 */
-	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
-		updateBoundingBox();
-	}
-
-	/**
-	 * Updates the state of the projectile, including its position.
-	 */
-	@Override
-	public void updateActor() {
-		updatePosition();
-	}
-}
\ No newline at end of file
+}
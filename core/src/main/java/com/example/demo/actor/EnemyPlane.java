@@ -1,5 +1,7 @@
 package com.example.demo.actor;
 
+import com.example.demo.util.GameRandom;
+
 /**
  * Represents an enemy plane in the game, which moves horizontally and can fire projectiles at a specified rate.
  */
@@ -8,16 +10,17 @@ public class EnemyPlane extends FighterPlane {
 	private final int HORIZONTAL_VELOCITY;
 	private final double PROJECTILE_X_POSITION_OFFSET;
 	private final double PROJECTILE_Y_POSITION_OFFSET;
-	private final double FIRE_RATE;
+	private ProjectilePool<EnemyProjectile> projectilePool;
 
 	/**
 	 * Constructs an {@code EnemyPlane} at the specified initial position with default settings.
 	 *
 	 * @param initialXPos the initial X-coordinate of the enemy plane.
 	 * @param initialYPos the initial Y-coordinate of the enemy plane.
+	 * @param random      the level's source of randomness, deciding when the plane fires.
 	 */
-	public EnemyPlane(double initialXPos, double initialYPos) {
-		this(initialXPos, initialYPos, new EnemyPlaneMutator());
+	public EnemyPlane(double initialXPos, double initialYPos, GameRandom random) {
+		this(initialXPos, initialYPos, new EnemyPlaneMutator(), random);
 	}
 
 	/**
@@ -26,8 +29,9 @@ public class EnemyPlane extends FighterPlane {
 	 * @param initialXPos         the initial X-coordinate of the enemy plane.
 	 * @param initialYPos         the initial Y-coordinate of the enemy plane.
 	 * @param enemyPlaneMutator   an {@code EnemyPlaneMutator} providing the configuration for the enemy plane.
+	 * @param random              the level's source of randomness, deciding when the plane fires.
 	 */
-	public EnemyPlane(double initialXPos, double initialYPos, EnemyPlaneMutator enemyPlaneMutator) {
+	public EnemyPlane(double initialXPos, double initialYPos, EnemyPlaneMutator enemyPlaneMutator, GameRandom random) {
 		super(
 				enemyPlaneMutator.getImageName(),
 				enemyPlaneMutator.getImageHeight(),
@@ -38,7 +42,7 @@ public class EnemyPlane extends FighterPlane {
 		this.HORIZONTAL_VELOCITY = enemyPlaneMutator.getHorizontalVelocity();
 		this.PROJECTILE_X_POSITION_OFFSET = enemyPlaneMutator.getProjectileXPositionOffset();
 		this.PROJECTILE_Y_POSITION_OFFSET = enemyPlaneMutator.getProjectileYPositionOffset();
-		this.FIRE_RATE = enemyPlaneMutator.getFireRate();
+		armFireCountdown(random, enemyPlaneMutator.getFireRate());
 	}
 
 	/**
@@ -59,17 +63,29 @@ public class EnemyPlane extends FighterPlane {
 	}
 
 	/**
-	 * Fires a projectile if a random value is less than the firing rate.
+	 * Fires a projectile from the enemy plane. The level calls this through {@link #tickFireCountdown()},
+	 * so the plane fires on any one tick with its firing rate.
+	 * The projectile is taken from the plane's projectile pool when one has been set.
 	 *
-	 * @return a new {@code EnemyProjectile} if the enemy fires, or {@code null} if it does not.
+	 * @return the {@code EnemyProjectile} fired.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
-			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
-			double projectileYPostion = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyProjectile(projectileXPosition, projectileYPostion);
+		double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
+		double projectileYPostion = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
+		if (projectilePool != null) {
+			return projectilePool.acquire(projectileXPosition, projectileYPostion);
 		}
-		return null;
+		return new EnemyProjectile(projectileXPosition, projectileYPostion);
+	}
+
+	/**
+	 * Sets the pool the plane's projectiles are taken from.
+	 * Enemy planes come and go during a level, so the level shares one pool between them.
+	 *
+	 * @param projectilePool the enemy projectile pool.
+	 */
+	public void setProjectilePool(ProjectilePool<EnemyProjectile> projectilePool) {
+		this.projectilePool = projectilePool;
 	}
 }
\ No newline at end of file
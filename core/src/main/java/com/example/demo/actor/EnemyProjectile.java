@@ -17,25 +17,6 @@ public class EnemyProjectile extends Projectile {
 	 * @param initialYPos the initial Y-coordinate of the projectile.
 	 */
 	public EnemyProjectile(double initialXPos, double initialYPos) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+		super(IMAGE_NAME, IMAGE_HEIGHT, HORIZONTAL_VELOCITY, initialXPos, initialYPos);
 	}
-
-	/**
-	 * Updates the position of the projectile by moving it horizontally.
-	 * Also updates the bounding box for collision detection.
-	 */
-	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
-		updateBoundingBox();
-	}
-
-	/**
-	 * Updates the state of the projectile.
-	 * Calls {@link #updatePosition()} to adjust its position.
-	 */
-	@Override
-	public void updateActor() {
-		updatePosition();
-	}
-}
\ No newline at end of file
+}
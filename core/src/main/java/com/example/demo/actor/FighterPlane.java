@@ -0,0 +1,186 @@
+package com.example.demo.actor;
+
+import com.example.demo.util.GameRandom;
+
+/**
+ * Represents a fighter plane that can take damage, repair itself, and fire projectiles.
+ * This is an abstract class meant to be extended by specific types of fighter planes.
+ * A plane armed with a {@link Weapon} fires when its weapon decides to, on the ticks counted by the level.
+ * Planes that fire at random are given a fire rate with {@link #armFireCountdown(GameRandom, double)}; they draw
+ * the wait until their next shot and the level counts it down each tick with {@link #tickFireCountdown()},
+ * rather than rolling a chance on every tick.
+ */
+public abstract class FighterPlane extends ActiveActorDestructible {
+
+	private int health;
+	private Weapon weapon;
+	private GameRandom fireRandom;
+	private double fireRate;
+	private int fireCountdown = Integer.MAX_VALUE;
+	private boolean fireHeld;
+
+	/**
+	 * Constructs a FighterPlane with the specified attributes.
+	 *
+	 * @param imageName    the name of the image file representing the fighter plane.
+	 * @param imageHeight  the height of the image.
+	 * @param initialXPos  the initial X-coordinate of the fighter plane.
+	 * @param initialYPos  the initial Y-coordinate of the fighter plane.
+	 * @param health       the initial health of the fighter plane.
+	 */
+	public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
+		super(imageName, imageHeight, initialXPos, initialYPos);
+		this.health = health;
+	}
+
+	/**
+	 * Fires a projectile from the fighter plane.
+	 * This method must be implemented by subclasses.
+	 *
+	 * @return the projectile fired by the fighter plane.
+	 */
+	public abstract ActiveActorDestructible fireProjectile();
+
+	/**
+	 * Advances the plane's weapon by one tick and fires a projectile if the weapon fires on this tick.
+	 * Unarmed planes never fire through this method.
+	 *
+	 * @return the projectile fired, or {@code null} if the plane does not fire on this tick.
+	 */
+	public ActiveActorDestructible fireWeapon() {
+		if (weapon == null || !weapon.update()) {
+			return null;
+		}
+		return fireProjectile();
+	}
+
+	/**
+	 * Counts down to the plane's next shot and fires a projectile when it is due.
+	 * A tick without a shot only decrements the countdown; {@link #fireProjectile()} is called on the tick
+	 * the countdown is at zero, after the wait before the following shot has been drawn. The countdown does
+	 * not move while the plane's fire is held.
+	 *
+	 * @return the projectile fired, or {@code null} if the plane does not fire on this tick.
+	 */
+	public final ActiveActorDestructible tickFireCountdown() {
+		if (fireHeld) {
+			return null;
+		}
+		if (fireCountdown > 0) {
+			fireCountdown--;
+			return null;
+		}
+		fireCountdown = drawFireCountdown(fireRandom, fireRate);
+		return fireProjectile();
+	}
+
+	/**
+	 * Sets the rate the plane fires at through {@link #tickFireCountdown()} and draws the wait until its first shot.
+	 * Planes that are never armed this way do not fire through the countdown.
+	 *
+	 * @param random   the source of randomness drawing each wait.
+	 * @param fireRate the chance of firing on any one tick.
+	 */
+	protected final void armFireCountdown(GameRandom random, double fireRate) {
+		this.fireRandom = random;
+		this.fireRate = fireRate;
+		this.fireCountdown = drawFireCountdown(random, fireRate);
+	}
+
+	/**
+	 * Holds or releases the plane's fire countdown.
+	 *
+	 * @param held whether the countdown should pause and the plane stop firing.
+	 */
+	protected final void setFireHeld(boolean held) {
+		this.fireHeld = held;
+	}
+
+	/**
+	 * Draws the number of ticks a plane waits before its next shot when it fires on any one tick with the
+	 * given chance. The shot is due on the tick the countdown is at zero.
+	 *
+	 * @param random   the source of randomness.
+	 * @param fireRate the chance of firing on any one tick.
+	 * @return the countdown in ticks, or {@link Integer#MAX_VALUE} if the plane never fires.
+	 */
+	private static int drawFireCountdown(GameRandom random, double fireRate) {
+		return (int) Math.min(random.nextGeometric(fireRate), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Gets the plane's weapon.
+	 *
+	 * @return the weapon, or {@code null} if the plane is unarmed.
+	 */
+	public Weapon getWeapon() {
+		return weapon;
+	}
+
+	/**
+	 * Arms the plane with a weapon.
+	 *
+	 * @param weapon the weapon the plane fires with.
+	 */
+	protected void setWeapon(Weapon weapon) {
+		this.weapon = weapon;
+	}
+
+	/**
+	 * Decreases the fighter plane's health by 1.
+	 * If the health reaches zero, the plane is destroyed.
+	 */
+	@Override
+	public void takeDamage() {
+		health--;
+		if (healthAtZero()) {
+			this.destroy();
+		}
+	}
+
+	/**
+	 * Repairs the fighter plane by increasing its health by 1.
+	 */
+	@Override
+	public void repairDamage() {
+		health++;
+	}
+
+	/**
+	 * Returns the current health of the fighter plane.
+	 *
+	 * @return the current health of the plane.
+	 */
+	public int getHealth() {
+		return health;
+	}
+
+	/**
+	 * Calculates the X-coordinate for firing a projectile, based on a specified offset.
+	 *
+	 * @param xPositionOffset the offset for the projectile's X-coordinate.
+	 * @return the calculated X-coordinate for the projectile.
+	 */
+	protected double getProjectileXPosition(double xPositionOffset) {
+		return getLayoutX() + getTranslateX() + xPositionOffset;
+	}
+
+	/**
+	 * Calculates the Y-coordinate for firing a projectile, based on a specified offset.
+	 *
+	 * @param yPositionOffset the offset for the projectile's Y-coordinate.
+	 * @return the calculated Y-coordinate for the projectile.
+	 */
+	protected double getProjectileYPosition(double yPositionOffset) {
+		return getLayoutY() + getTranslateY() + yPositionOffset;
+	}
+
+	/**
+	 * Checks whether the health of the fighter plane has reached zero.
+	 *
+	 * @return {@code true} if health is zero, otherwise {@code false}.
+	 */
+	private boolean healthAtZero() {
+		return health == 0;
+	}
+}
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.example.demo.actor;
 
+import com.example.demo.util.GameClock;
+import com.example.demo.util.GameRandom;
+
 /**
  * Represents a fire deactivator in the game. The fire deactivator is a transient
  * active actor that appears for a limited time and deactivates the boss's fire when collided with the user's plane.
@@ -15,15 +18,18 @@ public class FireDeactivator extends TransientActiveActorDestructible {
      * Constructs a FireDeactivator instance with a random position near the user's plane.
      *
      * @param userPlane       the user's plane, used to determine bounds for placing the fire deactivator.
-     * @param lingerTimeSecond the time in seconds the fire deactivator will remain active.
+     * @param lingerMillis     the game time in milliseconds for which the fire deactivator remains active.
+     * @param random           the level's source of randomness, used to place the fire deactivator.
+     * @param clock            the level's clock, which the linger time is counted on.
      */
-    public FireDeactivator(UserPlane userPlane, long lingerTimeSecond) {
+    public FireDeactivator(UserPlane userPlane, long lingerMillis, GameRandom random, GameClock clock) {
         super(
                 IMAGE_NAME,
                 IMAGE_HEIGHT,
-                getRandomPosition(userPlane.getXLowerBound(), userPlane.getXUpperBound() + X_UPPER_OFFSET),
-                getRandomPosition(userPlane.getYLowerBound(), userPlane.getYUpperBound() + Y_UPPER_OFFSET),
-                lingerTimeSecond
+                getRandomPosition(random, userPlane.getXLowerBound(), userPlane.getXUpperBound() + X_UPPER_OFFSET),
+                getRandomPosition(random, userPlane.getYLowerBound(), userPlane.getYUpperBound() + Y_UPPER_OFFSET),
+                lingerMillis,
+                clock
         );
     }
 
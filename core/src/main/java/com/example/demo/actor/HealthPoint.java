@@ -1,6 +1,7 @@
 package com.example.demo.actor;
 
-import java.util.Random;
+import com.example.demo.util.GameClock;
+import com.example.demo.util.GameRandom;
 
 /**
  * Represents a health point object in the game.
@@ -21,15 +22,18 @@ public class HealthPoint extends TransientActiveActorDestructible {
      * variety in placement. The health point will linger for the specified duration.
      *
      * @param userPlane       the user's plane, used to determine bounds for the random position.
-     * @param lingerTimeSecond the duration in seconds for which the health point remains active.
+     * @param lingerMillis     the game time in milliseconds for which the health point remains active.
+     * @param random           the level's source of randomness, used to place the health point.
+     * @param clock            the level's clock, which the linger time is counted on.
      */
-    public HealthPoint(UserPlane userPlane, long lingerTimeSecond) {
+    public HealthPoint(UserPlane userPlane, long lingerMillis, GameRandom random, GameClock clock) {
         super(
                 IMAGE_NAME,
                 IMAGE_HEIGHT,
-                getRandomPosition(userPlane.getXLowerBound(), userPlane.getXUpperBound() + X_UPPER_OFFSET),
-                getRandomPosition(userPlane.getYLowerBound(), userPlane.getYUpperBound() + Y_UPPER_OFFSET),
-                lingerTimeSecond
+                getRandomPosition(random, userPlane.getXLowerBound(), userPlane.getXUpperBound() + X_UPPER_OFFSET),
+                getRandomPosition(random, userPlane.getYLowerBound(), userPlane.getYUpperBound() + Y_UPPER_OFFSET),
+                lingerMillis,
+                clock
         );
     }
 
@@ -0,0 +1,299 @@
+package com.example.demo.actor;
+
+/**
+ * Represents a projectile in the game.
+ * Projectiles are destructible and follow specific movement patterns.
+ *
+ * <p>Projectiles fired by planes are taken from a {@link ProjectilePool}. Once the level removes a
+ * projectile it calls {@link #recycle()}, and the pool hands the same object out again for a later shot.</p>
+ *
+ * <p>Every projectile flies in a straight line at a constant velocity. While a projectile is in the level it is
+ * attached to the level's {@link ProjectileBuffer}, which keeps its motion state in primitive arrays and moves all
+ * projectiles in one loop; the bounding box and interpolated position are then read from the buffer. A projectile
+ * that is not attached moves itself like any other actor.</p>
+ */
+public abstract class Projectile extends ActiveActorDestructible {
+
+	private static final double CULL_MARGIN = 0;
+	private static final int MAX_LIFETIME_TICKS = 300;
+
+	private final double velocityX;
+	private ProjectilePool<?> pool;
+	private boolean isPooled;
+
+	/** The buffer holding the projectile's motion state, or {@code null} when it moves itself. */
+	ProjectileBuffer buffer;
+
+	/** The projectile's slot in {@link #buffer}. */
+	int bufferSlot;
+
+	/**
+	 * Constructs a projectile with the specified image and initial position.
+	 *
+	 * @param imageName    the name of the image file for the projectile.
+	 * @param imageHeight  the height of the image.
+	 * @param velocityX    the horizontal distance the projectile travels each tick.
+	 * @param initialXPos  the initial X position of the projectile.
+	 * @param initialYPos  the initial Y position of the projectile.
+	 */
+	public Projectile(String imageName, int imageHeight, double velocityX, double initialXPos, double initialYPos) {
+		super(imageName, imageHeight, initialXPos, initialYPos);
+		this.velocityX = velocityX;
+	}
+
+	/**
+	 * Handles the damage taken by the projectile.
+	 * The projectile is destroyed upon taking damage.
+	 */
+	@Override
+	public void takeDamage() {
+		this.destroy();
+	}
+
+	/**
+	 * Repairs the projectile.
+	 * No implementation is needed as projectiles cannot be repaired.
+	 */
+	@Override
+	public void repairDamage() {}
+
+	/**
+	 * Moves the projectile by its velocity, in its buffer slot if it is attached to a {@link ProjectileBuffer}.
+	 */
+	@Override
+	public void updatePosition() {
+		if (buffer != null) {
+			buffer.integrate(bufferSlot);
+		} else {
+			moveHorizontally(velocityX);
+			moveVertically(getVelocityY());
+			updateBoundingBox();
+		}
+	}
+
+	/**
+	 * Updates the state of the projectile by updating its position.
+	 */
+	@Override
+	public void updateActor() {
+		updatePosition();
+	}
+
+	/**
+	 * Gets the horizontal distance the projectile travels each tick.
+	 *
+	 * @return the horizontal velocity.
+	 */
+	public double getVelocityX() {
+		return velocityX;
+	}
+
+	/**
+	 * Gets the vertical distance the projectile travels each tick. Projectiles fly horizontally.
+	 *
+	 * @return the vertical velocity.
+	 */
+	public double getVelocityY() {
+		return 0;
+	}
+
+	/**
+	 * Gets the left edge of the bounding box, from the buffer while the projectile is attached.
+	 *
+	 * @return the minimum X coordinate of the bounding box.
+	 */
+	@Override
+	public double getMinX() {
+		return buffer != null ? buffer.x[bufferSlot] : super.getMinX();
+	}
+
+	/**
+	 * Gets the top edge of the bounding box, from the buffer while the projectile is attached.
+	 *
+	 * @return the minimum Y coordinate of the bounding box.
+	 */
+	@Override
+	public double getMinY() {
+		return buffer != null ? buffer.y[bufferSlot] : super.getMinY();
+	}
+
+	/**
+	 * Gets the right edge of the bounding box, from the buffer while the projectile is attached.
+	 *
+	 * @return the maximum X coordinate of the bounding box.
+	 */
+	@Override
+	public double getMaxX() {
+		return buffer != null ? buffer.x[bufferSlot] + buffer.width[bufferSlot] : super.getMaxX();
+	}
+
+	/**
+	 * Gets the bottom edge of the bounding box, from the buffer while the projectile is attached.
+	 *
+	 * @return the maximum Y coordinate of the bounding box.
+	 */
+	@Override
+	public double getMaxY() {
+		return buffer != null ? buffer.y[bufferSlot] + buffer.height[bufferSlot] : super.getMaxY();
+	}
+
+	/**
+	 * Records the current position as the position at the start of the tick, in the buffer while the
+	 * projectile is attached.
+	 */
+	@Override
+	public void savePreviousPosition() {
+		if (buffer != null) {
+			buffer.savePreviousPosition(bufferSlot);
+		} else {
+			super.savePreviousPosition();
+		}
+	}
+
+	/**
+	 * Gets the left edge interpolated between the previous and current tick, from the buffer while the
+	 * projectile is attached.
+	 *
+	 * @param alpha the interpolation factor, 0 for the previous tick and 1 for the current tick.
+	 * @return the interpolated X coordinate.
+	 */
+	@Override
+	public double getInterpolatedX(double alpha) {
+		if (buffer == null) {
+			return super.getInterpolatedX(alpha);
+		}
+		double previous = buffer.previousX[bufferSlot];
+		return previous + (buffer.x[bufferSlot] - previous) * alpha;
+	}
+
+	/**
+	 * Gets the top edge interpolated between the previous and current tick, from the buffer while the
+	 * projectile is attached.
+	 *
+	 * @param alpha the interpolation factor, 0 for the previous tick and 1 for the current tick.
+	 * @return the interpolated Y coordinate.
+	 */
+	@Override
+	public double getInterpolatedY(double alpha) {
+		if (buffer == null) {
+			return super.getInterpolatedY(alpha);
+		}
+		double previous = buffer.previousY[bufferSlot];
+		return previous + (buffer.y[bufferSlot] - previous) * alpha;
+	}
+
+	/**
+	 * Sets the destruction status, keeping the alive flag of the projectile's buffer slot in step.
+	 *
+	 * @param isDestroyed {@code true} to mark the projectile as destroyed, otherwise {@code false}.
+	 */
+	@Override
+	protected void setDestroyed(boolean isDestroyed) {
+		super.setDestroyed(isDestroyed);
+		if (buffer != null) {
+			buffer.setAlive(bufferSlot, !isDestroyed() && !getShouldRemove());
+		}
+	}
+
+	/**
+	 * Sets the removal status, keeping the alive flag of the projectile's buffer slot in step.
+	 *
+	 * @param shouldRemove {@code true} to mark the projectile for removal, otherwise {@code false}.
+	 */
+	@Override
+	public void setShouldRemove(boolean shouldRemove) {
+		super.setShouldRemove(shouldRemove);
+		if (buffer != null) {
+			buffer.setAlive(bufferSlot, !isDestroyed() && !getShouldRemove());
+		}
+	}
+
+	/**
+	 * Gets the number of ticks the projectile has lived, from the buffer while it is attached.
+	 *
+	 * @return the projectile's age in ticks.
+	 */
+	@Override
+	public int getAgeTicks() {
+		return buffer != null ? buffer.age[bufferSlot] : super.getAgeTicks();
+	}
+
+	/**
+	 * Ages the projectile by one tick, in the buffer while it is attached.
+	 */
+	@Override
+	public void incrementAge() {
+		if (buffer != null) {
+			buffer.age[bufferSlot]++;
+		} else {
+			super.incrementAge();
+		}
+	}
+
+	/**
+	 * Projectiles are culled as soon as they are fully off screen.
+	 *
+	 * @return the exit margin in pixels.
+	 */
+	@Override
+	public double getCullMargin() {
+		return CULL_MARGIN;
+	}
+
+	/**
+	 * Projectiles are culled after {@value #MAX_LIFETIME_TICKS} ticks even if they are still on screen.
+	 *
+	 * @return the maximum lifetime in ticks.
+	 */
+	@Override
+	public int getMaxLifetimeTicks() {
+		return MAX_LIFETIME_TICKS;
+	}
+
+	/**
+	 * Returns the projectile to the pool it was taken from.
+	 * Does nothing if the projectile was not taken from a pool or has already been returned.
+	 */
+	public void recycle() {
+		if (pool != null && !isPooled) {
+			isPooled = true;
+			pool.release(this);
+		}
+	}
+
+	/**
+	 * Prepares the projectile to be fired again from the given position.
+	 * Clears the destroyed and removal flags and records the owning pool.
+	 *
+	 * @param owner        the pool handing out the projectile.
+	 * @param initialXPos  the X position to fire from.
+	 * @param initialYPos  the Y position to fire from.
+	 */
+	void reset(ProjectilePool<?> owner, double initialXPos, double initialYPos) {
+		if (buffer != null) {
+			buffer.detach(this);
+		}
+		pool = owner;
+		isPooled = false;
+		relocate(initialXPos, initialYPos);
+		setDestroyed(false);
+		setShouldRemove(false);
+		resetAge();
+		updateBoundingBox();
+		savePreviousPosition();
+	}
+
+	/**
+	 * Moves the projectile to the given bounding box position, keeping its layout position,
+	 * when its motion state leaves a {@link ProjectileBuffer}.
+	 *
+	 * @param minX the left edge of the bounding box.
+	 * @param minY the top edge of the bounding box.
+	 */
+	void moveTo(double minX, double minY) {
+		setTranslateX(minX - getLayoutX());
+		setTranslateY(minY - getLayoutY());
+		updateBoundingBox();
+		super.savePreviousPosition();
+	}
+}
@@ -0,0 +1,295 @@
+package com.example.demo.actor;
+
+import com.example.demo.util.ActorCuller;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays store for the motion state of every projectile in flight.
+ * <p>
+ * A level can hold thousands of projectiles, and each of them only flies in a straight line. Rather than
+ * moving them one object at a time, the buffer keeps their positions, previous positions, velocities and
+ * sizes in parallel primitive arrays and advances all of them in one tight loop per tick, with no virtual
+ * calls or per-object field updates. A {@link Projectile} added to the buffer becomes a handle on its slot:
+ * its bounding box and interpolated position are read from the arrays, so collision checks, culling and
+ * rendering keep working on the projectile objects unchanged.
+ * </p>
+ * <p>
+ * Slots are kept dense. Detaching a projectile writes its position back into the object and moves the
+ * last projectile into the freed slot, so the loop always covers exactly the attached projectiles.
+ * </p>
+ * <p>
+ * Each slot also has an alive flag, a type code and an age in primitive columns. The alive flag is
+ * cleared as soon as the projectile is destroyed or marked for removal. The type code indexes a table
+ * holding the cull margin and lifetime of each projectile class. {@link #cull(ActorCuller)} ages and culls
+ * the projectiles from these columns alone and only touches the object of a projectile it culls.
+ * {@link #integrate()} still moves dead slots, which keeps its loop free of branches; a dead projectile
+ * leaves the buffer in the level's removal pass of the same tick.
+ * </p>
+ */
+public class ProjectileBuffer {
+
+	private static final int DEFAULT_CAPACITY = 64;
+
+	private static final int DEFAULT_TYPE_CAPACITY = 4;
+
+	private Projectile[] projectiles;
+	double[] x;
+	double[] y;
+	double[] previousX;
+	double[] previousY;
+	double[] velocityX;
+	double[] velocityY;
+	double[] width;
+	double[] height;
+	boolean[] alive;
+	byte[] type;
+	int[] age;
+	private int size;
+
+	private Class<?>[] typeClasses;
+	private double[] typeCullMargin;
+	private int[] typeMaxLifetimeTicks;
+	private int typeCount;
+
+	/**
+	 * Constructs an empty buffer.
+	 */
+	public ProjectileBuffer() {
+		projectiles = new Projectile[DEFAULT_CAPACITY];
+		x = new double[DEFAULT_CAPACITY];
+		y = new double[DEFAULT_CAPACITY];
+		previousX = new double[DEFAULT_CAPACITY];
+		previousY = new double[DEFAULT_CAPACITY];
+		velocityX = new double[DEFAULT_CAPACITY];
+		velocityY = new double[DEFAULT_CAPACITY];
+		width = new double[DEFAULT_CAPACITY];
+		height = new double[DEFAULT_CAPACITY];
+		alive = new boolean[DEFAULT_CAPACITY];
+		type = new byte[DEFAULT_CAPACITY];
+		age = new int[DEFAULT_CAPACITY];
+		typeClasses = new Class<?>[DEFAULT_TYPE_CAPACITY];
+		typeCullMargin = new double[DEFAULT_TYPE_CAPACITY];
+		typeMaxLifetimeTicks = new int[DEFAULT_TYPE_CAPACITY];
+	}
+
+	/**
+	 * Moves a projectile's motion state into the buffer. From now on the projectile is advanced by
+	 * {@link #integrate()} and reads its position from the buffer.
+	 *
+	 * @param projectile the projectile to add.
+	 * @throws IllegalArgumentException if the projectile is already in a buffer.
+	 */
+	public void attach(Projectile projectile) {
+		if (projectile.buffer != null) {
+			throw new IllegalArgumentException("Invalid projectile: already in a buffer at slot " + projectile.bufferSlot);
+		}
+		if (size == projectiles.length) {
+			grow();
+		}
+		int slot = size++;
+		projectiles[slot] = projectile;
+		x[slot] = projectile.getMinX();
+		y[slot] = projectile.getMinY();
+		previousX[slot] = projectile.getInterpolatedX(0);
+		previousY[slot] = projectile.getInterpolatedY(0);
+		velocityX[slot] = projectile.getVelocityX();
+		velocityY[slot] = projectile.getVelocityY();
+		width[slot] = projectile.getFitWidth();
+		height[slot] = projectile.getFitHeight();
+		alive[slot] = !projectile.isDestroyed() && !projectile.getShouldRemove();
+		type[slot] = typeOf(projectile);
+		age[slot] = projectile.getAgeTicks();
+		projectile.buffer = this;
+		projectile.bufferSlot = slot;
+	}
+
+	/**
+	 * Writes a projectile's position back into the object and frees its slot.
+	 * Does nothing if the projectile is not in this buffer.
+	 *
+	 * @param projectile the projectile to remove.
+	 * @return {@code true} if the projectile was in this buffer.
+	 */
+	public boolean detach(Projectile projectile) {
+		if (projectile.buffer != this) {
+			return false;
+		}
+		int slot = projectile.bufferSlot;
+		projectile.buffer = null;
+		projectile.moveTo(x[slot], y[slot]);
+		projectile.setAgeTicks(age[slot]);
+
+		int last = --size;
+		if (slot != last) {
+			Projectile moved = projectiles[last];
+			projectiles[slot] = moved;
+			x[slot] = x[last];
+			y[slot] = y[last];
+			previousX[slot] = previousX[last];
+			previousY[slot] = previousY[last];
+			velocityX[slot] = velocityX[last];
+			velocityY[slot] = velocityY[last];
+			width[slot] = width[last];
+			height[slot] = height[last];
+			alive[slot] = alive[last];
+			type[slot] = type[last];
+			age[slot] = age[last];
+			moved.bufferSlot = slot;
+		}
+		projectiles[last] = null;
+		return true;
+	}
+
+	/**
+	 * Advances every projectile in the buffer by its velocity.
+	 */
+	public void integrate() {
+		double[] x = this.x;
+		double[] y = this.y;
+		double[] velocityX = this.velocityX;
+		double[] velocityY = this.velocityY;
+		for (int i = 0; i < size; i++) {
+			x[i] += velocityX[i];
+			y[i] += velocityY[i];
+		}
+	}
+
+	/**
+	 * Ages every live projectile by one tick and marks those that have left the world or outlived their
+	 * lifetime for removal, counting them in the culler.
+	 *
+	 * @param culler the level's culler, which decides what lies out of bounds.
+	 * @return the number of live projectiles left.
+	 */
+	public int cull(ActorCuller culler) {
+		int liveCount = 0;
+		for (int i = 0; i < size; i++) {
+			if (!alive[i]) {
+				continue;
+			}
+			int t = type[i];
+			age[i]++;
+			if (culler.isOutOfBounds(x[i], y[i], x[i] + width[i], y[i] + height[i], typeCullMargin[t])) {
+				projectiles[i].remove();
+				culler.countCulled(false);
+			} else if (age[i] > typeMaxLifetimeTicks[t]) {
+				projectiles[i].remove();
+				culler.countCulled(true);
+			} else {
+				liveCount++;
+			}
+		}
+		return liveCount;
+	}
+
+	/**
+	 * Records the current position of every projectile as its position at the start of the tick.
+	 */
+	public void savePreviousPositions() {
+		System.arraycopy(x, 0, previousX, 0, size);
+		System.arraycopy(y, 0, previousY, 0, size);
+	}
+
+	/**
+	 * Gets the number of projectiles in the buffer.
+	 *
+	 * @return the projectile count.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the number of projectiles in the buffer that are neither destroyed nor marked for removal.
+	 *
+	 * @return the live projectile count.
+	 */
+	public int getAliveCount() {
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			if (alive[i]) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Advances a single projectile by its velocity, for a projectile updated on its own.
+	 *
+	 * @param slot the projectile's slot.
+	 */
+	void integrate(int slot) {
+		x[slot] += velocityX[slot];
+		y[slot] += velocityY[slot];
+	}
+
+	/**
+	 * Records the current position of a single projectile as its position at the start of the tick.
+	 *
+	 * @param slot the projectile's slot.
+	 */
+	void savePreviousPosition(int slot) {
+		previousX[slot] = x[slot];
+		previousY[slot] = y[slot];
+	}
+
+	/**
+	 * Updates the alive flag of a slot after its projectile was destroyed, marked for removal or revived.
+	 *
+	 * @param slot    the projectile's slot.
+	 * @param isAlive whether the projectile is neither destroyed nor marked for removal.
+	 */
+	void setAlive(int slot, boolean isAlive) {
+		alive[slot] = isAlive;
+	}
+
+	/**
+	 * Finds the type code of a projectile's class, adding the class and its cull settings to the
+	 * type table the first time it is seen.
+	 *
+	 * @param projectile the projectile.
+	 * @return the type code.
+	 * @throws IllegalArgumentException if the table already holds as many classes as a type code can index.
+	 */
+	private byte typeOf(Projectile projectile) {
+		Class<?> projectileClass = projectile.getClass();
+		for (int t = 0; t < typeCount; t++) {
+			if (typeClasses[t] == projectileClass) {
+				return (byte) t;
+			}
+		}
+		if (typeCount > Byte.MAX_VALUE) {
+			throw new IllegalArgumentException("Invalid projectile type: too many classes for " + projectileClass.getName());
+		}
+		if (typeCount == typeClasses.length) {
+			typeClasses = Arrays.copyOf(typeClasses, typeCount * 2);
+			typeCullMargin = Arrays.copyOf(typeCullMargin, typeCount * 2);
+			typeMaxLifetimeTicks = Arrays.copyOf(typeMaxLifetimeTicks, typeCount * 2);
+		}
+		typeClasses[typeCount] = projectileClass;
+		typeCullMargin[typeCount] = projectile.getCullMargin();
+		typeMaxLifetimeTicks[typeCount] = projectile.getMaxLifetimeTicks();
+		return (byte) typeCount++;
+	}
+
+	/**
+	 * Doubles the capacity of every array.
+	 */
+	private void grow() {
+		int capacity = projectiles.length * 2;
+		projectiles = Arrays.copyOf(projectiles, capacity);
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		previousX = Arrays.copyOf(previousX, capacity);
+		previousY = Arrays.copyOf(previousY, capacity);
+		velocityX = Arrays.copyOf(velocityX, capacity);
+		velocityY = Arrays.copyOf(velocityY, capacity);
+		width = Arrays.copyOf(width, capacity);
+		height = Arrays.copyOf(height, capacity);
+		alive = Arrays.copyOf(alive, capacity);
+		type = Arrays.copyOf(type, capacity);
+		age = Arrays.copyOf(age, capacity);
+	}
+}
@@ -0,0 +1,114 @@
+package com.example.demo.actor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A pool of reusable projectiles of one type.
+ * <p>
+ * Planes fire by acquiring a projectile from their pool instead of constructing one, and the level
+ * recycles projectiles back into the pool when they are removed. Once the pool holds as many
+ * projectiles as are ever in flight at the same time, firing no longer allocates. The pool counts
+ * how many projectiles it has handed out and how many of those were reused, so the hit rate can be
+ * checked while tuning.
+ * </p>
+ *
+ * @param <T> the type of projectile held by the pool.
+ */
+public class ProjectilePool<T extends Projectile> {
+
+	private final Supplier<T> factory;
+	private final List<T> idleProjectiles;
+	private long acquiredCount;
+	private long reusedCount;
+	private long createdCount;
+
+	/**
+	 * Constructs an empty pool.
+	 *
+	 * @param factory creates a new projectile when the pool has none left to reuse.
+	 */
+	public ProjectilePool(Supplier<T> factory) {
+		this.factory = factory;
+		this.idleProjectiles = new ArrayList<>();
+	}
+
+	/**
+	 * Takes a projectile from the pool, or creates one if the pool is empty,
+	 * and places it at the given position ready to be fired.
+	 *
+	 * @param initialXPos the X position to fire from.
+	 * @param initialYPos the Y position to fire from.
+	 * @return a live projectile at the given position.
+	 */
+	public T acquire(double initialXPos, double initialYPos) {
+		T projectile;
+		if (idleProjectiles.isEmpty()) {
+			projectile = factory.get();
+			createdCount++;
+		} else {
+			projectile = idleProjectiles.remove(idleProjectiles.size() - 1);
+			reusedCount++;
+		}
+		acquiredCount++;
+		projectile.reset(this, initialXPos, initialYPos);
+		return projectile;
+	}
+
+	/**
+	 * Puts a projectile taken from this pool back so it can be reused.
+	 * Called by {@link Projectile#recycle()}.
+	 *
+	 * @param projectile the projectile to return.
+	 */
+	@SuppressWarnings("unchecked")
+	void release(Projectile projectile) {
+		idleProjectiles.add((T) projectile);
+	}
+
+	/**
+	 * Gets the number of projectiles waiting in the pool to be reused.
+	 *
+	 * @return the number of idle projectiles.
+	 */
+	public int getPoolSize() {
+		return idleProjectiles.size();
+	}
+
+	/**
+	 * Gets the number of projectiles taken from the pool and not yet returned.
+	 *
+	 * @return the number of projectiles in flight.
+	 */
+	public long getActiveCount() {
+		return createdCount - idleProjectiles.size();
+	}
+
+	/**
+	 * Gets the number of projectiles the pool has had to create.
+	 *
+	 * @return the number of projectiles created.
+	 */
+	public long getCreatedCount() {
+		return createdCount;
+	}
+
+	/**
+	 * Gets the number of projectiles handed out by the pool.
+	 *
+	 * @return the number of acquisitions.
+	 */
+	public long getAcquiredCount() {
+		return acquiredCount;
+	}
+
+	/**
+	 * Gets the share of acquisitions served by reusing a projectile.
+	 *
+	 * @return the hit rate between 0 and 1, or 0 if nothing has been acquired yet.
+	 */
+	public double getHitRate() {
+		return acquiredCount == 0 ? 0 : (double) reusedCount / acquiredCount;
+	}
+}
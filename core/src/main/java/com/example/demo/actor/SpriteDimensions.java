@@ -0,0 +1,48 @@
+package com.example.demo.actor;
+
+import java.util.Map;
+
+/**
+ * Utility class holding the pixel dimensions of the actor sprites.
+ * <p>
+ * The simulation core never decodes images, so an actor's width is derived from its display
+ * height and the aspect ratio of its sprite file listed here. The renderer decodes the same files
+ * at the same height with the ratio preserved, so the drawn sprite matches the actor's bounds.
+ * </p>
+ */
+public final class SpriteDimensions {
+
+    /**
+     * Width and height, in pixels, of every sprite file an actor can display.
+     */
+    private static final Map<String, int[]> DIMENSIONS = Map.of(
+            "userplane.png", new int[] {654, 175},
+            "enemyplane.png", new int[] {800, 600},
+            "bossplane.png", new int[] {673, 240},
+            "userfire.png", new int[] {155, 114},
+            "enemyFire.png", new int[] {335, 169},
+            "fireball.png", new int[] {800, 318},
+            "heart.png", new int[] {300, 300},
+            "NoFireImage.png", new int[] {285, 316}
+    );
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SpriteDimensions() {}
+
+    /**
+     * Returns the width-to-height ratio of a sprite.
+     *
+     * @param imageName the name of the sprite file.
+     * @return the aspect ratio of the sprite.
+     * @throws IllegalArgumentException if the sprite is unknown.
+     */
+    public static double getAspectRatio(String imageName) {
+        int[] dimensions = DIMENSIONS.get(imageName);
+        if (dimensions == null) {
+            throw new IllegalArgumentException("Invalid sprite: " + imageName);
+        }
+        return (double) dimensions[0] / dimensions[1];
+    }
+}
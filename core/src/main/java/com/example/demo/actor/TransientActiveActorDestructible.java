@@ -0,0 +1,61 @@
+package com.example.demo.actor;
+
+import com.example.demo.util.GameClock;
+import com.example.demo.util.GameRandom;
+
+/**
+ * An abstract class representing a transient active actor in the game.
+ * This type of actor has a limited lifespan and is automatically removed
+ * after a specified duration of game time. It provides utilities for calculating random
+ * positions, and the level schedules its removal on its expiry tick.
+ */
+public abstract class TransientActiveActorDestructible extends ActiveActorDestructible {
+
+    /**
+     * The tick of the level's clock at which the actor expires.
+     */
+    private final long expiryTick;
+
+    /**
+     * Constructs a transient active actor with the specified parameters.
+     *
+     * @param imageName       the file name of the image representing the actor.
+     * @param imageHeight     the height of the actor's image.
+     * @param initialXPos     the initial X-coordinate of the actor.
+     * @param initialYPos     the initial Y-coordinate of the actor.
+     * @param lingerMillis    the game time (in milliseconds) for which the actor remains active.
+     * @param clock           the level's clock, which the linger time is counted on.
+     */
+    public TransientActiveActorDestructible(
+            String imageName,
+            int imageHeight,
+            double initialXPos,
+            double initialYPos,
+            long lingerMillis,
+            GameClock clock
+    ) {
+        super(imageName, imageHeight, initialXPos, initialYPos);
+        this.expiryTick = clock.deadlineAfter(lingerMillis);
+    }
+
+    /**
+     * Gets the tick of the level's clock at which the actor expires.
+     *
+     * @return the expiry tick.
+     */
+    public long getExpiryTick() {
+        return expiryTick;
+    }
+
+    /**
+     * Generates a random position within the specified bounds.
+     *
+     * @param random     the level's source of randomness.
+     * @param lowerBound the lower bound of the position range.
+     * @param upperBound the upper bound of the position range.
+     * @return a random double value between {@code lowerBound} and {@code upperBound}.
+     */
+    protected static double getRandomPosition(GameRandom random, double lowerBound, double upperBound) {
+        return random.nextDouble(lowerBound, upperBound);
+    }
+}
\ No newline at end of file
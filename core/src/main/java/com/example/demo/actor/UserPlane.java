@@ -1,8 +1,11 @@
 package com.example.demo.actor;
 
+import com.example.demo.util.GameClock;
+
 /**
  * Represents the player's plane in the game. The plane can move, fire projectiles,
- * and track the number of enemy kills.
+ * and track the number of enemy kills. Its automatic weapon fires while the trigger is held,
+ * once every {@value #FIRE_INTERVAL_MILLIS} milliseconds of game time.
  */
 public class UserPlane extends FighterPlane {
 
@@ -18,7 +21,10 @@ public class UserPlane extends FighterPlane {
 	private static final int HORIZONTAL_VELOCITY = 13;
 	private static final int PROJECTILE_X_POSITION_OFFSET = 60;
 	private static final int PROJECTILE_Y_POSITION_OFFSET = 10;
+	private static final long FIRE_INTERVAL_MILLIS = 400;
+	private static final int FIRE_COOLDOWN_TICKS = (int) (FIRE_INTERVAL_MILLIS / GameClock.DEFAULT_TICK_MILLIS);
 
+	private final ProjectilePool<UserProjectile> projectilePool;
 	private int verticalVelocityMultiplier;
 	private int horizontalVelocityMultiplier;
 	private int numberOfKills;
@@ -30,11 +36,14 @@ public class UserPlane extends FighterPlane {
 	 */
 	public UserPlane(int initialHealth) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
+		projectilePool = new ProjectilePool<>(() -> new UserProjectile(0, 0));
 		verticalVelocityMultiplier = 0;
+		setWeapon(Weapon.automatic(FIRE_COOLDOWN_TICKS));
 	}
 
 	/**
-	 * Updates the position of the plane based on its current movement state.
+	 * Updates the position of the plane based on its current movement state. The vertical and horizontal
+	 * directions are applied independently, so the plane can move diagonally.
 	 * Ensures the plane does not move out of bounds.
 	 */
 	@Override
@@ -42,13 +51,14 @@ public class UserPlane extends FighterPlane {
 		double initialTranslateY = getTranslateY();
 		double initialTranslateX = getTranslateX();
 
-		if (isMoving("vertical")) {
+		if (verticalVelocityMultiplier != 0) {
 			this.moveVertically(VERTICAL_VELOCITY * verticalVelocityMultiplier);
 			double newPositionY = getLayoutY() + getTranslateY();
 			if (newPositionY < Y_UPPER_BOUND || newPositionY > Y_LOWER_BOUND) {
 				this.setTranslateY(initialTranslateY);
 			}
-		} else if (isMoving("horizontal")) {
+		}
+		if (horizontalVelocityMultiplier != 0) {
 			this.moveHorizontally(HORIZONTAL_VELOCITY * horizontalVelocityMultiplier);
 			double newPositionX = getLayoutX() + getTranslateX();
 			if (newPositionX < X_UPPER_BOUND || newPositionX > X_LOWER_BOUND) {
@@ -70,29 +80,51 @@ public class UserPlane extends FighterPlane {
 	/**
 	 * Fires a projectile from the plane.
 	 *
-	 * @return a new instance of {@code UserProjectile}.
+	 * @return a {@code UserProjectile} taken from the plane's projectile pool.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		return new UserProjectile(
+		return projectilePool.acquire(
 				getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET),
 				getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET)
 		);
 	}
 
 	/**
-	 * Determines if the plane is currently moving in the specified direction.
+	 * The user's plane is kept within its movement bounds and is never culled.
+	 *
+	 * @return an infinite exit margin.
+	 */
+	@Override
+	public double getCullMargin() {
+		return Double.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * Gets the pool the plane's projectiles are taken from.
 	 *
-	 * @param direction the direction to check ("vertical", "horizontal", or "any").
-	 * @return {@code true} if the plane is moving in the specified direction; {@code false} otherwise.
-	 */
-	private boolean isMoving(String direction) {
-		return switch (direction.toLowerCase()) {
-			case "vertical" -> verticalVelocityMultiplier != 0;
-			case "horizontal" -> horizontalVelocityMultiplier != 0;
-			case "any" -> verticalVelocityMultiplier != 0 || horizontalVelocityMultiplier != 0;
-			default -> throw new IllegalArgumentException("Invalid direction: " + direction);
-		};
+	 * @return the user projectile pool.
+	 */
+	public ProjectilePool<UserProjectile> getProjectilePool() {
+		return projectilePool;
+	}
+
+	/**
+	 * Gets the vertical direction the plane is moving in.
+	 *
+	 * @return -1 when moving up, 1 when moving down, or 0 when not moving vertically.
+	 */
+	public int getVerticalDirection() {
+		return verticalVelocityMultiplier;
+	}
+
+	/**
+	 * Gets the horizontal direction the plane is moving in.
+	 *
+	 * @return -1 when moving left, 1 when moving right, or 0 when not moving horizontally.
+	 */
+	public int getHorizontalDirection() {
+		return horizontalVelocityMultiplier;
 	}
 
 	/**
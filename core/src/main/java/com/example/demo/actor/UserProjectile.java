@@ -17,23 +17,6 @@ public class UserProjectile extends Projectile {
 	 * @param initialYPos the initial Y position of the projectile.
 	 */
 	public UserProjectile(double initialXPos, double initialYPos) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+		super(IMAGE_NAME, IMAGE_HEIGHT, HORIZONTAL_VELOCITY, initialXPos, initialYPos);
 	}
-
-	/**
-	 * Updates the position of the projectile, moving it horizontally.
-	 */
-	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
-		updateBoundingBox();
-	}
-
-	/**
-	 * Updates the state of the projectile by updating its position.
-	 */
-	@Override
-	public void updateActor() {
-		updatePosition();
-	}
-}
\ No newline at end of file
+}
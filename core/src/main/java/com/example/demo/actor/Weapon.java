@@ -0,0 +1,147 @@
+package com.example.demo.actor;
+
+/**
+ * The weapon of a {@link FighterPlane}, deciding on which ticks the plane fires.
+ * <p>
+ * The weapon is driven by its trigger and evaluated once per tick with {@link #update()}, so its rate of
+ * fire is counted in ticks of the level and plays out the same way headless and on screen. After each shot
+ * the weapon cools down for a fixed number of ticks. An {@link Mode#AUTO} weapon fires as soon as the
+ * trigger is pulled and keeps firing at its rate while the trigger is held; a {@link Mode#BURST} weapon fires
+ * a fixed number of shots at its rate for each pull of the trigger.
+ * </p>
+ * <p>
+ * A pull is remembered until the weapon has acted on it, so a trigger pulled and released between two
+ * ticks still fires, once the weapon has cooled down.
+ * </p>
+ */
+public class Weapon {
+
+	/**
+	 * The ways a weapon responds to its trigger.
+	 */
+	public enum Mode {
+		/** Fires while the trigger is held. */
+		AUTO,
+		/** Fires a burst of shots for each pull of the trigger. */
+		BURST
+	}
+
+	private final Mode mode;
+	private final int cooldownTicks;
+	private final int burstLength;
+
+	private boolean triggerHeld;
+	private boolean triggerPulled;
+	private int cooldownRemaining;
+	private int burstShotsRemaining;
+	private long shotsFired;
+
+	/**
+	 * Constructs a weapon.
+	 *
+	 * @param mode          the way the weapon responds to its trigger.
+	 * @param cooldownTicks the number of ticks between two shots, at least one.
+	 * @param burstLength   the number of shots fired per pull in {@link Mode#BURST} mode, at least one.
+	 * @throws IllegalArgumentException if the cooldown or burst length is less than one.
+	 */
+	public Weapon(Mode mode, int cooldownTicks, int burstLength) {
+		if (cooldownTicks < 1) {
+			throw new IllegalArgumentException("Invalid weapon cooldown: " + cooldownTicks);
+		}
+		if (burstLength < 1) {
+			throw new IllegalArgumentException("Invalid weapon burst length: " + burstLength);
+		}
+		this.mode = mode;
+		this.cooldownTicks = cooldownTicks;
+		this.burstLength = burstLength;
+	}
+
+	/**
+	 * Constructs a weapon that fires while its trigger is held.
+	 *
+	 * @param cooldownTicks the number of ticks between two shots, at least one.
+	 * @return the weapon.
+	 */
+	public static Weapon automatic(int cooldownTicks) {
+		return new Weapon(Mode.AUTO, cooldownTicks, 1);
+	}
+
+	/**
+	 * Pulls the trigger. Pulling a trigger that is already held has no effect.
+	 */
+	public void pullTrigger() {
+		if (!triggerHeld) {
+			triggerHeld = true;
+			triggerPulled = true;
+		}
+	}
+
+	/**
+	 * Releases the trigger. A burst in progress is completed.
+	 */
+	public void releaseTrigger() {
+		triggerHeld = false;
+	}
+
+	/**
+	 * Advances the weapon by one tick and decides whether it fires on this tick.
+	 *
+	 * @return {@code true} if the weapon fires, otherwise {@code false}.
+	 */
+	public boolean update() {
+		if (cooldownRemaining > 0) {
+			cooldownRemaining--;
+		}
+		if (mode == Mode.BURST && triggerPulled && burstShotsRemaining == 0) {
+			burstShotsRemaining = burstLength;
+			triggerPulled = false;
+		}
+		boolean wantsToFire = mode == Mode.AUTO ? triggerHeld || triggerPulled : burstShotsRemaining > 0;
+		if (!wantsToFire || cooldownRemaining > 0) {
+			return false;
+		}
+		cooldownRemaining = cooldownTicks;
+		triggerPulled = false;
+		if (mode == Mode.BURST) {
+			burstShotsRemaining--;
+		}
+		shotsFired++;
+		return true;
+	}
+
+	/**
+	 * Gets the way the weapon responds to its trigger.
+	 *
+	 * @return the weapon's mode.
+	 */
+	public Mode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Gets the number of ticks between two shots.
+	 *
+	 * @return the cooldown in ticks.
+	 */
+	public int getCooldownTicks() {
+		return cooldownTicks;
+	}
+
+	/**
+	 * Checks whether the trigger is held.
+	 *
+	 * @return {@code true} if the trigger is held, otherwise {@code false}.
+	 */
+	public boolean isTriggerHeld() {
+		return triggerHeld;
+	}
+
+	/**
+	 * Gets the number of shots the weapon has fired.
+	 *
+	 * @return the shot count.
+	 */
+	public long getShotsFired() {
+		return shotsFired;
+	}
+}
@@ -0,0 +1,90 @@
+package com.example.demo.level;
+
+/**
+ * Something that happened in a level, delivered to the listeners of a {@link GameEventBus}.
+ * <p>
+ * The bus keeps one event per {@link Type} and refills it for every publication, so publishing does not
+ * allocate. Listeners must read the event while it is being delivered and must not keep a reference to it.
+ * </p>
+ */
+public final class GameEvent {
+
+    /**
+     * The kinds of event a level publishes.
+     */
+    public enum Type {
+        /** The level has ended; the event carries the {@link LevelNotification} describing what follows. */
+        LEVEL_TRANSITION,
+        /** Enemy units were destroyed; the value is the number of kills. */
+        KILL,
+        /** The user's plane was hit by enemy fire, an enemy plane, or an enemy passing its defenses; the value is the number of hits. */
+        HIT,
+        /** The user's plane collected health points or fire deactivators; the value is the number collected. */
+        PICKUP,
+        /** The game score was increased; the value is the increment. */
+        SCORE
+    }
+
+    private final Type type;
+    private long tick;
+    private int value;
+    private LevelNotification notification;
+
+    /**
+     * Constructs an empty event of the given type, to be filled by its bus.
+     *
+     * @param type the type of the event.
+     */
+    GameEvent(Type type) {
+        this.type = type;
+    }
+
+    /**
+     * Refills the event for a new publication.
+     *
+     * @param tick         the level tick the event happened on.
+     * @param value        the count or amount carried by the event.
+     * @param notification the level transition, or {@code null} for gameplay events.
+     */
+    void set(long tick, int value, LevelNotification notification) {
+        this.tick = tick;
+        this.value = value;
+        this.notification = notification;
+    }
+
+    /**
+     * Gets the type of the event.
+     *
+     * @return the event type.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the level tick the event happened on.
+     *
+     * @return the tick count.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the count or amount carried by the event, such as the number of kills or the score increment.
+     *
+     * @return the event value.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the level transition carried by a {@link Type#LEVEL_TRANSITION} event.
+     *
+     * @return the notification, or {@code null} for gameplay events.
+     */
+    public LevelNotification getNotification() {
+        return notification;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.demo.level;
+
+import java.util.Arrays;
+
+/**
+ * Delivers typed {@link GameEvent}s to the listeners subscribed to each event type.
+ * <p>
+ * Listeners are registered per type ahead of time, and each type has one reusable event instance,
+ * so publishing walks a plain array and allocates nothing. Subscribing and unsubscribing replace the
+ * type's listener array, which lets a listener unsubscribe itself, or subscribe others, while an event is
+ * being delivered: the delivery in progress finishes with the listeners it started with.
+ * </p>
+ * <p>
+ * Events are delivered on the thread that publishes them, in subscription order. A listener that publishes
+ * an event of the type it is handling overwrites the event being delivered, so listeners should only
+ * publish other types.
+ * </p>
+ */
+public class GameEventBus {
+    private static final GameEvent.Type[] TYPES = GameEvent.Type.values();
+    private static final GameEventListener[] NO_LISTENERS = new GameEventListener[0];
+
+    private final GameEventListener[][] listeners;
+    private final GameEvent[] events;
+    private final long[] publishedCounts;
+
+    /**
+     * Constructs a bus with no listeners.
+     */
+    public GameEventBus() {
+        listeners = new GameEventListener[TYPES.length][];
+        events = new GameEvent[TYPES.length];
+        for (GameEvent.Type type : TYPES) {
+            listeners[type.ordinal()] = NO_LISTENERS;
+            events[type.ordinal()] = new GameEvent(type);
+        }
+        publishedCounts = new long[TYPES.length];
+    }
+
+    /**
+     * Subscribes a listener to every following event of a type.
+     *
+     * @param type     the type of event to receive.
+     * @param listener the listener to call.
+     */
+    public void subscribe(GameEvent.Type type, GameEventListener listener) {
+        GameEventListener[] current = listeners[type.ordinal()];
+        GameEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners[type.ordinal()] = updated;
+    }
+
+    /**
+     * Unsubscribes a listener from a type of event.
+     *
+     * @param type     the type of event the listener was subscribed to.
+     * @param listener the listener to remove.
+     * @return {@code true} if the listener was subscribed, otherwise {@code false}.
+     */
+    public boolean unsubscribe(GameEvent.Type type, GameEventListener listener) {
+        GameEventListener[] current = listeners[type.ordinal()];
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                GameEventListener[] updated = new GameEventListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners[type.ordinal()] = updated.length == 0 ? NO_LISTENERS : updated;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Publishes a gameplay event to the listeners of its type.
+     *
+     * @param type  the type of event.
+     * @param tick  the level tick the event happened on.
+     * @param value the count or amount carried by the event.
+     */
+    public void publish(GameEvent.Type type, long tick, int value) {
+        deliver(type, tick, value, null);
+    }
+
+    /**
+     * Publishes the end of a level to the {@link GameEvent.Type#LEVEL_TRANSITION} listeners.
+     *
+     * @param tick         the level tick the level ended on.
+     * @param notification what follows the level.
+     */
+    public void publishTransition(long tick, LevelNotification notification) {
+        deliver(GameEvent.Type.LEVEL_TRANSITION, tick, 0, notification);
+    }
+
+    /**
+     * Gets the number of listeners subscribed to a type of event.
+     *
+     * @param type the type of event.
+     * @return the listener count.
+     */
+    public int getListenerCount(GameEvent.Type type) {
+        return listeners[type.ordinal()].length;
+    }
+
+    /**
+     * Gets the number of events of a type published since the bus was created, whether or not anything
+     * was listening.
+     *
+     * @param type the type of event.
+     * @return the published event count.
+     */
+    public long getPublishedCount(GameEvent.Type type) {
+        return publishedCounts[type.ordinal()];
+    }
+
+    /**
+     * Refills the type's event and delivers it to the type's current listeners.
+     *
+     * @param type         the type of event.
+     * @param tick         the level tick the event happened on.
+     * @param value        the count or amount carried by the event.
+     * @param notification the level transition, or {@code null} for gameplay events.
+     */
+    private void deliver(GameEvent.Type type, long tick, int value, LevelNotification notification) {
+        publishedCounts[type.ordinal()]++;
+        GameEventListener[] current = listeners[type.ordinal()];
+        if (current.length == 0) {
+            return;
+        }
+        GameEvent event = events[type.ordinal()];
+        event.set(tick, value, notification);
+        for (GameEventListener listener : current) {
+            listener.onGameEvent(event);
+        }
+    }
+}
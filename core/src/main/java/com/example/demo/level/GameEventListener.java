@@ -0,0 +1,15 @@
+package com.example.demo.level;
+
+/**
+ * Receives the events of the types it is subscribed to on a {@link GameEventBus}.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Handles an event. The event is reused by the bus and must not be kept after this method returns.
+     *
+     * @param event the event being delivered.
+     */
+    void onGameEvent(GameEvent event);
+}
@@ -0,0 +1,177 @@
+package com.example.demo.level;
+
+/**
+ * The controls the player is holding down, kept as a bitset and sampled once per tick.
+ * <p>
+ * Key handlers only set or clear a bit with {@link #press(Control, long)} and {@link #release(Control, long)};
+ * no game state changes when a key event arrives. At the start of each tick the game loop calls
+ * {@link #sample(long)} and the tick reads the sampled state through primitive direction values, so
+ * holding two arrow keys moves diagonally and any number of key events between two ticks costs one
+ * update. Presses and releases are also collected between samples, so a key tapped and released within
+ * a single tick is still seen by {@link #wasPressed(Control)} and {@link #wasReleased(Control)}.
+ * </p>
+ * <p>
+ * The time from the first key event after a sample to the next sample is kept as the input latency.
+ * Handlers and the game loop must run on the same thread, as they do on the JavaFX application thread.
+ * </p>
+ */
+public class InputState {
+
+    /**
+     * The controls that can be held down.
+     */
+    public enum Control {
+        /** Moves the user's plane up. */
+        UP,
+        /** Moves the user's plane down. */
+        DOWN,
+        /** Moves the user's plane left. */
+        LEFT,
+        /** Moves the user's plane right. */
+        RIGHT,
+        /** Fires the user's plane's weapon. */
+        FIRE;
+
+        private final int bit = 1 << ordinal();
+    }
+
+    private int held;
+    private int pressed;
+    private int released;
+    private long firstChangeNanos;
+    private boolean changed;
+
+    private int sampledHeld;
+    private int sampledPressed;
+    private int sampledReleased;
+    private long lastLatencyNanos;
+
+    /**
+     * Marks a control as held down. Pressing a control that is already held, as key repeat does,
+     * has no effect.
+     *
+     * @param control   the control pressed.
+     * @param timeNanos the time the key event arrived, from {@link System#nanoTime()}.
+     */
+    public void press(Control control, long timeNanos) {
+        if ((held & control.bit) == 0) {
+            held |= control.bit;
+            pressed |= control.bit;
+            markChanged(timeNanos);
+        }
+    }
+
+    /**
+     * Marks a control as no longer held down.
+     *
+     * @param control   the control released.
+     * @param timeNanos the time the key event arrived, from {@link System#nanoTime()}.
+     */
+    public void release(Control control, long timeNanos) {
+        if ((held & control.bit) != 0) {
+            held &= ~control.bit;
+            released |= control.bit;
+            markChanged(timeNanos);
+        }
+    }
+
+    /**
+     * Releases every control without reporting the releases, such as when the scene stops taking input.
+     */
+    public void clear() {
+        held = 0;
+        pressed = 0;
+        released = 0;
+        changed = false;
+    }
+
+    /**
+     * Takes the state of the controls for the coming tick and starts collecting presses and releases anew.
+     *
+     * @param timeNanos the time of the tick, from {@link System#nanoTime()}.
+     * @return {@code true} if any control changed since the previous sample, otherwise {@code false}.
+     */
+    public boolean sample(long timeNanos) {
+        sampledHeld = held;
+        sampledPressed = pressed;
+        sampledReleased = released;
+        pressed = 0;
+        released = 0;
+        if (!changed) {
+            return false;
+        }
+        lastLatencyNanos = timeNanos - firstChangeNanos;
+        changed = false;
+        return true;
+    }
+
+    /**
+     * Checks whether a control was held down when the state was last sampled.
+     *
+     * @param control the control to check.
+     * @return {@code true} if the control is held, otherwise {@code false}.
+     */
+    public boolean isHeld(Control control) {
+        return (sampledHeld & control.bit) != 0;
+    }
+
+    /**
+     * Checks whether a control was pressed between the last two samples.
+     *
+     * @param control the control to check.
+     * @return {@code true} if the control was pressed, otherwise {@code false}.
+     */
+    public boolean wasPressed(Control control) {
+        return (sampledPressed & control.bit) != 0;
+    }
+
+    /**
+     * Checks whether a control was released between the last two samples.
+     *
+     * @param control the control to check.
+     * @return {@code true} if the control was released, otherwise {@code false}.
+     */
+    public boolean wasReleased(Control control) {
+        return (sampledReleased & control.bit) != 0;
+    }
+
+    /**
+     * Gets the vertical direction of the sampled controls. Holding both up and down cancels out.
+     *
+     * @return -1 for up, 1 for down, or 0.
+     */
+    public int getVerticalDirection() {
+        return (isHeld(Control.DOWN) ? 1 : 0) - (isHeld(Control.UP) ? 1 : 0);
+    }
+
+    /**
+     * Gets the horizontal direction of the sampled controls. Holding both left and right cancels out.
+     *
+     * @return -1 for left, 1 for right, or 0.
+     */
+    public int getHorizontalDirection() {
+        return (isHeld(Control.RIGHT) ? 1 : 0) - (isHeld(Control.LEFT) ? 1 : 0);
+    }
+
+    /**
+     * Gets the time from the first key event after a sample to the sample that picked it up, for the
+     * latest sample that saw a change.
+     *
+     * @return the input latency in nanoseconds.
+     */
+    public long getLastLatencyNanos() {
+        return lastLatencyNanos;
+    }
+
+    /**
+     * Records the time of the first change since the last sample.
+     *
+     * @param timeNanos the time of the change.
+     */
+    private void markChanged(long timeNanos) {
+        if (!changed) {
+            firstChangeNanos = timeNanos;
+            changed = true;
+        }
+    }
+}
@@ -2,12 +2,16 @@ package com.example.demo.level;
 
 import com.example.demo.actor.Boss;
 import com.example.demo.actor.FireDeactivator;
-import com.example.demo.actor.UserPlane;
+import com.example.demo.actor.ProjectilePool;
 import com.example.demo.util.CollisionHandler;
+import com.example.demo.util.GameRandom;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Represents the boss level in the game. This level features a challenging boss fight,
- * specific behaviors for the boss and user interactions, and updates to the level view.
+ * Represents the boss level in the game. This level features a challenging boss fight
+ * and specific behaviors for the boss and user interactions.
  * It includes mechanisms for spawning enemies, handling collisions, and managing the game's outcome.
  */
 public class LevelBoss extends LevelParent {
@@ -15,32 +19,31 @@ public class LevelBoss extends LevelParent {
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
 	private static final int PLAYER_INITIAL_HEALTH = 5;
 	private final double FIREDEAC_SPAWN_PROBABILITY = 0.005;
-	private final int FIREDEAC_LINGER_SEC = 5;
+	private final long FIREDEAC_LINGER_MILLIS = 5_000;
 	private final Boss boss;
-	private LevelViewLevelBoss levelView;
+	private final SpawnScheduler fireDeactivatorSpawns;
 
 	/**
-	 * Constructs a new boss level with the specified screen dimensions.
+	 * Constructs the boss level with the specified screen dimensions and an unpredictably seeded generator.
 	 *
 	 * @param screenHeight the height of the game screen.
 	 * @param screenWidth  the width of the game screen.
 	 */
 	public LevelBoss(double screenHeight, double screenWidth) {
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
-		boss = new Boss();
+		this(screenHeight, screenWidth, new GameRandom());
 	}
 
 	/**
-	 * Initializes the friendly units in the level, such as the user's plane.
-	 * Adds the user plane and its bounding box to the game scene if the bounding box is visible.
+	 * Constructs a new boss level with the specified screen dimensions.
+	 *
+	 * @param screenHeight the height of the game screen.
+	 * @param screenWidth  the width of the game screen.
+	 * @param random       the source of randomness for the level and its actors.
 	 */
-	@Override
-	protected void initializeFriendlyUnits() {
-		UserPlane user = getUser();
-		getRoot().getChildren().add(user);
-		if (user.isBoundingBoxVisible()) {
-			getRoot().getChildren().add(user.getBoundingBox());
-		}
+	public LevelBoss(double screenHeight, double screenWidth, GameRandom random) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, random);
+		boss = new Boss(random, getScheduler());
+		fireDeactivatorSpawns = addSpawnScheduler("fire deactivator", FIREDEAC_SPAWN_PROBABILITY);
 	}
 
 	/**
@@ -74,8 +77,7 @@ public class LevelBoss extends LevelParent {
 	 */
 	@Override
 	protected void handleScoreableCollisions() {
-		int scoreIncrement = CollisionHandler.handleUserProjectileBossCollisions(getUser(), getUserProjectiles(), boss);
-		gameScore.increaseScoreBy(scoreIncrement);
+		increaseScore(CollisionHandler.handleUserProjectileBossCollisions(getUser(), getUserProjectiles(), boss));
 
 		handleBossEffectCollisions();
 	}
@@ -92,53 +94,52 @@ public class LevelBoss extends LevelParent {
 	 * Handles collisions between the user and boss-specific effects, such as the fire deactivator.
 	 */
 	private void handleBossEffectCollisions() {
-		CollisionHandler.handleUserBossFireDeactivatorCollisions(getUser(), boss, getFireDeactivators());
+		publishPickups(CollisionHandler.handleUserBossFireDeactivatorCollisions(getUser(), boss, getFireDeactivators()));
 	}
 
 	/**
-	 * Spawns a fire deactivator if the boss's fire is not already deactivated,
-	 * no fire deactivators are present, and a random probability check passes.
+	 * Spawns a fire deactivator when one is scheduled for this tick. One can only be scheduled while the
+	 * boss's fire is not already deactivated and no fire deactivators are present.
 	 */
 	private void spawnFireDeactivator() {
-		if (
-				!boss.getIsFireDeactivated() &&
-						getFireDeactivators().isEmpty() &&
-						Math.random() < FIREDEAC_SPAWN_PROBABILITY
-		) {
-			FireDeactivator fireDeactivator = new FireDeactivator(getUser(), FIREDEAC_LINGER_SEC);
+		int freeSlots = !boss.getIsFireDeactivated() && getFireDeactivators().isEmpty() ? 1 : 0;
+		if (fireDeactivatorSpawns.poll(getTickCount(), freeSlots) > 0) {
+			FireDeactivator fireDeactivator = new FireDeactivator(getUser(), FIREDEAC_LINGER_MILLIS, getRandom(), getClock());
 			addFireDeactivator(fireDeactivator);
 		}
 	}
 
 	/**
-	 * Instantiates the level view specific to the boss level.
+	 * Returns the kill target shown for the boss level.
+	 * The level is won by defeating the boss, which counts as a single kill.
 	 *
-	 * @return the level view for the boss level.
+	 * @return the kill target for this level.
 	 */
 	@Override
-	protected LevelView instantiateLevelView() {
-		levelView = new LevelViewLevelBoss(getRoot(), PLAYER_INITIAL_HEALTH);
-		return levelView;
+	public int getKillsToAdvance() {
+		return 1;
 	}
 
 	/**
-	 * Updates the level view with information specific to the boss level,
-	 * such as the boss's health, shield status, and fire deactivation state.
+	 * Retrieves the boss of this level.
+	 * The boss view reads its health, shield and fire state from it.
+	 *
+	 * @return the {@link Boss} of this level.
+	 */
+	public Boss getBoss() {
+		return boss;
+	}
+
+	/**
+	 * Retrieves the projectile pools used in the level, including the boss's own pool.
+	 *
+	 * @return the user, enemy and boss projectile pools.
 	 */
 	@Override
-	protected void updateLevelView() {
-		super.updateLevelView();
-		levelView.updateBossHealth(boss.getHealth());
-		if (boss.getIsShielded()) {
-			levelView.showShield();
-		} else {
-			levelView.hideShield();
-		}
-		if (boss.getIsFireDeactivated()) {
-			levelView.showNoFire();
-		} else {
-			levelView.hideNoFire();
-		}
+	public List<ProjectilePool<?>> getProjectilePools() {
+		List<ProjectilePool<?>> pools = new ArrayList<>(super.getProjectilePools());
+		pools.add(boss.getProjectilePool());
+		return pools;
 	}
 
 	/**
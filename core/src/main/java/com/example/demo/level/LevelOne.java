@@ -2,7 +2,7 @@ package com.example.demo.level;
 
 import com.example.demo.actor.ActiveActorDestructible;
 import com.example.demo.actor.EnemyPlane;
-import com.example.demo.actor.UserPlane;
+import com.example.demo.util.GameRandom;
 
 /**
  * Represents the first level of the game.
@@ -19,7 +19,7 @@ public class LevelOne extends LevelParent {
 	/** Number of kills required to advance to the next level. */
 	private static final int KILLS_TO_ADVANCE = 50;
 
-	/** Probability of spawning an enemy each frame. */
+	/** Chance per tick that each free enemy slot is filled. */
 	private static final double ENEMY_SPAWN_PROBABILITY = 0.20;
 
 	/** Initial health for the player's character in this level. */
@@ -28,28 +28,30 @@ public class LevelOne extends LevelParent {
 	/** Level selector to determine the next level. */
 	private final LevelSelector levelSelector;
 
+	/** Schedules enemies into the free enemy slots. */
+	private final SpawnScheduler enemySpawns;
+
 	/**
-	 * Constructs the LevelOne instance with the specified screen dimensions.
+	 * Constructs the first level with the specified screen dimensions and an unpredictably seeded generator.
 	 *
 	 * @param screenHeight the height of the game screen.
-	 * @param screenWidth the width of the game screen.
+	 * @param screenWidth  the width of the game screen.
 	 */
 	public LevelOne(double screenHeight, double screenWidth) {
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
-		levelSelector = new LevelSelector(getClass().getName());
+		this(screenHeight, screenWidth, new GameRandom());
 	}
 
 	/**
-	 * Initializes the player's character and adds it to the game root.
+	 * Constructs the LevelOne instance with the specified screen dimensions.
+	 *
+	 * @param screenHeight the height of the game screen.
+	 * @param screenWidth the width of the game screen.
+	 * @param random       the source of randomness for the level and its actors.
 	 */
-	@Override
-	protected void initializeFriendlyUnits() {
-		UserPlane user = getUser();
-
-		getRoot().getChildren().add(user);
-		if (user.isBoundingBoxVisible()) {
-			getRoot().getChildren().add(user.getBoundingBox());
-		}
+	public LevelOne(double screenHeight, double screenWidth, GameRandom random) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, random);
+		levelSelector = new LevelSelector(getClass().getName());
+		enemySpawns = addSpawnScheduler("enemy", ENEMY_SPAWN_PROBABILITY);
 	}
 
 	/**
@@ -65,17 +67,15 @@ public class LevelOne extends LevelParent {
 	}
 
 	/**
-	 * Spawns new enemies if there are fewer enemies than the allowed total.
+	 * Spawns the enemies scheduled for this tick while there are fewer enemies than the allowed total.
 	 */
 	@Override
 	protected void spawnEnemyUnits() {
-		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
-		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-			if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-				double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-				ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
-				addEnemyUnit(newEnemy);
-			}
+		int spawnCount = enemySpawns.poll(getTickCount(), TOTAL_ENEMIES - getCurrentNumberOfEnemies());
+		for (int i = 0; i < spawnCount; i++) {
+			double newEnemyInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
+			ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition, getRandom());
+			addEnemyUnit(newEnemy);
 		}
 	}
 
@@ -89,13 +89,13 @@ public class LevelOne extends LevelParent {
 	}
 
 	/**
-	 * Creates and initializes the level view for this level.
+	 * Returns the number of kills required to advance to the next level.
 	 *
-	 * @return the initialized level view.
+	 * @return the kill target for this level.
 	 */
 	@Override
-	protected LevelView instantiateLevelView() {
-		return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH, KILLS_TO_ADVANCE);
+	public int getKillsToAdvance() {
+		return KILLS_TO_ADVANCE;
 	}
 
 	/**
@@ -0,0 +1,925 @@
+package com.example.demo.level;
+
+import java.util.*;
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.actor.ActorBatches;
+import com.example.demo.actor.ActorList;
+import com.example.demo.actor.Boss;
+import com.example.demo.actor.EnemyPlane;
+import com.example.demo.actor.EnemyProjectile;
+import com.example.demo.actor.Projectile;
+import com.example.demo.actor.ProjectileBuffer;
+import com.example.demo.actor.ProjectilePool;
+import com.example.demo.actor.TransientActiveActorDestructible;
+import com.example.demo.actor.FighterPlane;
+import com.example.demo.actor.UserPlane;
+import com.example.demo.util.ActorCuller;
+import com.example.demo.util.CollisionHandler;
+import com.example.demo.util.GameClock;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.GameScore;
+import com.example.demo.util.SpatialHashGrid;
+import com.example.demo.util.TickProfiler;
+import com.example.demo.util.TimingWheel;
+import com.example.demo.util.TickProfiler.Gauge;
+import com.example.demo.util.TickProfiler.Phase;
+
+/**
+ * Represents the base class for all levels in the game.
+ * This class provides a framework for managing game entities such as user planes, enemy units, health points,
+ * fire deactivators, projectiles, background scrolling, and scoring.
+ *
+ * <p>A level is pure simulation state and does not depend on JavaFX. Each call to {@link #updateScene()}
+ * advances it by one tick on its {@link GameClock}, drawing all randomness from its {@link GameRandom}, so a
+ * seeded level can be run headless or replayed. Rendering, input and the HUD are handled by the game module,
+ * which reads the actor lists exposed here and listens on the level's {@link GameEventBus}.</p>
+ *
+ * <p>Concrete subclasses must implement key methods for level-specific behavior:</p>
+ * <ul>
+ *     <li>Spawning enemy units</li>
+ *     <li>Checking game-over conditions</li>
+ *     <li>Spawning transient objects</li>
+ *     <li>Providing the kill target shown in the HUD</li>
+ * </ul>
+ */
+public abstract class LevelParent {
+	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
+	private static final double COLLISION_GRID_CELL_SIZE = 128;
+	private static final LevelNotification WIN_NOTIFICATION = new LevelNotification("", LevelNotification.Action.WIN_GAME);
+	private static final LevelNotification LOSE_NOTIFICATION = new LevelNotification("", LevelNotification.Action.LOSE_GAME);
+
+	// Configurable constants
+	private final double backgroundScrollSpeed = 2.0;
+
+	// Final instance variables
+	private final String backgroundImageName;
+	private final double screenHeight;
+	private final double screenWidth;
+	private final double enemyMaximumYPosition;
+	private final int playerInitialHealth;
+
+	private final UserPlane user;
+	private final ActorList<ActiveActorDestructible> friendlyUnits;
+	private final ActorList<ActiveActorDestructible> enemyUnits;
+	private final ActorList<ActiveActorDestructible> userProjectiles;
+	private final ActorList<ActiveActorDestructible> enemyProjectiles;
+	private final ActorList<TransientActiveActorDestructible> healthPoints;
+	private final ActorList<TransientActiveActorDestructible> fireDeactivators;
+	private final ActorBatches friendlyUnitBatches;
+	private final ActorBatches enemyUnitBatches;
+	private final SpatialHashGrid friendlyUnitGrid;
+	private final SpatialHashGrid enemyUnitGrid;
+	private final ProjectilePool<EnemyProjectile> enemyProjectilePool;
+	private final ProjectileBuffer projectileBuffer;
+	private final ActorCuller actorCuller;
+	private final TickProfiler profiler;
+	private final GameRandom random;
+	private final GameClock clock;
+	private final TimingWheel scheduler;
+	private final GameEventBus events;
+	private final List<SpawnScheduler> spawnSchedulers;
+
+	// Non-final instance variables
+	protected GameScore gameScore;
+	private int currentNumberOfEnemies;
+	private double backgroundPosition = 0;
+	private double previousBackgroundPosition = 0;
+	private boolean isStopped = false;
+	private ReplayRecorder replayRecorder;
+
+	/**
+	 * Constructs a new LevelParent instance with the specified configuration.
+	 *
+	 * @param backgroundImageName the path to the background image for the level.
+	 * @param screenHeight        the height of the screen in pixels.
+	 * @param screenWidth         the width of the screen in pixels.
+	 * @param playerInitialHealth the initial health value for the player's character.
+	 * @param random              the source of randomness for the level and its actors.
+	 */
+	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth,
+					   GameRandom random) {
+		this.backgroundImageName = backgroundImageName;
+		this.random = random;
+		this.clock = new GameClock();
+		this.scheduler = new TimingWheel();
+		this.events = new GameEventBus();
+		this.spawnSchedulers = new ArrayList<>();
+		this.user = new UserPlane(playerInitialHealth);
+		this.friendlyUnits = new ActorList<>();
+		this.enemyUnits = new ActorList<>();
+		this.userProjectiles = new ActorList<>();
+		this.enemyProjectiles = new ActorList<>();
+		this.healthPoints = new ActorList<>();
+		this.fireDeactivators = new ActorList<>();
+		this.friendlyUnitBatches = new ActorBatches(friendlyUnits)
+				.register(UserPlane.class, LevelParent::updateUserPlanes);
+		this.enemyUnitBatches = new ActorBatches(enemyUnits)
+				.register(EnemyPlane.class, LevelParent::updateEnemyPlanes)
+				.register(Boss.class, LevelParent::updateBosses);
+		this.friendlyUnitGrid = new SpatialHashGrid(screenWidth, screenHeight, COLLISION_GRID_CELL_SIZE);
+		this.enemyUnitGrid = new SpatialHashGrid(screenWidth, screenHeight, COLLISION_GRID_CELL_SIZE);
+		this.enemyProjectilePool = new ProjectilePool<>(() -> new EnemyProjectile(0, 0));
+		this.projectileBuffer = new ProjectileBuffer();
+		this.actorCuller = new ActorCuller(screenWidth, screenHeight);
+		this.profiler = new TickProfiler();
+
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
+		this.playerInitialHealth = playerInitialHealth;
+		this.currentNumberOfEnemies = 0;
+
+		friendlyUnits.add(user);
+	}
+
+	/**
+	 * Updates the level by performing actions such as spawning enemies, updating actors, handling collisions,
+	 * and checking game state conditions. Does nothing once the level has been stopped.
+	 */
+	public void updateScene() {
+		if (isStopped) {
+			return;
+		}
+		clock.tick();
+		long tickStart = profiler.start();
+		long time = tickStart;
+		savePreviousPositions();
+		time = profiler.lap(Phase.SAVE_POSITIONS, time);
+		spawnEnemyUnits();
+		time = profiler.lap(Phase.SPAWN_ENEMIES, time);
+		spawnTransientObjects();
+		time = profiler.lap(Phase.SPAWN_TRANSIENT_OBJECTS, time);
+		fireUserWeapon();
+		time = profiler.lap(Phase.FIRE_USER_WEAPON, time);
+		updateActors();
+		time = profiler.lap(Phase.UPDATE_ACTORS, time);
+		generateEnemyFire();
+		time = profiler.lap(Phase.GENERATE_ENEMY_FIRE, time);
+		updateNumberOfEnemies();
+		time = profiler.lap(Phase.COUNT_ENEMIES, time);
+		handleEnemyPenetration();
+		time = profiler.lap(Phase.ENEMY_PENETRATION, time);
+		handleGenericCollisions();
+		time = profiler.lap(Phase.GENERIC_COLLISIONS, time);
+		handleUserHealthPointCollisions();
+		time = profiler.lap(Phase.HEALTH_POINT_COLLISIONS, time);
+		scheduler.advance();
+		time = profiler.lap(Phase.SCHEDULED_EVENTS, time);
+		cullActors();
+		time = profiler.lap(Phase.CULL_ACTORS, time);
+		removeAllDestroyedActors();
+		time = profiler.lap(Phase.REMOVE_DESTROYED_ACTORS, time);
+		animateBackground();
+		time = profiler.lap(Phase.ANIMATE_BACKGROUND, time);
+		checkIfGameOver();
+		profiler.stop(Phase.CHECK_GAME_OVER, time);
+		profiler.stop(Phase.TICK, tickStart);
+		recordActorCounts();
+	}
+
+	/**
+	 * Stops the level so that further calls to {@link #updateScene()} have no effect.
+	 * A replay being recorded is finished at the current tick.
+	 */
+	public void stopGame() {
+		isStopped = true;
+		if (replayRecorder != null) {
+			replayRecorder.finish(clock.getTicks());
+		}
+	}
+
+	/**
+	 * Retrieves the number of ticks the level has run.
+	 *
+	 * @return the tick count.
+	 */
+	public long getTickCount() {
+		return clock.getTicks();
+	}
+
+	/**
+	 * Retrieves the level's game clock, which advances once per tick.
+	 *
+	 * @return the level's {@link GameClock}.
+	 */
+	public GameClock getClock() {
+		return clock;
+	}
+
+	/**
+	 * Retrieves the timing wheel on which the level and its actors schedule events for later ticks.
+	 * It is advanced once per tick, after collisions are handled.
+	 *
+	 * @return the level's {@link TimingWheel}.
+	 */
+	public TimingWheel getScheduler() {
+		return scheduler;
+	}
+
+	/**
+	 * Retrieves the bus on which the level publishes its transitions and gameplay events.
+	 *
+	 * @return the level's {@link GameEventBus}.
+	 */
+	public GameEventBus getEvents() {
+		return events;
+	}
+
+	/**
+	 * Applies a player command to the user's plane and records it if a replay is being recorded.
+	 * Commands are ignored once the level has stopped.
+	 *
+	 * @param input the command to apply.
+	 */
+	public void handleInput(PlayerInput input) {
+		if (isStopped) {
+			return;
+		}
+		if (replayRecorder != null) {
+			replayRecorder.record(clock.getTicks(), input);
+		}
+		switch (input) {
+			case MOVE_UP -> user.moveUp();
+			case MOVE_DOWN -> user.moveDown();
+			case MOVE_LEFT -> user.moveLeft();
+			case MOVE_RIGHT -> user.moveRight();
+			case STOP -> user.stop();
+			case FIRE -> fireProjectile();
+			case PULL_TRIGGER -> user.getWeapon().pullTrigger();
+			case RELEASE_TRIGGER -> user.getWeapon().releaseTrigger();
+		}
+	}
+
+	/**
+	 * Sets the directions the user's plane moves in, as sampled from the held controls at the start of a tick.
+	 * Nothing happens while the directions are unchanged; otherwise the change is applied through
+	 * {@link #handleInput(PlayerInput)} as a stop followed by a move on each axis that is not at rest, so it is
+	 * recorded and replayed like any other input.
+	 *
+	 * @param horizontal -1 to move left, 1 to move right, or 0 to hold still horizontally.
+	 * @param vertical   -1 to move up, 1 to move down, or 0 to hold still vertically.
+	 */
+	public void steer(int horizontal, int vertical) {
+		if (horizontal == user.getHorizontalDirection() && vertical == user.getVerticalDirection()) {
+			return;
+		}
+		handleInput(PlayerInput.STOP);
+		if (vertical != 0) {
+			handleInput(vertical < 0 ? PlayerInput.MOVE_UP : PlayerInput.MOVE_DOWN);
+		}
+		if (horizontal != 0) {
+			handleInput(horizontal < 0 ? PlayerInput.MOVE_LEFT : PlayerInput.MOVE_RIGHT);
+		}
+	}
+
+	/**
+	 * Records every following input of the level, finishing the recording when the level stops.
+	 *
+	 * @param replayRecorder the recorder to write to.
+	 */
+	public void recordReplay(ReplayRecorder replayRecorder) {
+		this.replayRecorder = replayRecorder;
+	}
+
+	/**
+	 * Checks whether the level has been stopped.
+	 *
+	 * @return {@code true} if the level has been stopped, otherwise {@code false}.
+	 */
+	public boolean isStopped() {
+		return isStopped;
+	}
+
+	/**
+	 * Stops the level and publishes a transition to the specified next level.
+	 *
+	 * @param levelName the name of the next level to transition to.
+	 */
+	public void goToNextLevel(String levelName) {
+		stopGame();
+		events.publishTransition(clock.getTicks(), new LevelNotification(
+				levelName,
+				LevelNotification.Action.NEXT_LEVEL
+		));
+	}
+
+	/**
+	 * Sets the game score tracker for the level.
+	 *
+	 * @param gameScore the {@link GameScore} object to be used for tracking the game's score.
+	 */
+	public void addGameScore(GameScore gameScore) {
+		this.gameScore = gameScore;
+	}
+
+	/**
+	 * Retrieves the game score tracker for the level.
+	 *
+	 * @return the {@link GameScore} used by the level.
+	 */
+	public GameScore getGameScore() {
+		return gameScore;
+	}
+
+	/**
+	 * Fires a projectile from the user's plane and adds it to the tracking list.
+	 */
+	public void fireProjectile() {
+		addProjectile(userProjectiles, user.fireProjectile());
+	}
+
+	/**
+	 * Retrieves the number of kills required to finish the level.
+	 *
+	 * @return the kill target.
+	 */
+	public abstract int getKillsToAdvance();
+
+	/**
+	 * Checks whether the game has ended based on specific conditions. Must be implemented by subclasses.
+	 */
+	protected abstract void checkIfGameOver();
+
+	/**
+	 * Spawns enemy units in the level. Must be implemented by subclasses.
+	 */
+	protected abstract void spawnEnemyUnits();
+
+	/**
+	 * Spawns transient objects in the level, such as health points or other temporary game elements.
+	 * These objects typically have a limited lifespan and may impact gameplay by providing bonuses
+	 * or affecting other entities in the game.
+	 *
+	 * <p>This method must be implemented by subclasses to define level-specific logic for spawning
+	 * transient objects.</p>
+	 */
+	protected abstract void spawnTransientObjects();
+
+	/**
+	 * Handles the win condition for the level by stopping the game
+	 * and publishing a transition to the win state.
+	 */
+	protected void winGame() {
+		stopGame();
+		events.publishTransition(clock.getTicks(), WIN_NOTIFICATION);
+	}
+
+	/**
+	 * Handles the lose condition for the level by stopping the game
+	 * and publishing a transition to the lose state.
+	 */
+	protected void loseGame() {
+		stopGame();
+		events.publishTransition(clock.getTicks(), LOSE_NOTIFICATION);
+	}
+
+	/**
+	 * Processes collisions that result in score increments.
+	 * Enemy units are looked up through the collision grid built for the current tick.
+	 */
+	protected void handleScoreableCollisions() {
+		increaseScore(CollisionHandler.handleUserProjectileCollisions(user, userProjectiles, enemyUnitGrid));
+	}
+
+	/**
+	 * Adds to the game score and publishes the increment, if there is one.
+	 *
+	 * @param scoreIncrement the points scored this tick.
+	 */
+	protected void increaseScore(int scoreIncrement) {
+		gameScore.increaseScoreBy(scoreIncrement);
+		if (scoreIncrement != 0) {
+			events.publish(GameEvent.Type.SCORE, clock.getTicks(), scoreIncrement);
+		}
+	}
+
+	/**
+	 * Publishes the pickups collected by the user's plane this tick, if there are any.
+	 *
+	 * @param collected the number of health points or fire deactivators collected.
+	 */
+	protected void publishPickups(int collected) {
+		if (collected > 0) {
+			events.publish(GameEvent.Type.PICKUP, clock.getTicks(), collected);
+		}
+	}
+
+	/**
+	 * Handles collisions involving the user and health points.
+	 * This method provides no default implementation and is intended to be overridden by subclasses.
+	 */
+	protected void handleUserHealthPointCollisions() {
+		// No default implementation
+	}
+
+	/**
+	 * Retrieves the user's plane in the level.
+	 *
+	 * @return the {@link UserPlane} object representing the user's plane.
+	 */
+	public UserPlane getUser() {
+		return user;
+	}
+
+	/**
+	 * Retrieves the initial health of the user's plane.
+	 *
+	 * @return the player's initial health.
+	 */
+	public int getPlayerInitialHealth() {
+		return playerInitialHealth;
+	}
+
+	/**
+	 * Retrieves the path to the level's background image.
+	 *
+	 * @return the background image resource path.
+	 */
+	public String getBackgroundImageName() {
+		return backgroundImageName;
+	}
+
+	/**
+	 * Retrieves the horizontal scroll offset of the background.
+	 *
+	 * @return the background offset, between minus the screen width and zero.
+	 */
+	public double getBackgroundPosition() {
+		return backgroundPosition;
+	}
+
+	/**
+	 * Retrieves the background scroll offset interpolated between the previous and current tick.
+	 * When the background wrapped around during the tick, the current offset is returned.
+	 *
+	 * @param alpha the interpolation factor, 0 for the previous tick and 1 for the current tick.
+	 * @return the interpolated background offset.
+	 */
+	public double getInterpolatedBackgroundPosition(double alpha) {
+		if (backgroundPosition > previousBackgroundPosition) {
+			return backgroundPosition;
+		}
+		return previousBackgroundPosition + (backgroundPosition - previousBackgroundPosition) * alpha;
+	}
+
+	/**
+	 * Retrieves the current number of enemy units in the level.
+	 *
+	 * @return the number of enemy units.
+	 */
+	protected int getCurrentNumberOfEnemies() {
+		return enemyUnits.size();
+	}
+
+	/**
+	 * Retrieves the list of friendly units in the level.
+	 * The returned list is live and must only be read by callers outside the level.
+	 *
+	 * @return a list of {@link ActiveActorDestructible} objects representing friendly units.
+	 */
+	public List<ActiveActorDestructible> getFriendlyUnits() {
+		return friendlyUnits;
+	}
+
+	/**
+	 * Retrieves the list of enemy units in the level.
+	 * The returned list is live and must only be read by callers outside the level.
+	 *
+	 * @return a list of {@link ActiveActorDestructible} objects representing enemy units.
+	 */
+	public List<ActiveActorDestructible> getEnemyUnits() {
+		return enemyUnits;
+	}
+
+	/**
+	 * Retrieves the list of projectiles fired by the user's plane.
+	 * These projectiles are tracked for collision detection and rendering.
+	 *
+	 * @return a list of {@link ActiveActorDestructible} objects representing the user's projectiles.
+	 */
+	public List<ActiveActorDestructible> getUserProjectiles() {
+		return userProjectiles;
+	}
+
+	/**
+	 * Retrieves the list of projectiles fired by enemy units.
+	 *
+	 * @return a list of {@link ActiveActorDestructible} objects representing the enemies' projectiles.
+	 */
+	public List<ActiveActorDestructible> getEnemyProjectiles() {
+		return enemyProjectiles;
+	}
+
+	/**
+	 * Retrieves the list of health points currently present in the level.
+	 * Health points are transient objects that can be collected by the player
+	 * to restore health and are tracked for rendering and collision detection.
+	 *
+	 * @return a list of {@link TransientActiveActorDestructible} objects representing health points in the level.
+	 */
+	public List<TransientActiveActorDestructible> getHealthPoints() {
+		return healthPoints;
+	}
+
+	/**
+	 * Retrieves the list of fire deactivators currently present in the level.
+	 * Fire deactivators are transient objects that temporarily disable certain abilities
+	 * (e.g., the boss's ability to fire projectiles) and are tracked for rendering and collision detection.
+	 *
+	 * @return a list of {@link TransientActiveActorDestructible} objects representing fire deactivators in the level.
+	 */
+	public List<TransientActiveActorDestructible> getFireDeactivators() {
+		return fireDeactivators;
+	}
+
+	/**
+	 * Retrieves the projectile pools used in the level, for reporting their size and hit rate.
+	 *
+	 * @return the user and enemy projectile pools.
+	 */
+	public List<ProjectilePool<?>> getProjectilePools() {
+		return List.of(user.getProjectilePool(), enemyProjectilePool);
+	}
+
+	/**
+	 * Retrieves the buffer holding the motion state of the projectiles in flight.
+	 *
+	 * @return the level's {@link ProjectileBuffer}.
+	 */
+	public ProjectileBuffer getProjectileBuffer() {
+		return projectileBuffer;
+	}
+
+	/**
+	 * Retrieves the profiler timing the phases of each tick.
+	 * The game module also records render times and scene-graph counts into it.
+	 *
+	 * @return the level's {@link TickProfiler}.
+	 */
+	public TickProfiler getProfiler() {
+		return profiler;
+	}
+
+	/**
+	 * Retrieves the culling stage of the level, for reporting live and culled actor counts.
+	 *
+	 * @return the level's {@link ActorCuller}.
+	 */
+	public ActorCuller getActorCuller() {
+		return actorCuller;
+	}
+
+	/**
+	 * Retrieves the spawn schedulers declared by the level, for reporting and tuning their rates.
+	 *
+	 * @return the level's {@link SpawnScheduler}s, in the order they were declared.
+	 */
+	public List<SpawnScheduler> getSpawnSchedulers() {
+		return Collections.unmodifiableList(spawnSchedulers);
+	}
+
+	/**
+	 * Declares a kind of object the level spawns and the chance per tick that each free slot for it fills.
+	 * Spawn times are drawn from the level's source of randomness.
+	 *
+	 * @param name        the name of the kind of object, for reports.
+	 * @param probability the chance per tick that a free slot fills.
+	 * @return the scheduler to poll for spawns on each tick.
+	 */
+	protected SpawnScheduler addSpawnScheduler(String name, double probability) {
+		SpawnScheduler spawnScheduler = new SpawnScheduler(name, probability, random);
+		spawnSchedulers.add(spawnScheduler);
+		return spawnScheduler;
+	}
+
+	/**
+	 * Adds an enemy unit to the level.
+	 * Enemy planes are given the level's shared enemy projectile pool.
+	 *
+	 * @param enemy the {@link ActiveActorDestructible} object representing the enemy unit to add.
+	 */
+	protected void addEnemyUnit(ActiveActorDestructible enemy) {
+		if (enemy instanceof EnemyPlane enemyPlane) {
+			enemyPlane.setProjectilePool(enemyProjectilePool);
+		}
+		enemyUnits.add(enemy);
+	}
+
+	/**
+	 * Adds a health point to the level, making it active in the game until it expires.
+	 *
+	 * @param healthPoint the {@link TransientActiveActorDestructible} object representing the health point to add.
+	 */
+	protected void addHealthPoint(TransientActiveActorDestructible healthPoint) {
+		healthPoints.add(healthPoint);
+		scheduleExpiry(healthPoint);
+	}
+
+	/**
+	 * Adds a fire deactivator to the level, making it active in the game until it expires.
+	 *
+	 * @param fireDeactivator the {@link TransientActiveActorDestructible} object representing the fire deactivator to add.
+	 */
+	protected void addFireDeactivator(TransientActiveActorDestructible fireDeactivator) {
+		fireDeactivators.add(fireDeactivator);
+		scheduleExpiry(fireDeactivator);
+	}
+
+	/**
+	 * Schedules a transient object to be destroyed on the tick it expires.
+	 * Objects that are collected first are already destroyed when the timer runs, which has no further effect.
+	 *
+	 * @param transientObject the object to expire.
+	 */
+	private void scheduleExpiry(TransientActiveActorDestructible transientObject) {
+		scheduler.schedule(Math.max(0, transientObject.getExpiryTick() - scheduler.getCurrentTick()), transientObject::destroy);
+	}
+
+	/**
+	 * Retrieves the source of randomness for the level and its actors.
+	 *
+	 * @return the level's {@link GameRandom}.
+	 */
+	protected GameRandom getRandom() {
+		return random;
+	}
+
+	/**
+	 * Retrieves the maximum Y position an enemy can occupy in the level.
+	 *
+	 * @return the maximum Y coordinate for enemy units.
+	 */
+	protected double getEnemyMaximumYPosition() {
+		return enemyMaximumYPosition;
+	}
+
+	/**
+	 * Retrieves the width of the screen for the level.
+	 *
+	 * @return the screen width in pixels.
+	 */
+	public double getScreenWidth() {
+		return screenWidth;
+	}
+
+	/**
+	 * Retrieves the height of the screen for the level.
+	 *
+	 * @return the screen height in pixels.
+	 */
+	public double getScreenHeight() {
+		return screenHeight;
+	}
+
+	/**
+	 * Checks whether the user's plane is destroyed.
+	 *
+	 * @return {@code true} if the user's plane is destroyed; {@code false} otherwise.
+	 */
+	protected boolean userIsDestroyed() {
+		return user.isDestroyed();
+	}
+
+	/**
+	 * Records the position of every actor and of the background at the start of the tick,
+	 * so they can be drawn between ticks.
+	 */
+	private void savePreviousPositions() {
+		previousBackgroundPosition = backgroundPosition;
+		savePreviousPositions(friendlyUnits);
+		savePreviousPositions(enemyUnits);
+		projectileBuffer.savePreviousPositions();
+		savePreviousPositions(healthPoints);
+		savePreviousPositions(fireDeactivators);
+	}
+
+	/**
+	 * Records the current position of every actor in the list.
+	 *
+	 * @param actors the actors whose positions are recorded.
+	 */
+	private void savePreviousPositions(List<? extends ActiveActorDestructible> actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			actors.get(i).savePreviousPosition();
+		}
+	}
+
+	/**
+	 * Advances the user's weapon by one tick and adds the projectile it fires, if any.
+	 */
+	private void fireUserWeapon() {
+		ActiveActorDestructible projectile = user.fireWeapon();
+		if (projectile != null) {
+			addProjectile(userProjectiles, projectile);
+		}
+	}
+
+	/**
+	 * Counts down every enemy unit's fire countdown and adds the projectiles of those whose shot is due.
+	 */
+	private void generateEnemyFire() {
+		for (int i = 0, size = enemyUnits.size(); i < size; i++) {
+			spawnEnemyProjectile(((FighterPlane) enemyUnits.get(i)).tickFireCountdown());
+		}
+	}
+
+	/**
+	 * Adds a projectile fired by an enemy to the tracking list.
+	 *
+	 * @param projectile the enemy's fired projectile to add.
+	 */
+	private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
+		if (projectile != null) {
+			addProjectile(enemyProjectiles, projectile);
+		}
+	}
+
+	/**
+	 * Adds a projectile to a tracking list and moves its motion state into the projectile buffer.
+	 *
+	 * @param projectiles the list to add to.
+	 * @param projectile  the projectile to add.
+	 */
+	private void addProjectile(ActorList<ActiveActorDestructible> projectiles, ActiveActorDestructible projectile) {
+		projectiles.add(projectile);
+		if (projectile instanceof Projectile bufferedProjectile) {
+			projectileBuffer.attach(bufferedProjectile);
+		}
+	}
+
+	/**
+	 * Updates all actors in the game, including friendly units, enemies, and projectiles.
+	 * Planes are updated in batches of one concrete type, and projectiles are moved together by the projectile buffer.
+	 */
+	private void updateActors() {
+		friendlyUnitBatches.update();
+		enemyUnitBatches.update();
+		projectileBuffer.integrate();
+	}
+
+	/**
+	 * Updates a batch of user planes.
+	 *
+	 * @param actors the batch.
+	 * @param count  the number of planes in the batch.
+	 */
+	private static void updateUserPlanes(ActiveActorDestructible[] actors, int count) {
+		for (int i = 0; i < count; i++) {
+			((UserPlane) actors[i]).updateActor();
+		}
+	}
+
+	/**
+	 * Updates a batch of enemy planes.
+	 *
+	 * @param actors the batch.
+	 * @param count  the number of planes in the batch.
+	 */
+	private static void updateEnemyPlanes(ActiveActorDestructible[] actors, int count) {
+		for (int i = 0; i < count; i++) {
+			((EnemyPlane) actors[i]).updateActor();
+		}
+	}
+
+	/**
+	 * Updates a batch of bosses.
+	 *
+	 * @param actors the batch.
+	 * @param count  the number of bosses in the batch.
+	 */
+	private static void updateBosses(ActiveActorDestructible[] actors, int count) {
+		for (int i = 0; i < count; i++) {
+			((Boss) actors[i]).updateActor();
+		}
+	}
+
+	/**
+	 * Samples the size of every actor list into the profiler's gauges.
+	 */
+	private void recordActorCounts() {
+		profiler.setGauge(Gauge.FRIENDLY_UNITS, friendlyUnits.size());
+		profiler.setGauge(Gauge.ENEMY_UNITS, enemyUnits.size());
+		profiler.setGauge(Gauge.USER_PROJECTILES, userProjectiles.size());
+		profiler.setGauge(Gauge.ENEMY_PROJECTILES, enemyProjectiles.size());
+		profiler.setGauge(Gauge.HEALTH_POINTS, healthPoints.size());
+		profiler.setGauge(Gauge.FIRE_DEACTIVATORS, fireDeactivators.size());
+	}
+
+	/**
+	 * Marks actors in every tracking list that have left the screen or outlived their lifetime for removal.
+	 * Projectiles are culled from the columns of the projectile buffer.
+	 */
+	private void cullActors() {
+		actorCuller.beginPass();
+		actorCuller.cull(friendlyUnits);
+		actorCuller.cull(enemyUnits);
+		actorCuller.cull(projectileBuffer);
+		actorCuller.cull(healthPoints);
+		actorCuller.cull(fireDeactivators);
+		actorCuller.endPass();
+	}
+
+	/**
+	 * Removes all destroyed actors from their respective tracking lists.
+	 */
+	private void removeAllDestroyedActors() {
+		removeDestroyedActors(friendlyUnits);
+		removeDestroyedActors(enemyUnits);
+		removeDestroyedActors(userProjectiles);
+		removeDestroyedActors(enemyProjectiles);
+		removeDestroyedActors(healthPoints);
+		removeDestroyedActors(fireDeactivators);
+	}
+
+	/**
+	 * Removes destroyed or flagged actors from the provided list.
+	 * Actors are considered for removal if they are marked as destroyed or flagged for removal.
+	 * If the actor is an enemy unit and has been destroyed, the player's kill count is incremented.
+	 * Removed projectiles are recycled. The list is walked from the end and each removed actor is swapped
+	 * out of its slot, so every actor moved into a freed slot has already been checked.
+	 *
+	 * @param actors the list of {@link ActiveActorDestructible} objects to process for removal.
+	 * @param <T>    the type of actor in the list.
+	 */
+	private <T extends ActiveActorDestructible> void removeDestroyedActors(ActorList<T> actors) {
+		for (int i = actors.size() - 1; i >= 0; i--) {
+			T actor = actors.get(i);
+			if (actor.isDestroyed() || actor.getShouldRemove()) {
+				if (actors == enemyUnits && actor.isDestroyed()) {
+					user.incrementKillCount();
+					events.publish(GameEvent.Type.KILL, clock.getTicks(), 1);
+				}
+				actors.remove(i);
+				recycle(actor);
+			}
+		}
+	}
+
+	/**
+	 * Handles collisions between enemy projectiles and friendly units, as well as between planes.
+	 * Friendly and enemy units are indexed into collision grids first so that each actor is only
+	 * tested against actors in nearby cells.
+	 */
+	private void handleGenericCollisions() {
+		friendlyUnitGrid.rebuild(friendlyUnits);
+		enemyUnitGrid.rebuild(enemyUnits);
+		int hits = CollisionHandler.handleEnemyProjectileCollisions(enemyProjectiles, friendlyUnitGrid)
+				+ CollisionHandler.handlePlaneCollisions(friendlyUnits, enemyUnitGrid);
+		if (hits > 0) {
+			events.publish(GameEvent.Type.HIT, clock.getTicks(), hits);
+		}
+		handleScoreableCollisions();
+	}
+
+	/**
+	 * Processes enemy penetration past the user's defenses. Damages the user and removes the offending enemy.
+	 */
+	private void handleEnemyPenetration() {
+		for (ActiveActorDestructible enemy : enemyUnits) {
+			if (enemyHasPenetratedDefenses(enemy)) {
+				user.takeDamage();
+				enemy.remove();
+				events.publish(GameEvent.Type.HIT, clock.getTicks(), 1);
+			}
+		}
+	}
+
+	/**
+	 * Checks if an enemy unit has passed beyond the user's defensive boundary.
+	 *
+	 * @param enemy the enemy unit to check.
+	 * @return {@code true} if the enemy has penetrated the defenses; {@code false} otherwise.
+	 */
+	private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
+		return Math.abs(enemy.getTranslateX()) > screenWidth;
+	}
+
+	/**
+	 * Updates the count of currently active enemy units in the game.
+	 */
+	private void updateNumberOfEnemies() {
+		currentNumberOfEnemies = enemyUnits.size();
+	}
+
+	/**
+	 * Advances the background scroll offset to create a scrolling effect.
+	 */
+	protected void animateBackground() {
+		backgroundPosition -= backgroundScrollSpeed;
+		if (backgroundPosition <= -screenWidth) {
+			backgroundPosition = 0;
+		}
+	}
+
+	/**
+	 * Takes a removed projectile out of the projectile buffer and returns it to its pool if it is pooled.
+	 *
+	 * @param actor the actor removed from the level.
+	 */
+	private void recycle(ActiveActorDestructible actor) {
+		if (actor instanceof Projectile projectile) {
+			projectileBuffer.detach(projectile);
+			projectile.recycle();
+		}
+	}
+}
@@ -3,6 +3,7 @@ package com.example.demo.level;
 import com.example.demo.actor.*;
 import com.example.demo.contract.EnemyVariation;
 import com.example.demo.util.CollisionHandler;
+import com.example.demo.util.GameRandom;
 
 /**
  * Represents the second level of the game.
@@ -27,7 +28,7 @@ public class LevelTwo extends LevelParent implements EnemyVariation {
     private static final int KILLS_TO_ADVANCE = 50;
 
     /**
-     * Probability of spawning a new enemy on each frame.
+     * Chance per tick that each free enemy slot is filled.
      */
     private static final double ENEMY_SPAWN_PROBABILITY = 0.2;
 
@@ -37,14 +38,15 @@ public class LevelTwo extends LevelParent implements EnemyVariation {
     private static final int PLAYER_INITIAL_HEALTH = 5;
 
     /**
-     * Base probability of spawning a health point on each frame.
+     * Chance per tick of spawning a health point when the player has lost all but one heart; it scales
+     * with the hearts lost.
      */
     private static final double HP_SPAWN_PROBABILITY = 0.01;
 
     /**
-     * Duration (in seconds) for which a health point remains active after spawning.
+     * Game time (in milliseconds) for which a health point remains active after spawning.
      */
-    private final int HP_LINGER_SEC = 5;
+    private final long HP_LINGER_MILLIS = 5_000;
 
     /**
      * Manages level transitions for navigating to the next level.
@@ -52,14 +54,37 @@ public class LevelTwo extends LevelParent implements EnemyVariation {
     private final LevelSelector levelSelector;
 
     /**
-     * Constructs the second level with the specified screen dimensions.
+     * Schedules enemies into the free enemy slots.
+     */
+    private final SpawnScheduler enemySpawns;
+
+    /**
+     * Schedules health points while the player is missing health.
+     */
+    private final SpawnScheduler healthPointSpawns;
+
+    /**
+     * Constructs the second level with the specified screen dimensions and an unpredictably seeded generator.
      *
      * @param screenHeight the height of the game screen.
      * @param screenWidth  the width of the game screen.
      */
     public LevelTwo(double screenHeight, double screenWidth) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+        this(screenHeight, screenWidth, new GameRandom());
+    }
+
+    /**
+     * Constructs the second level with the specified screen dimensions.
+     *
+     * @param screenHeight the height of the game screen.
+     * @param screenWidth  the width of the game screen.
+     * @param random       the source of randomness for the level and its actors.
+     */
+    public LevelTwo(double screenHeight, double screenWidth, GameRandom random) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, random);
         levelSelector = new LevelSelector(getClass().getName());
+        enemySpawns = addSpawnScheduler("enemy", ENEMY_SPAWN_PROBABILITY);
+        healthPointSpawns = addSpawnScheduler("health point", 0);
     }
 
     /**
@@ -77,38 +102,22 @@ public class LevelTwo extends LevelParent implements EnemyVariation {
     }
 
     /**
-     * Initializes the player's character and adds it to the game scene.
-     * If the player's bounding box is visible, it is also added to the scene.
-     */
-    @Override
-    protected void initializeFriendlyUnits() {
-        UserPlane user = getUser();
-        getRoot().getChildren().add(user);
-
-        if (user.isBoundingBoxVisible()) {
-            getRoot().getChildren().add(user.getBoundingBox());
-        }
-    }
-
-    /**
-     * Spawns enemy units dynamically based on the current number of enemies and a random spawn probability.
+     * Spawns the enemy units scheduled for this tick while there are fewer enemies than the maximum.
      * Includes logic for creating different enemy types.
      */
     @Override
     protected void spawnEnemyUnits() {
-        int currentNumberOfEnemies = getCurrentNumberOfEnemies();
-
-        for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-                double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-                EnemyPlane newEnemy;
-                if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-                    newEnemy = makeEnemyPlane(getScreenWidth(), newEnemyInitialYPosition, 1);
-                } else {
-                    newEnemy = makeEnemyPlane(getScreenWidth(), newEnemyInitialYPosition, 0);
-                }
-                addEnemyUnit(newEnemy);
+        int spawnCount = enemySpawns.poll(getTickCount(), TOTAL_ENEMIES - getCurrentNumberOfEnemies());
+
+        for (int i = 0; i < spawnCount; i++) {
+            double newEnemyInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
+            EnemyPlane newEnemy;
+            if (getRandom().chance(ENEMY_SPAWN_PROBABILITY)) {
+                newEnemy = makeEnemyPlane(getScreenWidth(), newEnemyInitialYPosition, 1);
+            } else {
+                newEnemy = makeEnemyPlane(getScreenWidth(), newEnemyInitialYPosition, 0);
             }
+            addEnemyUnit(newEnemy);
         }
     }
 
@@ -129,9 +138,10 @@ public class LevelTwo extends LevelParent implements EnemyVariation {
         UserPlane user = getUser();
         int currentHealth = user.getHealth();
         double adjustedProbability = (double) (PLAYER_INITIAL_HEALTH - currentHealth) / PLAYER_INITIAL_HEALTH * HP_SPAWN_PROBABILITY;
+        healthPointSpawns.setProbability(Math.max(adjustedProbability, 0), getTickCount());
 
-        if (currentHealth < PLAYER_INITIAL_HEALTH && Math.random() < adjustedProbability) {
-            HealthPoint healthPoint = new HealthPoint(user, HP_LINGER_SEC);
+        if (healthPointSpawns.poll(getTickCount(), currentHealth < PLAYER_INITIAL_HEALTH ? 1 : 0) > 0) {
+            HealthPoint healthPoint = new HealthPoint(user, HP_LINGER_MILLIS, getRandom(), getClock());
             addHealthPoint(healthPoint);
         }
     }
@@ -142,21 +152,21 @@ public class LevelTwo extends LevelParent implements EnemyVariation {
      */
     @Override
     protected void handleUserHealthPointCollisions() {
-        CollisionHandler.handleUserHealthPointCollisions(
+        publishPickups(CollisionHandler.handleUserHealthPointCollisions(
                 PLAYER_INITIAL_HEALTH,
                 getUser(),
                 getHealthPoints()
-        );
+        ));
     }
 
     /**
-     * Creates and returns the level view for this level.
+     * Returns the number of kills required to advance to the next level.
      *
-     * @return the {@link LevelView} instance configured for this level.
+     * @return the kill target for this level.
      */
     @Override
-    protected LevelView instantiateLevelView() {
-        return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH, KILLS_TO_ADVANCE);
+    public int getKillsToAdvance() {
+        return KILLS_TO_ADVANCE;
     }
 
     /**
@@ -182,15 +192,15 @@ public class LevelTwo extends LevelParent implements EnemyVariation {
         EnemyPlane enemyPlane;
 
         switch (type) {
-            case 0 -> enemyPlane = new EnemyPlane(initialXPos, initialYPos);
+            case 0 -> enemyPlane = new EnemyPlane(initialXPos, initialYPos, getRandom());
             case 1 -> {
                 EnemyPlaneMutator enemyPlaneMutator = new EnemyPlaneMutator();
                 enemyPlaneMutator.setImageHeight(100);
                 enemyPlaneMutator.setProjectileYPositionOffset(40);
                 enemyPlaneMutator.setInitialHealth(5);
-                enemyPlane = new EnemyPlane(initialXPos, initialYPos, enemyPlaneMutator);
+                enemyPlane = new EnemyPlane(initialXPos, initialYPos, enemyPlaneMutator, getRandom());
             }
-            default -> enemyPlane = new EnemyPlane(initialXPos, initialYPos);
+            default -> enemyPlane = new EnemyPlane(initialXPos, initialYPos, getRandom());
         }
 
         return enemyPlane;
@@ -0,0 +1,28 @@
+package com.example.demo.level;
+
+/**
+ * A single player command applied to a level between ticks.
+ * <p>
+ * The game module translates key events into these commands and passes them to
+ * {@link LevelParent#handleInput(PlayerInput)}, so the same commands can be recorded and replayed
+ * without a keyboard.
+ * </p>
+ */
+public enum PlayerInput {
+    /** Starts moving the user's plane up. */
+    MOVE_UP,
+    /** Starts moving the user's plane down. */
+    MOVE_DOWN,
+    /** Starts moving the user's plane left. */
+    MOVE_LEFT,
+    /** Starts moving the user's plane right. */
+    MOVE_RIGHT,
+    /** Stops the user's plane. */
+    STOP,
+    /** Fires a projectile from the user's plane at once, regardless of its weapon. */
+    FIRE,
+    /** Pulls the trigger of the user's plane's weapon, which then fires on the following ticks at its own rate. */
+    PULL_TRIGGER,
+    /** Releases the trigger of the user's plane's weapon. */
+    RELEASE_TRIGGER
+}
@@ -0,0 +1,221 @@
+package com.example.demo.level;
+
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.GameScore;
+import com.example.demo.util.TickProfiler;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Plays back a level recorded by {@link ReplayRecorder}.
+ * <p>
+ * The level is rebuilt from the recorded class, screen size and seed, and every recorded input is applied
+ * before the tick it arrived at. Ticks run back to back with no frame pacing, so a replay runs as fast as
+ * the simulation allows. This makes reported sessions reproducible and lets them be used as benchmarks;
+ * run {@link #main(String[])} with {@code -Ddemo.profile=true} to print the tick profile of a replay.
+ * </p>
+ */
+public class ReplayPlayer {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final String levelClassName;
+    private final double screenHeight;
+    private final double screenWidth;
+    private final long seed;
+    private final long[] ticks;
+    private final PlayerInput[] inputs;
+    private final long endTick;
+
+    private ReplayPlayer(String levelClassName, double screenHeight, double screenWidth, long seed,
+                         long[] ticks, PlayerInput[] inputs, long endTick) {
+        this.levelClassName = levelClassName;
+        this.screenHeight = screenHeight;
+        this.screenWidth = screenWidth;
+        this.seed = seed;
+        this.ticks = ticks;
+        this.inputs = inputs;
+        this.endTick = endTick;
+    }
+
+    /**
+     * Reads a complete recording.
+     *
+     * @param in the stream to read. It is read up to the end marker and not closed.
+     * @return a player for the recording.
+     * @throws IOException if the stream cannot be read or does not hold a complete recording.
+     */
+    public static ReplayPlayer load(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        try {
+            int magic = data.readInt();
+            int version = data.readUnsignedByte();
+            if (magic != ReplayRecorder.MAGIC || version != ReplayRecorder.VERSION) {
+                throw new IOException("Invalid replay header: " + Integer.toHexString(magic) + " v" + version);
+            }
+            String levelClassName = data.readUTF();
+            double screenHeight = data.readDouble();
+            double screenWidth = data.readDouble();
+            long seed = data.readLong();
+
+            long[] ticks = new long[INITIAL_CAPACITY];
+            PlayerInput[] inputs = new PlayerInput[INITIAL_CAPACITY];
+            PlayerInput[] values = PlayerInput.values();
+            int count = 0;
+            long tick = 0;
+            while (true) {
+                long event = readVarLong(data);
+                int code = (int) (event & ReplayRecorder.CODE_MASK);
+                tick += event >>> ReplayRecorder.CODE_BITS;
+                if (code == ReplayRecorder.END_CODE) {
+                    return new ReplayPlayer(levelClassName, screenHeight, screenWidth, seed,
+                            Arrays.copyOf(ticks, count), Arrays.copyOf(inputs, count), tick);
+                }
+                if (code >= values.length) {
+                    throw new IOException("Invalid replay input code: " + code);
+                }
+                if (count == ticks.length) {
+                    ticks = Arrays.copyOf(ticks, count * 2);
+                    inputs = Arrays.copyOf(inputs, count * 2);
+                }
+                ticks[count] = tick;
+                inputs[count] = values[code];
+                count++;
+            }
+        } catch (EOFException e) {
+            throw new IOException("Invalid replay: missing end marker", e);
+        }
+    }
+
+    /**
+     * Reads a complete recording from a file.
+     *
+     * @param file the replay file.
+     * @return a player for the recording.
+     * @throws IOException if the file cannot be read or does not hold a complete recording.
+     */
+    public static ReplayPlayer load(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return load(in);
+        }
+    }
+
+    /**
+     * Builds a fresh instance of the recorded level with the recorded screen size and seed.
+     *
+     * @return the level, ready to be played.
+     * @throws ReflectiveOperationException if the level class cannot be found or instantiated.
+     */
+    public LevelParent createLevel() throws ReflectiveOperationException {
+        LevelParent level = Class.forName(levelClassName)
+                .asSubclass(LevelParent.class)
+                .getConstructor(double.class, double.class, GameRandom.class)
+                .newInstance(screenHeight, screenWidth, new GameRandom(seed));
+        level.addGameScore(new GameScore(0));
+        return level;
+    }
+
+    /**
+     * Runs the level without pacing until it stops or reaches the recorded end tick,
+     * applying each recorded input before the tick it arrived at.
+     *
+     * @param level a level built by {@link #createLevel()} that has not ticked yet.
+     * @return the number of ticks the level ran.
+     */
+    public long play(LevelParent level) {
+        int next = 0;
+        while (!level.isStopped() && level.getTickCount() < endTick) {
+            long tick = level.getTickCount();
+            while (next < inputs.length && ticks[next] <= tick) {
+                level.handleInput(inputs[next++]);
+            }
+            level.updateScene();
+        }
+        return level.getTickCount();
+    }
+
+    /**
+     * Gets the fully qualified class name of the recorded level.
+     *
+     * @return the level class name.
+     */
+    public String getLevelClassName() {
+        return levelClassName;
+    }
+
+    /**
+     * Gets the seed the recorded level was built with.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of recorded inputs.
+     *
+     * @return the input count.
+     */
+    public int getInputCount() {
+        return inputs.length;
+    }
+
+    /**
+     * Gets the tick the recorded level stopped at.
+     *
+     * @return the end tick.
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+
+    /**
+     * Plays every replay file given on the command line and prints how fast each ran.
+     *
+     * @param args the paths of the replay files.
+     * @throws Exception if a replay cannot be read or its level cannot be built.
+     */
+    public static void main(String[] args) throws Exception {
+        for (String arg : args) {
+            ReplayPlayer player = load(Path.of(arg));
+            LevelParent level = player.createLevel();
+            long start = System.nanoTime();
+            long tickCount = player.play(level);
+            double elapsedMillis = (System.nanoTime() - start) / 1e6;
+            System.out.printf("%s: %s seed %d, %d inputs, %d/%d ticks in %.1f ms (%.0f ticks/s), %d kills%n",
+                    arg, level.getClass().getSimpleName(), player.getSeed(), player.getInputCount(),
+                    tickCount, player.getEndTick(), elapsedMillis, tickCount / (elapsedMillis / 1000),
+                    level.getUser().getNumberOfKills());
+            if (TickProfiler.ENABLED) {
+                System.out.println(level.getProfiler().report());
+            }
+        }
+    }
+
+    /**
+     * Reads an unsigned value written by {@link ReplayRecorder#writeVarLong}.
+     *
+     * @param in the stream to read from.
+     * @return the value.
+     * @throws IOException if the stream ends early or the value is longer than 64 bits.
+     */
+    static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid replay varint");
+    }
+}
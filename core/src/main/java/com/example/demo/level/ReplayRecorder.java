@@ -0,0 +1,153 @@
+package com.example.demo.level;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Records the seed and the player inputs of a level so that {@link ReplayPlayer} can run it again.
+ * <p>
+ * A level draws all of its randomness from a seeded generator, so its seed and the tick at which every
+ * input arrived are enough to reproduce it. The file starts with a header holding the level class,
+ * the screen size and the seed. Each input is then written as a single variable-length integer
+ * combining the number of ticks since the previous input with the input itself, so a typical input
+ * takes one or two bytes. The recording ends with an end marker carrying the tick the level stopped at.
+ * </p>
+ */
+public class ReplayRecorder implements AutoCloseable {
+
+    /** The first four bytes of a replay file, "SBRP". */
+    static final int MAGIC = 0x53425250;
+    /**
+     * Version 2: the user's plane moves on both axes at once, so version 1 recordings play differently.
+     * Version 3: the trigger inputs take the input code to four bits.
+     * Version 4: spawn times are drawn by {@link SpawnScheduler}, so earlier recordings play differently.
+     * Version 5: enemies count down to their next shot instead of rolling on every tick.
+     */
+    static final int VERSION = 5;
+
+    /** The number of low bits of an event holding the input code. */
+    static final int CODE_BITS = 4;
+    static final int CODE_MASK = (1 << CODE_BITS) - 1;
+    /** The code of the end marker, after every {@link PlayerInput} ordinal. */
+    static final int END_CODE = CODE_MASK;
+
+    private final DataOutputStream out;
+    private long lastTick;
+    private int inputCount;
+    private boolean finished;
+
+    /**
+     * Starts a recording of the given level and writes its header.
+     *
+     * @param out   the stream the recording is written to. It is closed when the recording is finished.
+     * @param level the level being recorded, which must not have ticked yet.
+     * @param seed  the seed of the generator the level was built with.
+     * @throws IOException if the header cannot be written.
+     */
+    public ReplayRecorder(OutputStream out, LevelParent level, long seed) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.out.writeInt(MAGIC);
+        this.out.writeByte(VERSION);
+        this.out.writeUTF(level.getClass().getName());
+        this.out.writeDouble(level.getScreenHeight());
+        this.out.writeDouble(level.getScreenWidth());
+        this.out.writeLong(seed);
+        this.lastTick = level.getTickCount();
+    }
+
+    /**
+     * Records an input applied before the given tick.
+     * Inputs must be recorded in tick order. Inputs after the recording is finished are ignored.
+     *
+     * @param tick  the number of ticks the level had run when the input arrived.
+     * @param input the input.
+     * @throws IllegalArgumentException if the tick is earlier than the previous input's.
+     * @throws UncheckedIOException     if the input cannot be written.
+     */
+    public void record(long tick, PlayerInput input) {
+        if (finished) {
+            return;
+        }
+        writeEvent(tick, input.ordinal());
+        inputCount++;
+    }
+
+    /**
+     * Writes the end marker and closes the stream. Further calls have no effect.
+     *
+     * @param tick the number of ticks the level had run when it stopped.
+     * @throws UncheckedIOException if the recording cannot be completed.
+     */
+    public void finish(long tick) {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        try (out) {
+            writeEvent(tick, END_CODE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Finishes the recording at the tick of the last recorded input.
+     */
+    @Override
+    public void close() {
+        finish(lastTick);
+    }
+
+    /**
+     * Gets the number of inputs recorded so far.
+     *
+     * @return the input count.
+     */
+    public int getInputCount() {
+        return inputCount;
+    }
+
+    /**
+     * Checks whether the recording has been finished.
+     *
+     * @return {@code true} once the end marker has been written.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Writes one event as the tick delta shifted past the code bits, combined with the code.
+     *
+     * @param tick the tick of the event.
+     * @param code the input ordinal or the end code.
+     */
+    private void writeEvent(long tick, int code) {
+        if (tick < lastTick) {
+            throw new IllegalArgumentException("Invalid replay tick: " + tick + " after " + lastTick);
+        }
+        try {
+            writeVarLong(out, (tick - lastTick) << CODE_BITS | code);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lastTick = tick;
+    }
+
+    /**
+     * Writes an unsigned value seven bits at a time, low bits first, setting the top bit of every byte but the last.
+     *
+     * @param out   the stream to write to.
+     * @param value the value, treated as unsigned.
+     * @throws IOException if the stream cannot be written.
+     */
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
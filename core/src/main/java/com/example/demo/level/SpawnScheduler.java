@@ -0,0 +1,189 @@
+package com.example.demo.level;
+
+import com.example.demo.util.GameRandom;
+
+import java.util.Arrays;
+
+/**
+ * Schedules the spawns of one kind of object in a level, at a declared rate.
+ * <p>
+ * A level has a number of free slots for each kind of object, such as the enemies it is short of its
+ * maximum. Rolling a chance for every free slot on every tick makes each slot fill after a geometrically
+ * distributed number of ticks, the discrete form of a Poisson process. The scheduler draws that number once
+ * when a slot becomes free and keeps the upcoming spawn ticks in ascending order, so {@link #poll(long, int)}
+ * only compares the earliest one with the current tick on ticks where nothing spawns and no slot is freed.
+ * </p>
+ * <p>
+ * Because the wait is memoryless, a change of rate redraws the pending spawns from the current tick without
+ * changing the spawn distribution. The rate, the spawns so far and the next scheduled spawn can be read
+ * for tuning.
+ * </p>
+ */
+public class SpawnScheduler {
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final String name;
+    private final GameRandom random;
+    private double probability;
+    private long[] arrivals;
+    private int pendingCount;
+    private long spawnCount;
+
+    /**
+     * Constructs a scheduler with no free slots.
+     *
+     * @param name        the name of the kind of object spawned, for reports.
+     * @param probability the chance that a free slot fills on any one tick.
+     * @param random      the source of the spawn times.
+     * @throws IllegalArgumentException if the probability is not between 0 and 1.
+     */
+    public SpawnScheduler(String name, double probability, GameRandom random) {
+        this.name = name;
+        this.random = random;
+        this.probability = checkProbability(probability);
+        this.arrivals = new long[4];
+    }
+
+    /**
+     * Spawns due on a tick, given how many slots are free. Newly freed slots are given a spawn tick,
+     * and slots that are no longer free lose theirs.
+     *
+     * @param tick      the current tick.
+     * @param freeSlots the number of objects the level could add now.
+     * @return the number of objects to spawn on this tick.
+     */
+    public int poll(long tick, int freeSlots) {
+        freeSlots = Math.max(freeSlots, 0);
+        if (pendingCount == freeSlots && (pendingCount == 0 || arrivals[0] > tick)) {
+            return 0;
+        }
+        // Memoryless waits: dropping the latest pending spawns leaves the others unchanged.
+        pendingCount = Math.min(pendingCount, freeSlots);
+        while (pendingCount < freeSlots) {
+            insert(tick + drawDelay());
+        }
+        int due = 0;
+        while (due < pendingCount && arrivals[due] <= tick) {
+            due++;
+        }
+        if (due > 0) {
+            System.arraycopy(arrivals, due, arrivals, 0, pendingCount - due);
+            pendingCount -= due;
+            spawnCount += due;
+        }
+        return due;
+    }
+
+    /**
+     * Changes the chance that a free slot fills on any one tick. The pending spawns are redrawn from
+     * the current tick if the chance differs from the current one.
+     *
+     * @param probability the new chance per tick.
+     * @param tick        the current tick.
+     * @throws IllegalArgumentException if the probability is not between 0 and 1.
+     */
+    public void setProbability(double probability, long tick) {
+        if (probability == this.probability) {
+            return;
+        }
+        this.probability = checkProbability(probability);
+        for (int i = 0; i < pendingCount; i++) {
+            arrivals[i] = tick + drawDelay();
+        }
+        Arrays.sort(arrivals, 0, pendingCount);
+    }
+
+    /**
+     * Gets the name of the kind of object spawned.
+     *
+     * @return the scheduler's name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the chance that a free slot fills on any one tick.
+     *
+     * @return the spawn probability per tick.
+     */
+    public double getProbability() {
+        return probability;
+    }
+
+    /**
+     * Gets the mean number of ticks a free slot waits to be filled.
+     *
+     * @return the mean wait in ticks, or infinity if nothing spawns.
+     */
+    public double getMeanIntervalTicks() {
+        return 1 / probability;
+    }
+
+    /**
+     * Gets the number of objects spawned so far.
+     *
+     * @return the spawn count.
+     */
+    public long getSpawnCount() {
+        return spawnCount;
+    }
+
+    /**
+     * Gets the number of free slots waiting for a spawn.
+     *
+     * @return the pending spawn count.
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Gets the tick of the earliest pending spawn.
+     *
+     * @return the tick, or {@link Long#MAX_VALUE} if no spawn is pending.
+     */
+    public long getNextSpawnTick() {
+        return pendingCount == 0 ? NEVER : arrivals[0];
+    }
+
+    /**
+     * Draws the number of ticks until a free slot fills, counting the current tick as zero.
+     *
+     * @return the delay in ticks, or a delay that never arrives if the probability is zero.
+     */
+    private long drawDelay() {
+        return Math.min(random.nextGeometric(probability), NEVER / 2);
+    }
+
+    /**
+     * Adds a pending spawn, keeping the spawns in ascending order.
+     *
+     * @param arrival the tick of the spawn.
+     */
+    private void insert(long arrival) {
+        if (pendingCount == arrivals.length) {
+            arrivals = Arrays.copyOf(arrivals, pendingCount * 2);
+        }
+        int i = pendingCount++;
+        while (i > 0 && arrivals[i - 1] > arrival) {
+            arrivals[i] = arrivals[i - 1];
+            i--;
+        }
+        arrivals[i] = arrival;
+    }
+
+    /**
+     * Checks that a probability lies between 0 and 1.
+     *
+     * @param probability the probability to check.
+     * @return the probability.
+     * @throws IllegalArgumentException if it does not.
+     */
+    private static double checkProbability(double probability) {
+        if (!(probability >= 0 && probability <= 1)) {
+            throw new IllegalArgumentException("Invalid spawn probability: " + probability);
+        }
+        return probability;
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.demo.util;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.actor.ProjectileBuffer;
+
+import java.util.List;
+
+/**
+ * Culling stage that removes actors which have left the world or outlived their lifetime.
+ * <p>
+ * Once per tick the level passes each of its actor lists to {@link #cull(List)}. Every actor is aged by
+ * one tick and marked for removal if its bounding box lies entirely beyond any of the four screen edges
+ * by more than its {@linkplain ActiveActorDestructible#getCullMargin() exit margin}, or if it has lived
+ * longer than its {@linkplain ActiveActorDestructible#getMaxLifetimeTicks() lifetime}. Marked actors are
+ * removed by the level's usual removal pass. The culler counts the actors it culled and the actors left
+ * alive, so a long session can be checked to stay bounded.
+ * </p>
+ * <p>
+ * Projectiles are culled through {@link #cull(ProjectileBuffer)}, which works on the buffer's primitive
+ * columns instead of the projectile objects.
+ * </p>
+ */
+public class ActorCuller {
+
+    private final double worldWidth;
+    private final double worldHeight;
+    private long culledOutOfBoundsCount;
+    private long culledExpiredCount;
+    private int liveCount;
+    private int passLiveCount;
+
+    /**
+     * Constructs a culler for a world of the given size, with its origin at the top left of the screen.
+     *
+     * @param worldWidth  the width of the world in pixels.
+     * @param worldHeight the height of the world in pixels.
+     */
+    public ActorCuller(double worldWidth, double worldHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    /**
+     * Starts a culling pass. The live count of the previous pass is kept until {@link #endPass()}.
+     */
+    public void beginPass() {
+        passLiveCount = 0;
+    }
+
+    /**
+     * Ages the actors in the list and marks those out of bounds or past their lifetime for removal.
+     * Actors already destroyed or marked for removal are skipped.
+     *
+     * @param actors the actors to cull.
+     */
+    public void cull(List<? extends ActiveActorDestructible> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (actor.isDestroyed() || actor.getShouldRemove()) {
+                continue;
+            }
+            actor.incrementAge();
+            if (isOutOfBounds(actor)) {
+                actor.remove();
+                culledOutOfBoundsCount++;
+            } else if (actor.getAgeTicks() > actor.getMaxLifetimeTicks()) {
+                actor.remove();
+                culledExpiredCount++;
+            } else {
+                passLiveCount++;
+            }
+        }
+    }
+
+    /**
+     * Ages the projectiles in a buffer and marks those out of bounds or past their lifetime for removal.
+     * Projectiles already destroyed or marked for removal are skipped.
+     *
+     * @param buffer the buffer holding the projectiles to cull.
+     */
+    public void cull(ProjectileBuffer buffer) {
+        passLiveCount += buffer.cull(this);
+    }
+
+    /**
+     * Counts an actor culled outside {@link #cull(List)}, such as by a {@link ProjectileBuffer}.
+     *
+     * @param expired {@code true} if the actor outlived its lifetime, {@code false} if it left the world.
+     */
+    public void countCulled(boolean expired) {
+        if (expired) {
+            culledExpiredCount++;
+        } else {
+            culledOutOfBoundsCount++;
+        }
+    }
+
+    /**
+     * Finishes a culling pass and publishes its live count.
+     */
+    public void endPass() {
+        liveCount = passLiveCount;
+    }
+
+    /**
+     * Checks whether the actor lies entirely beyond a screen edge by more than its exit margin.
+     *
+     * @param actor the actor to check.
+     * @return {@code true} if the actor has left the world, otherwise {@code false}.
+     */
+    public boolean isOutOfBounds(ActiveActorDestructible actor) {
+        return isOutOfBounds(actor.getMinX(), actor.getMinY(), actor.getMaxX(), actor.getMaxY(), actor.getCullMargin());
+    }
+
+    /**
+     * Checks whether a bounding box lies entirely beyond a screen edge by more than an exit margin.
+     *
+     * @param minX   the left edge of the box.
+     * @param minY   the top edge of the box.
+     * @param maxX   the right edge of the box.
+     * @param maxY   the bottom edge of the box.
+     * @param margin the exit margin in pixels.
+     * @return {@code true} if the box has left the world, otherwise {@code false}.
+     */
+    public boolean isOutOfBounds(double minX, double minY, double maxX, double maxY, double margin) {
+        return maxX < -margin || minX > worldWidth + margin || maxY < -margin || minY > worldHeight + margin;
+    }
+
+    /**
+     * Gets the number of actors left alive by the last culling pass.
+     *
+     * @return the live actor count.
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    /**
+     * Gets the number of actors culled for leaving the world.
+     *
+     * @return the out-of-bounds cull count.
+     */
+    public long getCulledOutOfBoundsCount() {
+        return culledOutOfBoundsCount;
+    }
+
+    /**
+     * Gets the number of actors culled for exceeding their lifetime.
+     *
+     * @return the expired cull count.
+     */
+    public long getCulledExpiredCount() {
+        return culledExpiredCount;
+    }
+
+    /**
+     * Gets the total number of actors culled.
+     *
+     * @return the cull count.
+     */
+    public long getCulledCount() {
+        return culledOutOfBoundsCount + culledExpiredCount;
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.demo.util;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.actor.Boss;
+import com.example.demo.actor.UserPlane;
+
+import java.util.List;
+
+/**
+ * Utility class for handling various collision scenarios in the game.
+ * Pair tests read the primitive bounding boxes kept by each {@link ActiveActorDestructible},
+ * so a collision pass does not allocate.
+ */
+public class CollisionHandler {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private CollisionHandler() {}
+
+    /**
+     * Handles collisions between user projectiles and enemy units.
+     *
+     * @param userPlane       the user's plane.
+     * @param userProjectiles the list of user projectiles.
+     * @param enemyUnits      the list of enemy units.
+     * @return the score increment based on successful hits.
+     */
+    public static int handleUserProjectileCollisions(
+            UserPlane userPlane,
+            List<ActiveActorDestructible> userProjectiles,
+            List<ActiveActorDestructible> enemyUnits
+    ) {
+        int scoreIndex = 0;
+
+        for (ActiveActorDestructible userProjectile : userProjectiles) {
+            for (ActiveActorDestructible enemyUnit : enemyUnits) {
+                if (intersects(userProjectile, enemyUnit)) {
+                    userProjectile.takeDamage();
+                    enemyUnit.takeDamage();
+                    scoreIndex += GameScoreCalculator.calculateUserScoreByPosition(userPlane);
+                }
+            }
+        }
+
+        return scoreIndex;
+    }
+
+    /**
+     * Handles collisions between user projectiles and enemy units indexed in a {@link SpatialHashGrid}.
+     * Only enemies sharing a grid cell with a projectile are tested, in the same order as
+     * {@link #handleUserProjectileCollisions(UserPlane, List, List)}.
+     *
+     * @param userPlane       the user's plane.
+     * @param userProjectiles the list of user projectiles.
+     * @param enemyGrid       the grid indexing the enemy units.
+     * @return the score increment based on successful hits.
+     */
+    public static int handleUserProjectileCollisions(
+            UserPlane userPlane,
+            List<ActiveActorDestructible> userProjectiles,
+            SpatialHashGrid enemyGrid
+    ) {
+        int scoreIndex = 0;
+
+        for (int p = 0; p < userProjectiles.size(); p++) {
+            ActiveActorDestructible userProjectile = userProjectiles.get(p);
+            int candidateCount = enemyGrid.query(userProjectile);
+            for (int i = 0; i < candidateCount; i++) {
+                ActiveActorDestructible enemyUnit = enemyGrid.getCandidate(i);
+                if (intersects(userProjectile, enemyUnit)) {
+                    userProjectile.takeDamage();
+                    enemyUnit.takeDamage();
+                    scoreIndex += GameScoreCalculator.calculateUserScoreByPosition(userPlane);
+                }
+            }
+        }
+
+        return scoreIndex;
+    }
+
+    /**
+     * Handles collisions between user projectiles and a boss unit.
+     *
+     * @param userPlane       the user's plane.
+     * @param userProjectiles the list of user projectiles.
+     * @param boss            the boss unit.
+     * @return the score increment based on successful hits.
+     */
+    public static int handleUserProjectileBossCollisions(
+            UserPlane userPlane,
+            List<ActiveActorDestructible> userProjectiles,
+            Boss boss
+    ) {
+        int scoreIndex = 0;
+
+        for (ActiveActorDestructible userProjectile : userProjectiles) {
+            if (intersects(userProjectile, boss)) {
+                userProjectile.takeDamage();
+
+                if (!boss.getIsShielded()) {
+                    boss.takeDamage();
+                    scoreIndex += GameScoreCalculator.calculateUserScoreByPosition(userPlane);
+                }
+            }
+        }
+
+        return scoreIndex;
+    }
+
+    /**
+     * Handles collisions between enemy projectiles and friendly units.
+     *
+     * @param enemyProjectiles the list of enemy projectiles.
+     * @param friendlyUnits    the list of friendly units.
+     * @return the number of times a friendly unit was hit.
+     */
+    public static int handleEnemyProjectileCollisions(
+            List<ActiveActorDestructible> enemyProjectiles,
+            List<ActiveActorDestructible> friendlyUnits
+    ) {
+        int hits = 0;
+        for (ActiveActorDestructible enemyProjectile : enemyProjectiles) {
+            for (ActiveActorDestructible friendlyUnit : friendlyUnits) {
+                if (intersects(enemyProjectile, friendlyUnit)) {
+                    enemyProjectile.takeDamage();
+                    friendlyUnit.takeDamage();
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Handles collisions between enemy projectiles and friendly units indexed in a {@link SpatialHashGrid}.
+     * Only friendly units sharing a grid cell with a projectile are tested.
+     *
+     * @param enemyProjectiles the list of enemy projectiles.
+     * @param friendlyGrid     the grid indexing the friendly units.
+     * @return the number of times a friendly unit was hit.
+     */
+    public static int handleEnemyProjectileCollisions(
+            List<ActiveActorDestructible> enemyProjectiles,
+            SpatialHashGrid friendlyGrid
+    ) {
+        int hits = 0;
+        for (int p = 0; p < enemyProjectiles.size(); p++) {
+            ActiveActorDestructible enemyProjectile = enemyProjectiles.get(p);
+            int candidateCount = friendlyGrid.query(enemyProjectile);
+            for (int i = 0; i < candidateCount; i++) {
+                ActiveActorDestructible friendlyUnit = friendlyGrid.getCandidate(i);
+                if (intersects(enemyProjectile, friendlyUnit)) {
+                    enemyProjectile.takeDamage();
+                    friendlyUnit.takeDamage();
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Handles collisions between friendly planes and enemy planes.
+     *
+     * @param friendlyUnits the list of friendly units.
+     * @param enemyUnits    the list of enemy units.
+     * @return the number of times a friendly unit was hit.
+     */
+    public static int handlePlaneCollisions(
+            List<ActiveActorDestructible> friendlyUnits,
+            List<ActiveActorDestructible> enemyUnits
+    ) {
+        int hits = 0;
+        for (ActiveActorDestructible friendlyUnit : friendlyUnits) {
+            for (ActiveActorDestructible enemyUnit : enemyUnits) {
+                if (intersects(friendlyUnit, enemyUnit)) {
+                    friendlyUnit.takeDamage();
+                    enemyUnit.destroy();
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Handles collisions between friendly planes and enemy planes indexed in a {@link SpatialHashGrid}.
+     * Only enemies sharing a grid cell with a friendly plane are tested.
+     *
+     * @param friendlyUnits the list of friendly units.
+     * @param enemyGrid     the grid indexing the enemy units.
+     * @return the number of times a friendly unit was hit.
+     */
+    public static int handlePlaneCollisions(
+            List<ActiveActorDestructible> friendlyUnits,
+            SpatialHashGrid enemyGrid
+    ) {
+        int hits = 0;
+        for (int f = 0; f < friendlyUnits.size(); f++) {
+            ActiveActorDestructible friendlyUnit = friendlyUnits.get(f);
+            int candidateCount = enemyGrid.query(friendlyUnit);
+            for (int i = 0; i < candidateCount; i++) {
+                ActiveActorDestructible enemyUnit = enemyGrid.getCandidate(i);
+                if (intersects(friendlyUnit, enemyUnit)) {
+                    friendlyUnit.takeDamage();
+                    enemyUnit.destroy();
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Handles collisions between the user's plane and health points.
+     *
+     * @param playerInitHealth the initial health of the player.
+     * @param userPlane        the user's plane.
+     * @param healthPoints     the list of health points.
+     * @return the number of health points collected.
+     */
+    public static int handleUserHealthPointCollisions(
+            int playerInitHealth,
+            UserPlane userPlane,
+            List<? extends ActiveActorDestructible> healthPoints
+    ) {
+        int collected = 0;
+        for (ActiveActorDestructible healthPoint : healthPoints) {
+            if (intersects(userPlane, healthPoint)) {
+                if (userPlane.getHealth() < playerInitHealth) {
+                    userPlane.repairDamage();
+                }
+                healthPoint.destroy();
+                collected++;
+            }
+        }
+        return collected;
+    }
+
+    /**
+     * Handles collisions between the user's plane and boss fire deactivators.
+     *
+     * @param userPlane        the user's plane.
+     * @param boss             the boss unit whose fire needs to be deactivated.
+     * @param fireDeactivators the list of fire deactivator objects.
+     * @return the number of fire deactivators the user's plane touched.
+     *
+     * If a collision is detected between the user's plane and any fire deactivator:
+     * <ul>
+     *     <li>The boss's fire is deactivated.</li>
+     *     <li>All fire deactivators involved in the collision are destroyed.</li>
+     * </ul>
+     */
+    public static int handleUserBossFireDeactivatorCollisions(
+            UserPlane userPlane,
+            Boss boss,
+            List<? extends ActiveActorDestructible> fireDeactivators
+    ) {
+        int collected = 0;
+
+        for (ActiveActorDestructible fireDeactivator : fireDeactivators) {
+            if (intersects(userPlane, fireDeactivator)) {
+                collected++;
+                boss.deactivateFire();
+            }
+        }
+
+        if(collected > 0){
+            for (ActiveActorDestructible fireDeactivator : fireDeactivators) {
+                fireDeactivator.destroy();
+            }
+        }
+        return collected;
+    }
+
+    /**
+     * Checks whether the bounding boxes of two actors intersect.
+     * Boxes that only touch at an edge count as intersecting.
+     *
+     * @param first  the first actor.
+     * @param second the second actor.
+     * @return {@code true} if the bounding boxes intersect, otherwise {@code false}.
+     */
+    public static boolean intersects(ActiveActorDestructible first, ActiveActorDestructible second) {
+        return first.getMinX() <= second.getMaxX()
+                && first.getMaxX() >= second.getMinX()
+                && first.getMinY() <= second.getMaxY()
+                && first.getMaxY() >= second.getMinY();
+    }
+}
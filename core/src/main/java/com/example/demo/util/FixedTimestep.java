@@ -0,0 +1,133 @@
+package com.example.demo.util;
+
+/**
+ * Accumulator that turns variable frame times into a whole number of fixed-length simulation ticks.
+ * <p>
+ * Each frame adds the time elapsed since the previous frame to the accumulator, and one tick is due
+ * for every full tick length in it. At most {@code maxTicksPerFrame} ticks are run per frame so a slow
+ * tick cannot make the next frame run even more ticks; the time beyond that is discarded and counted
+ * as dropped ticks. The time left in the accumulator gives the interpolation factor used to draw
+ * actors between their last two simulated positions.
+ * </p>
+ */
+public class FixedTimestep {
+
+    private final long tickNanos;
+    private final int maxTicksPerFrame;
+
+    private long lastFrameNanos;
+    private long accumulatorNanos;
+    private long tickCount;
+    private long frameCount;
+    private long caughtUpTicks;
+    private long droppedTicks;
+
+    /**
+     * Constructs a timestep with the given tick length and catch-up cap.
+     *
+     * @param tickNanos        the length of one simulation tick in nanoseconds.
+     * @param maxTicksPerFrame the maximum number of ticks run in a single frame.
+     * @throws IllegalArgumentException if either value is not positive.
+     */
+    public FixedTimestep(long tickNanos, int maxTicksPerFrame) {
+        if (tickNanos <= 0 || maxTicksPerFrame <= 0) {
+            throw new IllegalArgumentException("Invalid timestep: " + tickNanos + "ns / " + maxTicksPerFrame);
+        }
+        this.tickNanos = tickNanos;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+        reset();
+    }
+
+    /**
+     * Forgets the previous frame time and empties the accumulator.
+     * Called when the loop starts or resumes, so the time spent stopped is not simulated.
+     */
+    public void reset() {
+        lastFrameNanos = -1;
+        accumulatorNanos = 0;
+    }
+
+    /**
+     * Accounts for a new frame and returns the number of ticks to run for it.
+     * The first frame after a reset only records the frame time and runs no ticks.
+     *
+     * @param nowNanos the timestamp of the frame in nanoseconds.
+     * @return the number of ticks to run, between 0 and the catch-up cap.
+     */
+    public int advance(long nowNanos) {
+        frameCount++;
+        if (lastFrameNanos < 0) {
+            lastFrameNanos = nowNanos;
+            return 0;
+        }
+        accumulatorNanos += Math.max(0, nowNanos - lastFrameNanos);
+        lastFrameNanos = nowNanos;
+
+        long due = accumulatorNanos / tickNanos;
+        int ticks = (int) Math.min(due, maxTicksPerFrame);
+        accumulatorNanos -= ticks * tickNanos;
+        if (due > ticks) {
+            droppedTicks += due - ticks;
+            accumulatorNanos %= tickNanos;
+        }
+        if (ticks > 1) {
+            caughtUpTicks += ticks - 1;
+        }
+        tickCount += ticks;
+        return ticks;
+    }
+
+    /**
+     * Returns how far the current frame is between the last tick and the next one.
+     *
+     * @return the interpolation factor, from 0 inclusive to 1 exclusive.
+     */
+    public double getAlpha() {
+        return (double) accumulatorNanos / tickNanos;
+    }
+
+    /**
+     * Gets the length of one simulation tick.
+     *
+     * @return the tick length in nanoseconds.
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * Gets the number of ticks run since the timestep was constructed.
+     *
+     * @return the tick count.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the number of frames seen since the timestep was constructed.
+     *
+     * @return the frame count.
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Gets the number of extra ticks run to catch up, beyond the first tick of a frame.
+     *
+     * @return the caught-up tick count.
+     */
+    public long getCaughtUpTicks() {
+        return caughtUpTicks;
+    }
+
+    /**
+     * Gets the number of ticks discarded because a frame exceeded the catch-up cap.
+     *
+     * @return the dropped tick count.
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+}
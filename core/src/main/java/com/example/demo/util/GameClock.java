@@ -0,0 +1,108 @@
+package com.example.demo.util;
+
+/**
+ * Game time measured in simulation ticks.
+ * <p>
+ * The clock only advances when the level ticks, so it stops while the game is paused and runs as fast
+ * as the ticks do in headless runs and replays. Durations are given in milliseconds of game time and
+ * converted to a whole number of ticks, rounded up, so timed behavior never needs the wall clock.
+ * </p>
+ */
+public class GameClock {
+
+    /**
+     * The length of a tick in the game, in milliseconds.
+     */
+    public static final long DEFAULT_TICK_MILLIS = 50;
+
+    private final long tickMillis;
+    private long ticks;
+
+    /**
+     * Constructs a clock at tick 0 with the default tick length.
+     */
+    public GameClock() {
+        this(DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * Constructs a clock at tick 0.
+     *
+     * @param tickMillis the length of a tick in milliseconds.
+     * @throws IllegalArgumentException if the tick length is not positive.
+     */
+    public GameClock(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Invalid tick length: " + tickMillis + "ms");
+        }
+        this.tickMillis = tickMillis;
+    }
+
+    /**
+     * Advances the clock by one tick.
+     */
+    public void tick() {
+        ticks++;
+    }
+
+    /**
+     * Gets the number of ticks since the clock was created.
+     *
+     * @return the current tick.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the length of a tick.
+     *
+     * @return the tick length in milliseconds.
+     */
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Gets the game time since the clock was created.
+     *
+     * @return the elapsed game time in milliseconds.
+     */
+    public long getElapsedMillis() {
+        return ticks * tickMillis;
+    }
+
+    /**
+     * Converts a duration to ticks, rounding up so the duration is never cut short.
+     *
+     * @param millis the duration in milliseconds.
+     * @return the number of ticks covering the duration.
+     * @throws IllegalArgumentException if the duration is negative.
+     */
+    public long ticksFor(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Invalid duration: " + millis + "ms");
+        }
+        return (millis + tickMillis - 1) / tickMillis;
+    }
+
+    /**
+     * Gets the tick at which the given duration from now has passed.
+     *
+     * @param millis the duration in milliseconds.
+     * @return the deadline tick.
+     */
+    public long deadlineAfter(long millis) {
+        return ticks + ticksFor(millis);
+    }
+
+    /**
+     * Checks whether the clock has reached a deadline.
+     *
+     * @param deadline the deadline tick.
+     * @return {@code true} if the current tick is at or past the deadline.
+     */
+    public boolean hasReached(long deadline) {
+        return ticks >= deadline;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.demo.util;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Source of randomness for a level and its actors.
+ * <p>
+ * Backed by a {@link SplittableRandom}, which is fast and unsynchronized, unlike the generator shared by
+ * {@link Math#random()}. A game is seeded once from the command line and every level gets its own generator
+ * split from that seed, so a run can be replayed exactly, for example when benchmarking. A level and its
+ * actors are only used from the game loop thread, so the generator is not shared between threads.
+ * </p>
+ */
+public class GameRandom {
+
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a generator with an unpredictable seed.
+     */
+    public GameRandom() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a generator that always produces the same sequence for the same seed.
+     *
+     * @param seed the seed.
+     */
+    public GameRandom(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Wraps an existing generator.
+     *
+     * @param random the generator to draw from.
+     */
+    private GameRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Parses a seed given on the command line.
+     *
+     * @param seed the seed as a decimal number.
+     * @return a generator seeded with it.
+     * @throws IllegalArgumentException if the seed is not a valid long.
+     */
+    public static GameRandom fromSeed(String seed) {
+        try {
+            return new GameRandom(Long.parseLong(seed.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid seed: " + seed, e);
+        }
+    }
+
+    /**
+     * Creates an independent generator from this one, for example for the next level.
+     * The new generator's sequence is fully determined by this generator's state.
+     *
+     * @return the new generator.
+     */
+    public GameRandom split() {
+        return new GameRandom(random.split());
+    }
+
+    /**
+     * Returns a uniformly distributed long, for example to seed a new generator that is recorded in a replay.
+     *
+     * @return the next value.
+     */
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    /**
+     * Returns a uniformly distributed value from 0 inclusive to 1 exclusive, like {@link Math#random()}.
+     *
+     * @return the next value.
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    /**
+     * Returns a uniformly distributed value between two bounds.
+     * The bounds may be given in either order.
+     *
+     * @param lowerBound the value returned for a draw of 0.
+     * @param upperBound the value approached for a draw close to 1.
+     * @return the next value.
+     */
+    public double nextDouble(double lowerBound, double upperBound) {
+        return lowerBound + random.nextDouble() * (upperBound - lowerBound);
+    }
+
+    /**
+     * Returns {@code true} with the given probability.
+     *
+     * @param probability the probability, from 0 to 1.
+     * @return whether the event happens.
+     */
+    public boolean chance(double probability) {
+        return random.nextDouble() < probability;
+    }
+
+    /**
+     * Returns the number of failed trials before the first success, for trials that each succeed with the
+     * given probability. Drawing this once and counting it down gives the same distribution of successes as
+     * calling {@link #chance(double)} on every trial, at the cost of a single draw.
+     *
+     * @param probability the probability of success per trial, from 0 to 1.
+     * @return the number of trials to wait, 0 if the next trial succeeds, or {@link Long#MAX_VALUE} if none does.
+     */
+    public long nextGeometric(double probability) {
+        if (probability >= 1) {
+            return 0;
+        }
+        if (!(probability > 0)) {
+            return Long.MAX_VALUE;
+        }
+        double trials = Math.floor(Math.log1p(-random.nextDouble()) / Math.log1p(-probability));
+        return trials >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) trials;
+    }
+
+    /**
+     * Returns a uniformly distributed integer from 0 inclusive to the bound exclusive.
+     *
+     * @param bound the exclusive upper bound, which must be positive.
+     * @return the next value.
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Shuffles a list in place with the Fisher-Yates algorithm.
+     *
+     * @param list the list to shuffle.
+     * @param <T>  the type of element in the list.
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            T element = list.get(i);
+            list.set(i, list.get(j));
+            list.set(j, element);
+        }
+    }
+}
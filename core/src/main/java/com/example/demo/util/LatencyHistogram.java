@@ -0,0 +1,137 @@
+package com.example.demo.util;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size histogram of durations in nanoseconds.
+ * <p>
+ * Bucket {@code b} counts durations of up to {@code 2^b} nanoseconds, so 64 buckets cover every
+ * {@code long} value and recording a sample is a couple of arithmetic operations with no allocation.
+ * Percentiles are reported as the upper bound of the bucket they fall in, which is accurate to a
+ * factor of two and enough to tell which phase of a tick is slow.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = 64;
+
+    private final long[] buckets;
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+        this.buckets = new long[BUCKET_COUNT];
+    }
+
+    /**
+     * Records a single duration. Negative durations are counted as zero.
+     *
+     * @param nanos the duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        long sample = Math.max(0, nanos);
+        buckets[bucketOf(sample)]++;
+        count++;
+        totalNanos += sample;
+        if (sample > maxNanos) {
+            maxNanos = sample;
+        }
+    }
+
+    /**
+     * Clears every recorded sample.
+     */
+    public void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    /**
+     * Gets the number of recorded samples.
+     *
+     * @return the sample count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean of the recorded samples.
+     *
+     * @return the mean in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Gets the largest recorded sample.
+     *
+     * @return the maximum in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Gets an upper bound for the given percentile of the recorded samples.
+     *
+     * @param percentile the percentile, from 0 to 100.
+     * @return the upper bound of the bucket holding the percentile in nanoseconds, capped at the maximum,
+     *         or 0 if nothing has been recorded.
+     * @throws IllegalArgumentException if the percentile is outside 0 to 100.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Invalid percentile: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int b = 0; b < BUCKET_COUNT; b++) {
+            seen += buckets[b];
+            if (seen >= rank) {
+                return Math.min(maxNanos, upperBoundOf(b));
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Gets the number of samples in a bucket.
+     *
+     * @param bucket the bucket index, from 0 to 63.
+     * @return the number of samples in the bucket.
+     */
+    public long getBucketCount(int bucket) {
+        return buckets[bucket];
+    }
+
+    /**
+     * Finds the bucket for a duration: the smallest {@code b} with {@code nanos <= 2^b}.
+     *
+     * @param nanos a non-negative duration.
+     * @return the bucket index.
+     */
+    private static int bucketOf(long nanos) {
+        return nanos <= 1 ? 0 : Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(nanos - 1));
+    }
+
+    /**
+     * Gets the largest duration counted by a bucket.
+     *
+     * @param bucket the bucket index.
+     * @return the upper bound in nanoseconds.
+     */
+    private static long upperBoundOf(int bucket) {
+        return bucket >= 63 ? Long.MAX_VALUE : 1L << bucket;
+    }
+}
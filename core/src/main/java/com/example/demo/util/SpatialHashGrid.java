@@ -0,0 +1,201 @@
+package com.example.demo.util;
+
+import com.example.demo.actor.ActiveActorDestructible;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform grid broadphase used to limit collision checks to actors in nearby cells.
+ * <p>
+ * The grid covers the game screen in square cells. Actors are bucketed into every cell their
+ * bounds overlap, and actors outside the screen are clamped into the border cells, so a query
+ * never misses a candidate. The grid is rebuilt from the actors' positions every tick using
+ * counting sort into flat arrays that are reused between ticks.
+ * </p>
+ */
+public class SpatialHashGrid {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+
+    /** Start offset of each cell in {@link #cellEntries}; has one extra slot for the end offset. */
+    private final int[] cellStart;
+    private final int[] cellFill;
+    private int[] cellEntries;
+
+    private int[] minColumns;
+    private int[] maxColumns;
+    private int[] minRows;
+    private int[] maxRows;
+
+    private int[] visitStamps;
+    private int currentStamp;
+    private int[] candidates;
+    private int candidateCount;
+
+    private List<? extends ActiveActorDestructible> actors = List.of();
+
+    /**
+     * Constructs a grid covering the given world size.
+     *
+     * @param worldWidth  the width of the area covered by the grid.
+     * @param worldHeight the height of the area covered by the grid.
+     * @param cellSize    the width and height of a single cell.
+     * @throws IllegalArgumentException if any dimension is not positive.
+     */
+    public SpatialHashGrid(double worldWidth, double worldHeight, double cellSize) {
+        if (worldWidth <= 0 || worldHeight <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("Invalid grid dimensions: " + worldWidth + "x" + worldHeight + " / " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil(worldWidth / cellSize);
+        this.rows = (int) Math.ceil(worldHeight / cellSize);
+        this.cellStart = new int[columns * rows + 1];
+        this.cellFill = new int[columns * rows];
+        this.cellEntries = new int[INITIAL_CAPACITY];
+        this.minColumns = new int[INITIAL_CAPACITY];
+        this.maxColumns = new int[INITIAL_CAPACITY];
+        this.minRows = new int[INITIAL_CAPACITY];
+        this.maxRows = new int[INITIAL_CAPACITY];
+        this.visitStamps = new int[INITIAL_CAPACITY];
+        this.candidates = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Rebuckets the given actors from their current positions.
+     * The grid keeps a reference to the list until the next rebuild.
+     *
+     * @param actors the actors to index.
+     */
+    public void rebuild(List<? extends ActiveActorDestructible> actors) {
+        this.actors = actors;
+        int actorCount = actors.size();
+        ensureActorCapacity(actorCount);
+        Arrays.fill(cellStart, 0);
+
+        int entryCount = 0;
+        for (int i = 0; i < actorCount; i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            minColumns[i] = toColumn(actor.getMinX());
+            maxColumns[i] = toColumn(actor.getMaxX());
+            minRows[i] = toRow(actor.getMinY());
+            maxRows[i] = toRow(actor.getMaxY());
+            for (int row = minRows[i]; row <= maxRows[i]; row++) {
+                for (int column = minColumns[i]; column <= maxColumns[i]; column++) {
+                    cellStart[row * columns + column + 1]++;
+                }
+            }
+            entryCount += (maxRows[i] - minRows[i] + 1) * (maxColumns[i] - minColumns[i] + 1);
+        }
+
+        for (int cell = 0; cell < cellFill.length; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+            cellFill[cell] = cellStart[cell];
+        }
+
+        if (cellEntries.length < entryCount) {
+            cellEntries = new int[Math.max(entryCount, cellEntries.length * 2)];
+        }
+        for (int i = 0; i < actorCount; i++) {
+            for (int row = minRows[i]; row <= maxRows[i]; row++) {
+                for (int column = minColumns[i]; column <= maxColumns[i]; column++) {
+                    cellEntries[cellFill[row * columns + column]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the indexed actors sharing at least one cell with the given actor's bounding box.
+     * Candidates are deduplicated and ordered by their index in the indexed list, and are
+     * read back with {@link #getCandidate(int)}. They still need an exact intersection test.
+     *
+     * @param actor the actor whose bounding box is queried.
+     * @return the number of candidates found.
+     */
+    public int query(ActiveActorDestructible actor) {
+        int fromColumn = toColumn(actor.getMinX());
+        int toColumn = toColumn(actor.getMaxX());
+        int fromRow = toRow(actor.getMinY());
+        int toRow = toRow(actor.getMaxY());
+
+        currentStamp++;
+        candidateCount = 0;
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                int cell = row * columns + column;
+                for (int entry = cellStart[cell]; entry < cellStart[cell + 1]; entry++) {
+                    int index = cellEntries[entry];
+                    if (visitStamps[index] != currentStamp) {
+                        visitStamps[index] = currentStamp;
+                        candidates[candidateCount++] = index;
+                    }
+                }
+            }
+        }
+        Arrays.sort(candidates, 0, candidateCount);
+        return candidateCount;
+    }
+
+    /**
+     * Retrieves a candidate collected by the last {@link #query(ActiveActorDestructible)}.
+     *
+     * @param i the position of the candidate, from 0 to the query result exclusive.
+     * @return the candidate actor.
+     */
+    public ActiveActorDestructible getCandidate(int i) {
+        return actors.get(candidates[i]);
+    }
+
+    /**
+     * Returns the actors indexed by the last rebuild.
+     *
+     * @return the indexed actors.
+     */
+    public List<? extends ActiveActorDestructible> getActors() {
+        return actors;
+    }
+
+    /**
+     * Converts an X coordinate to a column, clamping to the grid.
+     *
+     * @param x the X coordinate.
+     * @return the column index.
+     */
+    private int toColumn(double x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x / cellSize)));
+    }
+
+    /**
+     * Converts a Y coordinate to a row, clamping to the grid.
+     *
+     * @param y the Y coordinate.
+     * @return the row index.
+     */
+    private int toRow(double y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / cellSize)));
+    }
+
+    /**
+     * Grows the per-actor arrays to hold at least the given number of actors.
+     *
+     * @param actorCount the number of actors to hold.
+     */
+    private void ensureActorCapacity(int actorCount) {
+        if (minColumns.length >= actorCount) {
+            return;
+        }
+        int capacity = Math.max(actorCount, minColumns.length * 2);
+        minColumns = new int[capacity];
+        maxColumns = new int[capacity];
+        minRows = new int[capacity];
+        maxRows = new int[capacity];
+        visitStamps = new int[capacity];
+        candidates = new int[capacity];
+        currentStamp = 0;
+    }
+}
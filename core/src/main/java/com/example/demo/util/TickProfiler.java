@@ -0,0 +1,216 @@
+package com.example.demo.util;
+
+import java.util.Arrays;
+
+/**
+ * Records how long each phase of a level tick takes, together with actor and scene-graph counts.
+ * <p>
+ * Profiling is switched on by starting the game with {@code -Ddemo.profile=true}. The switch is read
+ * once into {@link #ENABLED}, a compile-time constant for the JIT, so when it is off every call below
+ * reduces to returning zero and is optimised away. Phases are timed by chaining laps:
+ * </p>
+ * <pre>
+ *     long time = profiler.start();
+ *     updateActors();
+ *     time = profiler.lap(TickProfiler.Phase.UPDATE_ACTORS, time);
+ * </pre>
+ * <p>
+ * Each phase has a {@link LatencyHistogram}; gauges keep the latest and peak value of each count.
+ * </p>
+ */
+public class TickProfiler {
+
+    /** Whether profiling is enabled for this run. */
+    public static final boolean ENABLED = Boolean.getBoolean("demo.profile");
+
+    /**
+     * The timed phases of a tick, plus the tick as a whole, the frame render, and the delay from a key event
+     * to the tick that samples it.
+     */
+    public enum Phase {
+        SAVE_POSITIONS,
+        SPAWN_ENEMIES,
+        SPAWN_TRANSIENT_OBJECTS,
+        FIRE_USER_WEAPON,
+        UPDATE_ACTORS,
+        GENERATE_ENEMY_FIRE,
+        COUNT_ENEMIES,
+        ENEMY_PENETRATION,
+        GENERIC_COLLISIONS,
+        HEALTH_POINT_COLLISIONS,
+        SCHEDULED_EVENTS,
+        CULL_ACTORS,
+        REMOVE_DESTROYED_ACTORS,
+        ANIMATE_BACKGROUND,
+        CHECK_GAME_OVER,
+        TICK,
+        RENDER,
+        INPUT_LATENCY
+    }
+
+    /**
+     * The counts sampled once per tick or frame.
+     */
+    public enum Gauge {
+        FRIENDLY_UNITS,
+        ENEMY_UNITS,
+        USER_PROJECTILES,
+        ENEMY_PROJECTILES,
+        HEALTH_POINTS,
+        FIRE_DEACTIVATORS,
+        SCENE_NODES,
+        VISIBLE_ACTOR_NODES,
+        SCENE_MUTATIONS,
+        CANVAS_ACTORS,
+        HUD_UPDATES,
+        CAUGHT_UP_TICKS,
+        DROPPED_TICKS
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final Gauge[] GAUGES = Gauge.values();
+
+    private final LatencyHistogram[] histograms;
+    private final int[] gauges;
+    private final int[] peakGauges;
+
+    /**
+     * Constructs a profiler with empty histograms and gauges.
+     */
+    public TickProfiler() {
+        histograms = new LatencyHistogram[PHASES.length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        gauges = new int[GAUGES.length];
+        peakGauges = new int[GAUGES.length];
+    }
+
+    /**
+     * Reads the clock at the start of a sequence of phases.
+     *
+     * @return the current time in nanoseconds, or 0 when profiling is disabled.
+     */
+    public long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time since {@code startNanos} against a phase and reads the clock for the next phase.
+     *
+     * @param phase      the phase that just finished.
+     * @param startNanos the time the phase started, as returned by {@link #start()} or the previous lap.
+     * @return the current time in nanoseconds, or 0 when profiling is disabled.
+     */
+    public long lap(Phase phase, long startNanos) {
+        if (!ENABLED) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        histograms[phase.ordinal()].record(now - startNanos);
+        return now;
+    }
+
+    /**
+     * Records the time since {@code startNanos} against a phase without starting another.
+     *
+     * @param phase      the phase that just finished.
+     * @param startNanos the time the phase started.
+     */
+    public void stop(Phase phase, long startNanos) {
+        if (ENABLED) {
+            histograms[phase.ordinal()].record(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Records a duration measured elsewhere against a phase, such as the input latency.
+     *
+     * @param phase the phase the duration belongs to.
+     * @param nanos the duration in nanoseconds.
+     */
+    public void record(Phase phase, long nanos) {
+        if (ENABLED) {
+            histograms[phase.ordinal()].record(nanos);
+        }
+    }
+
+    /**
+     * Sets the latest value of a gauge and updates its peak.
+     *
+     * @param gauge the gauge to set.
+     * @param value the sampled count.
+     */
+    public void setGauge(Gauge gauge, int value) {
+        if (ENABLED) {
+            int i = gauge.ordinal();
+            gauges[i] = value;
+            if (value > peakGauges[i]) {
+                peakGauges[i] = value;
+            }
+        }
+    }
+
+    /**
+     * Gets the timing histogram of a phase.
+     *
+     * @param phase the phase.
+     * @return the phase's histogram.
+     */
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * Gets the latest value of a gauge.
+     *
+     * @param gauge the gauge.
+     * @return the latest sampled count.
+     */
+    public int getGauge(Gauge gauge) {
+        return gauges[gauge.ordinal()];
+    }
+
+    /**
+     * Gets the largest value a gauge has had.
+     *
+     * @param gauge the gauge.
+     * @return the peak sampled count.
+     */
+    public int getPeakGauge(Gauge gauge) {
+        return peakGauges[gauge.ordinal()];
+    }
+
+    /**
+     * Clears every histogram and gauge.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        Arrays.fill(gauges, 0);
+        Arrays.fill(peakGauges, 0);
+    }
+
+    /**
+     * Formats the histograms and gauges as a table, one phase or gauge per line.
+     *
+     * @return the profiling report.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-26s %8s %10s %10s %10s %10s%n", "phase", "count", "mean us", "p50 us", "p99 us", "max us"));
+        for (Phase phase : PHASES) {
+            LatencyHistogram histogram = getHistogram(phase);
+            report.append(String.format("%-26s %8d %10.1f %10.1f %10.1f %10.1f%n",
+                    phase, histogram.getCount(), histogram.getMeanNanos() / 1_000,
+                    histogram.getPercentileNanos(50) / 1_000.0, histogram.getPercentileNanos(99) / 1_000.0,
+                    histogram.getMaxNanos() / 1_000.0));
+        }
+        report.append(String.format("%-26s %8s %8s%n", "gauge", "latest", "peak"));
+        for (Gauge gauge : GAUGES) {
+            report.append(String.format("%-26s %8d %8d%n", gauge, getGauge(gauge), getPeakGauge(gauge)));
+        }
+        return report.toString();
+    }
+}
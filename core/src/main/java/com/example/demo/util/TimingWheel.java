@@ -0,0 +1,221 @@
+package com.example.demo.util;
+
+/**
+ * Hierarchical timing wheel that runs scheduled tasks on the tick they are due.
+ * <p>
+ * The wheel has four levels of 64 slots. The first level holds timers due within 64 ticks, one slot per tick;
+ * each higher level covers 64 times the span of the one below. A timer is placed in the finest level whose span
+ * covers its delay. Every 64 ticks, the next slot of the level above is cascaded, re-placing its timers into finer
+ * levels, so each timer is moved at most three times before it runs. Each slot is a doubly-linked list of
+ * {@link Timer} nodes, so scheduling and cancelling are O(1), and the cost of a tick does not depend on how many
+ * timers are pending.
+ * </p>
+ * <p>
+ * Timers are reusable: an owner that schedules the same event repeatedly keeps one {@link Timer} and reschedules
+ * it, so the wheel does not allocate. The wheel is advanced once per tick by the level and, like the level, is
+ * only used from the game loop thread.
+ * </p>
+ */
+public class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    /**
+     * The longest delay that can be scheduled, in ticks.
+     */
+    public static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final Timer[][] slots;
+    private long currentTick;
+    private int pendingCount;
+
+    /**
+     * A task that can be scheduled on a {@link TimingWheel}, cancelled and scheduled again.
+     */
+    public static final class Timer {
+        private final Runnable task;
+        private TimingWheel wheel;
+        private long deadline;
+        private int level;
+        private int slot;
+        private Timer previous;
+        private Timer next;
+
+        /**
+         * Constructs an unscheduled timer.
+         *
+         * @param task the task to run when the timer is due.
+         */
+        public Timer(Runnable task) {
+            this.task = task;
+        }
+
+        /**
+         * Checks whether the timer is scheduled and has not run or been cancelled yet.
+         *
+         * @return {@code true} if the timer is pending.
+         */
+        public boolean isPending() {
+            return wheel != null;
+        }
+
+        /**
+         * Gets the tick at which the timer is, or was last, due.
+         *
+         * @return the deadline tick.
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Cancels the timer if it is pending.
+         */
+        public void cancel() {
+            if (wheel != null) {
+                wheel.unlink(this);
+            }
+        }
+    }
+
+    /**
+     * Constructs an empty wheel at tick 0.
+     */
+    public TimingWheel() {
+        slots = new Timer[LEVELS][SLOTS];
+    }
+
+    /**
+     * Schedules a new timer running the task after the given number of ticks.
+     *
+     * @param delayTicks the number of ticks from now. A delay of 0 runs the task on the next tick.
+     * @param task       the task to run.
+     * @return the scheduled timer, which can be cancelled.
+     * @throws IllegalArgumentException if the delay is negative or longer than {@link #MAX_DELAY}.
+     */
+    public Timer schedule(long delayTicks, Runnable task) {
+        Timer timer = new Timer(task);
+        schedule(timer, delayTicks);
+        return timer;
+    }
+
+    /**
+     * Schedules a timer to run after the given number of ticks, cancelling it first if it is pending.
+     *
+     * @param timer      the timer to schedule.
+     * @param delayTicks the number of ticks from now. A delay of 0 runs the task on the next tick.
+     * @throws IllegalArgumentException if the delay is negative or longer than {@link #MAX_DELAY},
+     *                                  or the timer is pending on another wheel.
+     */
+    public void schedule(Timer timer, long delayTicks) {
+        if (delayTicks < 0 || delayTicks > MAX_DELAY) {
+            throw new IllegalArgumentException("Invalid timer delay: " + delayTicks);
+        }
+        if (timer.wheel != null && timer.wheel != this) {
+            throw new IllegalArgumentException("Invalid timer: pending on another wheel");
+        }
+        timer.cancel();
+        timer.deadline = currentTick + Math.max(1, delayTicks);
+        link(timer);
+        pendingCount++;
+    }
+
+    /**
+     * Advances the wheel by one tick, cascading timers from coarser levels as their slots come due,
+     * then runs every timer due on the new tick. Tasks may schedule and cancel timers.
+     */
+    public void advance() {
+        currentTick++;
+        for (int level = 1; level < LEVELS && (currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0; level++) {
+            cascade(level, (int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        }
+        Timer[] due = slots[0];
+        int slot = (int) currentTick & SLOT_MASK;
+        Timer timer;
+        while ((timer = due[slot]) != null) {
+            unlink(timer);
+            timer.task.run();
+        }
+    }
+
+    /**
+     * Gets the number of ticks the wheel has advanced.
+     *
+     * @return the current tick.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Gets the number of timers waiting to run.
+     *
+     * @return the pending timer count.
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Moves every timer in a slot of a coarse level into the finer levels, relative to the current tick.
+     *
+     * @param level the level of the slot.
+     * @param slot  the slot index.
+     */
+    private void cascade(int level, int slot) {
+        Timer timer = slots[level][slot];
+        slots[level][slot] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            link(timer);
+            timer = next;
+        }
+    }
+
+    /**
+     * Places a timer at the head of the slot covering its deadline.
+     *
+     * @param timer the timer to place.
+     */
+    private void link(Timer timer) {
+        long delay = timer.deadline - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) (timer.deadline >>> (SLOT_BITS * level)) & SLOT_MASK;
+        Timer head = slots[level][slot];
+        timer.wheel = this;
+        timer.level = level;
+        timer.slot = slot;
+        timer.previous = null;
+        timer.next = head;
+        if (head != null) {
+            head.previous = timer;
+        }
+        slots[level][slot] = timer;
+    }
+
+    /**
+     * Removes a pending timer from its slot.
+     *
+     * @param timer the timer to remove.
+     */
+    private void unlink(Timer timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            slots[timer.level][timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.wheel = null;
+        pendingCount--;
+    }
+}
@@ -0,0 +1,6 @@
+module com.example.demo.core {
+    exports com.example.demo.actor;
+    exports com.example.demo.contract;
+    exports com.example.demo.level;
+    exports com.example.demo.util;
+}
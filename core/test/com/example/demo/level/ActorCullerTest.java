@@ -0,0 +1,85 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.actor.EnemyProjectile;
+import com.example.demo.actor.UserPlane;
+import com.example.demo.actor.UserProjectile;
+import com.example.demo.util.ActorCuller;
+import com.example.demo.util.GameScore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ActorCullerTest {
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double SCREEN_WIDTH = 1300;
+
+    @Test
+    void testLeftExitingProjectileIsCulled() {
+        ActorCuller culler = new ActorCuller(SCREEN_WIDTH, SCREEN_HEIGHT);
+        EnemyProjectile projectile = new EnemyProjectile(100, 300);
+        List<ActiveActorDestructible> projectiles = new ArrayList<>(List.of(projectile));
+
+        int ticks = 0;
+        while (!projectile.getShouldRemove() && ticks < 100) {
+            projectile.updateActor();
+            culler.beginPass();
+            culler.cull(projectiles);
+            culler.endPass();
+            ticks++;
+        }
+
+        assertTrue(projectile.getShouldRemove());
+        assertTrue(projectile.getMaxX() < 0);
+        assertEquals(1, culler.getCulledOutOfBoundsCount());
+        assertEquals(0, culler.getLiveCount());
+    }
+
+    @Test
+    void testProjectileCulledAfterLifetime() {
+        ActorCuller culler = new ActorCuller(SCREEN_WIDTH, SCREEN_HEIGHT);
+        UserProjectile projectile = new UserProjectile(100, 300);
+        List<ActiveActorDestructible> projectiles = List.of(projectile);
+
+        for (int i = 0; i < projectile.getMaxLifetimeTicks(); i++) {
+            culler.cull(projectiles);
+        }
+        assertFalse(projectile.getShouldRemove(), "A projectile that never moves stays until its lifetime ends.");
+
+        culler.cull(projectiles);
+        assertTrue(projectile.getShouldRemove());
+        assertEquals(1, culler.getCulledExpiredCount());
+    }
+
+    @Test
+    void testUserPlaneIsNeverCulled() {
+        ActorCuller culler = new ActorCuller(SCREEN_WIDTH, SCREEN_HEIGHT);
+        UserPlane user = new UserPlane(5);
+        user.setTranslateX(-10_000);
+        user.updateActor();
+
+        assertFalse(culler.isOutOfBounds(user));
+    }
+
+    @Test
+    void testBossFightEnemyProjectilesStayBounded() {
+        LevelBoss level = new LevelBoss(SCREEN_HEIGHT, SCREEN_WIDTH);
+        level.addGameScore(new GameScore(0));
+
+        for (int i = 0; i < 2_000 && !level.isStopped(); i++) {
+            level.updateScene();
+            level.getUser().repairDamage();
+        }
+
+        assertTrue(level.getEnemyProjectiles().size() < 100,
+                "Enemy projectiles should be culled, found " + level.getEnemyProjectiles().size());
+        assertTrue(level.getActorCuller().getCulledOutOfBoundsCount() > 0);
+        assertEquals(level.getActorCuller().getLiveCount(),
+                level.getFriendlyUnits().size() + level.getEnemyUnits().size()
+                        + level.getUserProjectiles().size() + level.getEnemyProjectiles().size()
+                        + level.getHealthPoints().size() + level.getFireDeactivators().size());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.actor.ActorBatches;
+import com.example.demo.actor.ActorList;
+import com.example.demo.actor.EnemyPlane;
+import com.example.demo.actor.UserPlane;
+import com.example.demo.actor.UserProjectile;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.GameScore;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that {@link ActorList} keeps each actor's slot in step as actors are swapped out, and that
+ * {@link ActorBatches} updates every actor in the list once.
+ */
+class ActorListTest {
+
+    @Test
+    void testSwapRemoveKeepsSlots() {
+        ActorList<UserProjectile> list = new ActorList<>();
+        UserProjectile[] projectiles = new UserProjectile[40];
+        for (int i = 0; i < projectiles.length; i++) {
+            projectiles[i] = new UserProjectile(i, 0);
+            list.add(projectiles[i]);
+        }
+
+        assertSame(projectiles[0], list.remove(0));
+        assertSame(projectiles[39], list.get(0));
+        assertTrue(list.remove(projectiles[10]));
+        assertFalse(list.remove(projectiles[10]));
+        assertFalse(list.contains(projectiles[0]));
+        assertEquals(38, list.size());
+
+        for (int i = 1; i < projectiles.length; i++) {
+            assertEquals(i != 10, list.contains(projectiles[i]));
+        }
+        // Every remaining actor can still be removed through its slot after the swaps.
+        for (int i = projectiles.length - 1; i > 0; i--) {
+            assertEquals(i != 10, list.remove(projectiles[i]));
+        }
+        assertTrue(list.isEmpty());
+
+        list.add(projectiles[0]);
+        assertThrows(IllegalArgumentException.class, () -> list.add(projectiles[0]));
+        ActorList<UserProjectile> other = new ActorList<>();
+        assertThrows(IllegalArgumentException.class, () -> other.add(projectiles[0]));
+        assertFalse(other.remove(projectiles[0]));
+        list.clear();
+        assertTrue(other.add(projectiles[0]));
+    }
+
+    @Test
+    void testLevelRemovesEveryDestroyedActor() {
+        LevelParent level = new LevelOne(750, 1300, new GameRandom(9));
+        level.addGameScore(new GameScore(0));
+        for (int i = 0; i < 50; i++) {
+            level.fireProjectile();
+        }
+        List<ActiveActorDestructible> projectiles = List.copyOf(level.getUserProjectiles());
+        for (int i = 0; i < projectiles.size(); i += 3) {
+            projectiles.get(i).destroy();
+        }
+        level.updateScene();
+
+        for (int i = 0; i < projectiles.size(); i++) {
+            assertEquals(i % 3 != 0, level.getUserProjectiles().contains(projectiles.get(i)));
+        }
+    }
+
+    @Test
+    void testBatchesFollowTheList() {
+        ActorList<ActiveActorDestructible> list = new ActorList<>();
+        int[] updated = new int[2];
+        ActorBatches batches = new ActorBatches(list)
+                .register(EnemyPlane.class, (actors, count) -> updated[0] += count)
+                .register(UserProjectile.class, (actors, count) -> {
+                    for (int i = 0; i < count; i++) {
+                        assertInstanceOf(UserProjectile.class, actors[i]);
+                    }
+                    updated[1] += count;
+                });
+        GameRandom random = new GameRandom(2);
+        for (int i = 0; i < 30; i++) {
+            list.add(new EnemyPlane(1300, i * 10, random));
+        }
+        UserProjectile projectile = new UserProjectile(0, 0);
+        list.add(projectile);
+        UserPlane user = new UserPlane(3);
+        list.add(user);
+        double userX = user.getMinX();
+        user.moveRight();
+
+        batches.update();
+        batches.update();
+        assertArrayEquals(new int[] {60, 2}, updated);
+        assertEquals(1, batches.getBatchSize(null), "Unregistered types are updated through the shared loop");
+        assertTrue(user.getMinX() > userX);
+        assertEquals(1, batches.getRebuildCount(), "An unchanged list is not sorted again");
+
+        list.remove(projectile);
+        batches.update();
+        assertEquals(0, batches.getBatchSize(UserProjectile.class));
+        assertEquals(30, batches.getBatchSize(EnemyPlane.class));
+        assertEquals(2, batches.getRebuildCount());
+        assertThrows(IllegalArgumentException.class, () -> batches.register(EnemyPlane.class, (actors, count) -> {}));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.*;
+import com.example.demo.util.CollisionHandler;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.SpatialHashGrid;
+import org.junit.jupiter.api.Test;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that a full collision pass allocates nothing once warmed up.
+ */
+class CollisionAllocationTest {
+    private static final int WARMUP_TICKS = 20_000;
+    private static final int MEASURED_TICKS = 1_000;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private final List<ActiveActorDestructible> friendlyUnits = new ArrayList<>();
+    private final List<ActiveActorDestructible> enemyUnits = new ArrayList<>();
+    private final List<ActiveActorDestructible> userProjectiles = new ArrayList<>();
+    private final List<ActiveActorDestructible> enemyProjectiles = new ArrayList<>();
+    private final SpatialHashGrid friendlyUnitGrid = new SpatialHashGrid(1300, 750, 128);
+    private final SpatialHashGrid enemyUnitGrid = new SpatialHashGrid(1300, 750, 128);
+    private UserPlane user;
+
+    private void runCollisionPhase() {
+        friendlyUnitGrid.rebuild(friendlyUnits);
+        enemyUnitGrid.rebuild(enemyUnits);
+        CollisionHandler.handleEnemyProjectileCollisions(enemyProjectiles, friendlyUnitGrid);
+        CollisionHandler.handlePlaneCollisions(friendlyUnits, enemyUnitGrid);
+        CollisionHandler.handleUserProjectileCollisions(user, userProjectiles, enemyUnitGrid);
+    }
+
+    // The core module does not read java.management, so the thread MXBean is reached reflectively.
+    private static Object threadBean;
+    private static Method threadAllocatedBytes;
+
+    private static long allocatedBytes() throws ReflectiveOperationException {
+        if (threadBean == null) {
+            threadBean = Class.forName("java.lang.management.ManagementFactory").getMethod("getThreadMXBean").invoke(null);
+            threadAllocatedBytes = Class.forName("com.sun.management.ThreadMXBean")
+                    .getMethod("getThreadAllocatedBytes", long.class);
+        }
+        return (long) threadAllocatedBytes.invoke(threadBean, Thread.currentThread().threadId());
+    }
+
+    @Test
+    void testCollisionPhaseAllocatesNothing() throws ReflectiveOperationException {
+        user = new UserPlane(5);
+        friendlyUnits.add(user);
+        for (int i = 0; i < 10; i++) {
+            enemyUnits.add(new EnemyPlane(300 + i * 90, 50 + i * 60, new GameRandom(i)));
+        }
+        for (int i = 0; i < 50; i++) {
+            userProjectiles.add(new UserProjectile(100 + i * 22, 40 + (i % 10) * 65));
+        }
+        for (int i = 0; i < 20; i++) {
+            enemyProjectiles.add(new EnemyProjectile(40 + i * 55, 280 + (i % 4) * 15));
+        }
+
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            runCollisionPhase();
+        }
+
+        allocatedBytes();
+        long start = allocatedBytes();
+        long overhead = allocatedBytes() - start;
+
+        // Inline mocks from other tests retransform the actor classes, after which every call allocates.
+        long probe = allocatedBytes();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            user.getMinX();
+        }
+        assumeTrue(allocatedBytes() - probe - overhead == 0, "Actor classes are instrumented by inline mocks");
+
+        // An allocating pass allocates in every round; the JIT compiler may allocate once on this thread.
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long before = allocatedBytes();
+            for (int i = 0; i < MEASURED_TICKS; i++) {
+                runCollisionPhase();
+            }
+            allocated = Math.min(allocated, allocatedBytes() - before - overhead);
+        }
+
+        assertEquals(0, allocated, "Collision phase should not allocate over " + MEASURED_TICKS + " ticks");
+    }
+}
@@ -2,11 +2,11 @@ package com.example.demo.level;
 
 import com.example.demo.actor.*;
 import com.example.demo.util.CollisionHandler;
+import com.example.demo.util.SpatialHashGrid;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import java.util.ArrayList;
 import java.util.List;
-import javafx.geometry.Bounds;
 import static org.mockito.Mockito.*;
 
 class CollisionsTest {
@@ -17,6 +17,13 @@ class CollisionsTest {
     private List<ActiveActorDestructible> healthPoints;
     private List<ActiveActorDestructible> fireDeactivators;
 
+    private static void stubBounds(ActiveActorDestructible actor, double x, double y, double width, double height) {
+        when(actor.getMinX()).thenReturn(x);
+        when(actor.getMinY()).thenReturn(y);
+        when(actor.getMaxX()).thenReturn(x + width);
+        when(actor.getMaxY()).thenReturn(y + height);
+    }
+
     @BeforeEach
     void setup() {
         userProjectiles = new ArrayList<>();
@@ -35,14 +42,8 @@ class CollisionsTest {
         EnemyPlane enemyPlane = mock(EnemyPlane.class);
         enemyUnits.add(enemyPlane);
 
-        Bounds userBounds = mock(Bounds.class);
-        Bounds enemyBounds = mock(Bounds.class);
-
-        when(userBounds.intersects(any(Bounds.class))).thenReturn(true);
-        when(enemyBounds.intersects(any(Bounds.class))).thenReturn(true);
-
-        when(userProjectile.getBoundsInParent()).thenReturn(userBounds);
-        when(enemyPlane.getBoundsInParent()).thenReturn(enemyBounds);
+        stubBounds(userProjectile, 100, 100, 50, 50);
+        stubBounds(enemyPlane, 100, 100, 50, 50);
 
         CollisionHandler.handleUserProjectileCollisions(userPlane, userProjectiles, enemyUnits);
 
@@ -62,12 +63,8 @@ class CollisionsTest {
         UserProjectile userProjectile = mock(UserProjectile.class);
         userProjectiles.add(userProjectile);
 
-        Bounds bossBounds = mock(Bounds.class);
-        Bounds projectileBounds = mock(Bounds.class);
-
-        when(boss.getBoundsInParent()).thenReturn(bossBounds);
-        when(userProjectile.getBoundsInParent()).thenReturn(projectileBounds);
-        when(projectileBounds.intersects(bossBounds)).thenReturn(true);
+        stubBounds(boss, 100, 100, 50, 50);
+        stubBounds(userProjectile, 100, 100, 50, 50);
 
         CollisionHandler.handleUserProjectileBossCollisions(userPlane, userProjectiles, boss);
 
@@ -83,14 +80,8 @@ class CollisionsTest {
         UserPlane friendlyUnit = mock(UserPlane.class);
         friendlyUnits.add(friendlyUnit);
 
-        Bounds enemyBounds = mock(Bounds.class);
-        Bounds friendlyBounds = mock(Bounds.class);
-
-        when(enemyBounds.intersects(any(Bounds.class))).thenReturn(true);
-        when(friendlyBounds.intersects(any(Bounds.class))).thenReturn(true);
-
-        when(enemyProjectile.getBoundsInParent()).thenReturn(enemyBounds);
-        when(friendlyUnit.getBoundsInParent()).thenReturn(friendlyBounds);
+        stubBounds(enemyProjectile, 100, 100, 50, 50);
+        stubBounds(friendlyUnit, 100, 100, 50, 50);
 
         CollisionHandler.handleEnemyProjectileCollisions(enemyProjectiles, friendlyUnits);
 
@@ -106,14 +97,8 @@ class CollisionsTest {
         EnemyPlane enemyPlane = mock(EnemyPlane.class);
         enemyUnits.add(enemyPlane);
 
-        Bounds friendlyBounds = mock(Bounds.class);
-        Bounds enemyBounds = mock(Bounds.class);
-
-        when(friendlyBounds.intersects(any(Bounds.class))).thenReturn(true);
-        when(enemyBounds.intersects(any(Bounds.class))).thenReturn(true);
-
-        when(friendlyUnit.getBoundsInParent()).thenReturn(friendlyBounds);
-        when(enemyPlane.getBoundsInParent()).thenReturn(enemyBounds);
+        stubBounds(friendlyUnit, 100, 100, 50, 50);
+        stubBounds(enemyPlane, 100, 100, 50, 50);
 
         CollisionHandler.handlePlaneCollisions(friendlyUnits, enemyUnits);
 
@@ -129,15 +114,9 @@ class CollisionsTest {
         HealthPoint healthPoint = mock(HealthPoint.class);
         healthPoints.add(healthPoint);
 
-        Bounds friendlyBounds = mock(Bounds.class);
-        Bounds healthPointBounds = mock(Bounds.class);
-
-        when(friendlyBounds.intersects(any(Bounds.class))).thenReturn(true);
-        when(healthPointBounds.intersects(any(Bounds.class))).thenReturn(true);
-
-        when(friendlyUnit.getBoundsInParent()).thenReturn(friendlyBounds);
+        stubBounds(friendlyUnit, 100, 100, 50, 50);
         when(friendlyUnit.getHealth()).thenReturn(playerInitHealth);
-        when(healthPoint.getBoundsInParent()).thenReturn(healthPointBounds);
+        stubBounds(healthPoint, 100, 100, 50, 50);
 
         CollisionHandler.handleUserHealthPointCollisions(
                 playerInitHealth,
@@ -157,15 +136,9 @@ class CollisionsTest {
         HealthPoint healthPoint = mock(HealthPoint.class);
         healthPoints.add(healthPoint);
 
-        Bounds friendlyBounds = mock(Bounds.class);
-        Bounds healthPointBounds = mock(Bounds.class);
-
-        when(friendlyBounds.intersects(any(Bounds.class))).thenReturn(true);
-        when(healthPointBounds.intersects(any(Bounds.class))).thenReturn(true);
-
-        when(friendlyUnit.getBoundsInParent()).thenReturn(friendlyBounds);
+        stubBounds(friendlyUnit, 100, 100, 50, 50);
         when(friendlyUnit.getHealth()).thenReturn(playerInitHealth-1);
-        when(healthPoint.getBoundsInParent()).thenReturn(healthPointBounds);
+        stubBounds(healthPoint, 100, 100, 50, 50);
 
         CollisionHandler.handleUserHealthPointCollisions(
                 playerInitHealth,
@@ -186,15 +159,76 @@ class CollisionsTest {
         List<ActiveActorDestructible> fireDeactivators = new ArrayList<>();
         fireDeactivators.add(fireDeactivator);
 
-        Bounds userBounds = mock(Bounds.class);
-        Bounds deactivatorBounds = mock(Bounds.class);
-
-        when(userPlane.getBoundsInParent()).thenReturn(userBounds);
-        when(fireDeactivator.getBoundsInParent()).thenReturn(deactivatorBounds);
-        when(userBounds.intersects(deactivatorBounds)).thenReturn(true);
+        stubBounds(userPlane, 100, 100, 50, 50);
+        stubBounds(fireDeactivator, 100, 100, 50, 50);
 
         CollisionHandler.handleUserBossFireDeactivatorCollisions(userPlane, boss, fireDeactivators);
 
         verify(boss, times(1)).deactivateFire();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUserProjectileGridCollisions(){
+        UserPlane userPlane = mock(UserPlane.class);
+        SpatialHashGrid enemyGrid = new SpatialHashGrid(1300, 750, 128);
+
+        UserProjectile nearProjectile = mock(UserProjectile.class);
+        UserProjectile farProjectile = mock(UserProjectile.class);
+        userProjectiles.add(nearProjectile);
+        userProjectiles.add(farProjectile);
+
+        EnemyPlane enemyPlane = mock(EnemyPlane.class);
+        enemyUnits.add(enemyPlane);
+
+        stubBounds(nearProjectile, 500, 300, 60, 40);
+        stubBounds(farProjectile, 100, 600, 60, 40);
+        stubBounds(enemyPlane, 540, 320, 65, 50);
+
+        enemyGrid.rebuild(enemyUnits);
+        CollisionHandler.handleUserProjectileCollisions(userPlane, userProjectiles, enemyGrid);
+
+        verify(nearProjectile, times(1)).takeDamage();
+        verify(farProjectile, times(0)).takeDamage();
+        verify(enemyPlane, times(1)).takeDamage();
+    }
+
+    @Test
+    void testGridCollisionsOutsideScreen(){
+        SpatialHashGrid enemyGrid = new SpatialHashGrid(1300, 750, 128);
+
+        UserPlane friendlyUnit = mock(UserPlane.class);
+        friendlyUnits.add(friendlyUnit);
+
+        EnemyPlane enemyPlane = mock(EnemyPlane.class);
+        enemyUnits.add(enemyPlane);
+
+        stubBounds(friendlyUnit, -40, -30, 150, 40);
+        stubBounds(enemyPlane, -80, -60, 65, 50);
+
+        enemyGrid.rebuild(enemyUnits);
+        CollisionHandler.handlePlaneCollisions(friendlyUnits, enemyGrid);
+
+        verify(friendlyUnit, times(1)).takeDamage();
+        verify(enemyPlane, times(1)).destroy();
+    }
+
+    @Test
+    void testEnemyProjectileGridCollisionsSpanningCells(){
+        SpatialHashGrid friendlyGrid = new SpatialHashGrid(1300, 750, 128);
+
+        EnemyProjectile enemyProjectile = mock(EnemyProjectile.class);
+        enemyProjectiles.add(enemyProjectile);
+
+        UserPlane friendlyUnit = mock(UserPlane.class);
+        friendlyUnits.add(friendlyUnit);
+
+        stubBounds(enemyProjectile, 250, 250, 60, 30);
+        stubBounds(friendlyUnit, 100, 200, 300, 100);
+
+        friendlyGrid.rebuild(friendlyUnits);
+        CollisionHandler.handleEnemyProjectileCollisions(enemyProjectiles, friendlyGrid);
+
+        verify(enemyProjectile, times(1)).takeDamage();
+        verify(friendlyUnit, times(1)).takeDamage();
+    }
+}
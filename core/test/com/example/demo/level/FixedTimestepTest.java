@@ -0,0 +1,59 @@
+package com.example.demo.level;
+
+import com.example.demo.util.FixedTimestep;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixedTimestepTest {
+    private static final long TICK = 50_000_000L;
+    private static final long FRAME = 16_666_667L;
+
+    @Test
+    void testSteadyFramesRunOneTickPerTickLength() {
+        FixedTimestep timestep = new FixedTimestep(TICK, 5);
+        long now = 0;
+        timestep.advance(now);
+        for (int i = 0; i < 300; i++) {
+            now += FRAME;
+            int ticks = timestep.advance(now);
+            assertTrue(ticks <= 1, "A 60 Hz frame should never need more than one 50 ms tick.");
+            double alpha = timestep.getAlpha();
+            assertTrue(alpha >= 0 && alpha < 1, "Alpha should stay within [0, 1).");
+        }
+        assertEquals(100, timestep.getTickCount(), 1);
+        assertEquals(0, timestep.getCaughtUpTicks());
+        assertEquals(0, timestep.getDroppedTicks());
+    }
+
+    @Test
+    void testStallIsCappedAndExcessDropped() {
+        FixedTimestep timestep = new FixedTimestep(TICK, 5);
+        timestep.advance(0);
+        int ticks = timestep.advance(1_000_000_000L);
+
+        assertEquals(5, ticks);
+        assertEquals(4, timestep.getCaughtUpTicks());
+        assertEquals(15, timestep.getDroppedTicks());
+        assertTrue(timestep.getAlpha() < 1);
+    }
+
+    @Test
+    void testResetSkipsTimeSpentStopped() {
+        FixedTimestep timestep = new FixedTimestep(TICK, 5);
+        timestep.advance(0);
+        timestep.advance(TICK);
+        timestep.reset();
+
+        assertEquals(0, timestep.advance(60_000_000_000L));
+        assertEquals(1, timestep.advance(60_000_000_000L + TICK));
+        assertEquals(2, timestep.getTickCount());
+        assertEquals(0, timestep.getDroppedTicks());
+    }
+
+    @Test
+    void testInvalidTimestepRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(TICK, 0));
+    }
+}
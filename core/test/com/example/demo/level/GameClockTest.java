@@ -0,0 +1,67 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.HealthPoint;
+import com.example.demo.actor.UserPlane;
+import com.example.demo.util.GameClock;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.GameScore;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that timed behavior follows the tick-driven {@link GameClock} rather than the wall clock.
+ */
+class GameClockTest {
+
+    @Test
+    void testDurationsRoundUpToWholeTicks() {
+        GameClock clock = new GameClock(50);
+        assertEquals(0, clock.ticksFor(0));
+        assertEquals(1, clock.ticksFor(1));
+        assertEquals(1, clock.ticksFor(50));
+        assertEquals(2, clock.ticksFor(51));
+        assertEquals(8, clock.ticksFor(400));
+
+        long deadline = clock.deadlineAfter(100);
+        clock.tick();
+        assertFalse(clock.hasReached(deadline));
+        clock.tick();
+        assertTrue(clock.hasReached(deadline));
+        assertEquals(100, clock.getElapsedMillis());
+
+        assertThrows(IllegalArgumentException.class, () -> new GameClock(0));
+        assertThrows(IllegalArgumentException.class, () -> clock.ticksFor(-1));
+    }
+
+    @Test
+    void testPickupExpiresAfterLingerTicks() {
+        LevelParent level = new LevelOne(750, 1300, new GameRandom(1));
+        GameClock clock = level.getClock();
+        HealthPoint healthPoint = new HealthPoint(new UserPlane(5), 5_000, new GameRandom(1), clock);
+        level.addHealthPoint(healthPoint);
+        long lingerTicks = clock.ticksFor(5_000);
+
+        // The pickup outlives any amount of wall-clock time as long as the clock does not tick.
+        // Each step is one tick of the level: the clock ticks, then the timing wheel advances.
+        for (long i = 1; i < lingerTicks; i++) {
+            clock.tick();
+            level.getScheduler().advance();
+            assertFalse(healthPoint.isDestroyed());
+        }
+        clock.tick();
+        level.getScheduler().advance();
+        assertTrue(healthPoint.isDestroyed());
+    }
+
+    @Test
+    void testLevelAdvancesClockOncePerTick() {
+        LevelParent level = new LevelOne(750, 1300, new GameRandom(1));
+        level.addGameScore(new GameScore(0));
+        for (int i = 0; i < 10; i++) {
+            level.updateScene();
+        }
+        assertEquals(10, level.getClock().getTicks());
+        assertEquals(10, level.getTickCount());
+        assertEquals(10 * GameClock.DEFAULT_TICK_MILLIS, level.getClock().getElapsedMillis());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.level;
+
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.GameScore;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the event bus delivers reused events to its subscribers, and that a level's events
+ * add up to its state.
+ */
+class GameEventBusTest {
+
+    @Test
+    void testListenersReceiveReusedEvents() {
+        GameEventBus bus = new GameEventBus();
+        List<GameEvent> received = new ArrayList<>();
+        int[] kills = new int[1];
+        GameEventListener killCounter = event -> kills[0] += event.getValue();
+        GameEventListener once = new GameEventListener() {
+            @Override
+            public void onGameEvent(GameEvent event) {
+                received.add(event);
+                bus.unsubscribe(GameEvent.Type.KILL, this);
+            }
+        };
+        bus.subscribe(GameEvent.Type.KILL, once);
+        bus.subscribe(GameEvent.Type.KILL, killCounter);
+
+        // The listener unsubscribing itself does not stop the delivery in progress.
+        bus.publish(GameEvent.Type.KILL, 3, 1);
+        bus.publish(GameEvent.Type.KILL, 4, 2);
+        bus.publish(GameEvent.Type.SCORE, 4, 20);
+        assertEquals(1, received.size());
+        assertEquals(3, kills[0]);
+        assertEquals(1, bus.getListenerCount(GameEvent.Type.KILL));
+        assertEquals(2, bus.getPublishedCount(GameEvent.Type.KILL));
+        assertEquals(1, bus.getPublishedCount(GameEvent.Type.SCORE));
+        assertFalse(bus.unsubscribe(GameEvent.Type.KILL, once));
+
+        LevelNotification notification = new LevelNotification("next", LevelNotification.Action.NEXT_LEVEL);
+        bus.subscribe(GameEvent.Type.LEVEL_TRANSITION, received::add);
+        bus.publishTransition(9, notification);
+        bus.publishTransition(10, notification);
+        assertSame(received.get(1), received.get(2));
+        assertEquals(10, received.get(2).getTick());
+        assertSame(notification, received.get(2).getNotification());
+        assertNull(received.get(0).getNotification());
+    }
+
+    @Test
+    void testLevelEventsMatchLevelState() {
+        LevelParent level = new LevelTwo(750, 1300, new GameRandom(5));
+        GameScore gameScore = new GameScore(0);
+        level.addGameScore(gameScore);
+        int[] totals = new int[GameEvent.Type.values().length];
+        for (GameEvent.Type type : GameEvent.Type.values()) {
+            level.getEvents().subscribe(type, event -> totals[event.getType().ordinal()] += Math.max(event.getValue(), 1));
+        }
+
+        for (int tick = 0; tick < 20_000 && !level.isStopped(); tick++) {
+            if (tick % 4 == 0) {
+                level.fireProjectile();
+            }
+            level.handleInput(tick % 400 < 200 ? PlayerInput.MOVE_UP : PlayerInput.MOVE_DOWN);
+            level.updateScene();
+        }
+
+        assertTrue(level.isStopped());
+        assertEquals(1, totals[GameEvent.Type.LEVEL_TRANSITION.ordinal()]);
+        assertEquals(level.getUser().getNumberOfKills(), totals[GameEvent.Type.KILL.ordinal()]);
+        assertEquals(gameScore.getScore(), totals[GameEvent.Type.SCORE.ordinal()]);
+        assertTrue(totals[GameEvent.Type.KILL.ordinal()] > 0);
+        assertTrue(totals[GameEvent.Type.HIT.ordinal()] > 0);
+    }
+}
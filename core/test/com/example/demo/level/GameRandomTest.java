@@ -0,0 +1,96 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.actor.EnemyPlane;
+import com.example.demo.actor.EnemyPlaneMutator;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.GameScore;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a seeded {@link GameRandom} makes level runs reproducible and that its draws keep their rates.
+ */
+class GameRandomTest {
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double SCREEN_WIDTH = 1300;
+    private static final int TICKS = 2_000;
+
+    /**
+     * Runs LevelOne for a fixed number of ticks and records the enemy positions after every tick.
+     */
+    private static List<Double> traceLevelOne(long seed) {
+        LevelParent level = new LevelOne(SCREEN_HEIGHT, SCREEN_WIDTH, new GameRandom(seed));
+        level.addGameScore(new GameScore(0));
+        List<Double> trace = new ArrayList<>();
+        for (int i = 0; i < TICKS && !level.isStopped(); i++) {
+            if (i % 8 == 0) {
+                level.fireProjectile();
+            }
+            level.updateScene();
+            for (ActiveActorDestructible enemy : level.getEnemyUnits()) {
+                trace.add(enemy.getMinX());
+                trace.add(enemy.getMinY());
+            }
+            trace.add((double) level.getEnemyProjectiles().size());
+        }
+        return trace;
+    }
+
+    @Test
+    void testSameSeedReplaysLevel() {
+        List<Double> first = traceLevelOne(42);
+        assertFalse(first.isEmpty());
+        assertEquals(first, traceLevelOne(42));
+        assertNotEquals(first, traceLevelOne(43));
+    }
+
+    @Test
+    void testSplitAndDraws() {
+        GameRandom a = new GameRandom(7);
+        GameRandom b = new GameRandom(7);
+        assertEquals(a.split().nextDouble(), b.split().nextDouble());
+        assertEquals(a.nextDouble(), b.nextDouble());
+
+        for (int i = 0; i < 1_000; i++) {
+            double value = a.nextDouble(10, -10);
+            assertTrue(value > -10 && value <= 10);
+        }
+        assertFalse(a.chance(0));
+        assertTrue(a.chance(1));
+
+        List<Integer> list = new ArrayList<>(List.of(1, 2, 3, 4, 5, 6, 7, 8));
+        a.shuffle(list);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8), list.stream().sorted().toList());
+
+        assertEquals(new GameRandom(5).nextDouble(), GameRandom.fromSeed(" 5 ").nextDouble());
+        assertThrows(IllegalArgumentException.class, () -> GameRandom.fromSeed("abc"));
+    }
+
+    @Test
+    void testFireCountdownKeepsTheFireRate() {
+        GameRandom random = new GameRandom(9);
+        assertEquals(0, random.nextGeometric(1));
+        assertEquals(Long.MAX_VALUE, random.nextGeometric(0));
+        long waited = 0;
+        for (int i = 0; i < 10_000; i++) {
+            waited += random.nextGeometric(0.25);
+        }
+        // The mean wait before a success is (1 - p) / p trials.
+        assertEquals(3, waited / 10_000.0, 0.15);
+
+        EnemyPlaneMutator mutator = new EnemyPlaneMutator();
+        EnemyPlane enemy = new EnemyPlane(SCREEN_WIDTH, 100, mutator, new GameRandom(4));
+        int ticks = 100_000;
+        int shots = 0;
+        for (int tick = 0; tick < ticks; tick++) {
+            if (enemy.tickFireCountdown() != null) {
+                shots++;
+            }
+        }
+        double expected = ticks * mutator.getFireRate();
+        assertEquals(expected, shots, expected * 0.1);
+    }
+}
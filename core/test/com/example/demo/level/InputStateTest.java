@@ -0,0 +1,73 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.UserPlane;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.GameScore;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that held controls are sampled once per tick and steer the user's plane on both axes.
+ */
+class InputStateTest {
+
+    @Test
+    void testControlsAreSampledPerTick() {
+        InputState input = new InputState();
+        input.press(InputState.Control.UP, 100);
+        input.press(InputState.Control.RIGHT, 150);
+        input.press(InputState.Control.UP, 160);
+        assertFalse(input.isHeld(InputState.Control.UP), "Presses only take effect when sampled");
+
+        assertTrue(input.sample(1_100));
+        assertEquals(1_000, input.getLastLatencyNanos());
+        assertEquals(-1, input.getVerticalDirection());
+        assertEquals(1, input.getHorizontalDirection());
+        assertTrue(input.wasPressed(InputState.Control.RIGHT));
+
+        // A tap between two samples is reported even though the control is not held at either.
+        input.press(InputState.Control.FIRE, 2_000);
+        input.release(InputState.Control.FIRE, 2_010);
+        input.press(InputState.Control.DOWN, 2_020);
+        assertTrue(input.sample(2_500));
+        assertEquals(500, input.getLastLatencyNanos());
+        assertFalse(input.isHeld(InputState.Control.FIRE));
+        assertTrue(input.wasPressed(InputState.Control.FIRE));
+        assertTrue(input.wasReleased(InputState.Control.FIRE));
+        assertEquals(0, input.getVerticalDirection(), "Up and down cancel out");
+        assertFalse(input.wasPressed(InputState.Control.RIGHT));
+
+        assertFalse(input.sample(3_000));
+        assertFalse(input.wasReleased(InputState.Control.FIRE));
+        input.clear();
+        input.sample(4_000);
+        assertEquals(0, input.getHorizontalDirection());
+    }
+
+    @Test
+    void testSteeringMovesDiagonallyAndRecordsChangesOnly() throws IOException {
+        LevelParent level = new LevelOne(750, 1300, new GameRandom(3));
+        level.addGameScore(new GameScore(0));
+        ReplayRecorder recorder = new ReplayRecorder(new ByteArrayOutputStream(), level, 3);
+        level.recordReplay(recorder);
+        UserPlane user = level.getUser();
+        double startX = user.getMinX();
+        double startY = user.getMinY();
+
+        for (int tick = 0; tick < 10; tick++) {
+            level.steer(1, 1);
+            level.updateScene();
+        }
+        assertTrue(user.getMinX() > startX);
+        assertTrue(user.getMinY() > startY);
+        assertEquals(3, recorder.getInputCount(), "One stop and two moves for the first change only");
+
+        level.steer(0, 1);
+        double x = user.getMinX();
+        level.updateScene();
+        assertEquals(x, user.getMinX());
+        assertEquals(5, recorder.getInputCount());
+    }
+}
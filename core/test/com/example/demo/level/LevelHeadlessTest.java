@@ -0,0 +1,72 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.util.GameScore;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs levels without a JavaFX stage to check that the simulation core ticks on its own.
+ */
+class LevelHeadlessTest {
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double SCREEN_WIDTH = 1300;
+    private static final int TICKS = 5_000;
+
+    private static LevelParent startLevel(LevelParent level) {
+        level.addGameScore(new GameScore(0));
+        return level;
+    }
+
+    @Test
+    void testLevelsTickWithoutToolkit() {
+        LevelParent[] levels = {
+                startLevel(new LevelOne(SCREEN_HEIGHT, SCREEN_WIDTH)),
+                startLevel(new LevelTwo(SCREEN_HEIGHT, SCREEN_WIDTH)),
+                startLevel(new LevelThree(SCREEN_HEIGHT, SCREEN_WIDTH)),
+                startLevel(new LevelBoss(SCREEN_HEIGHT, SCREEN_WIDTH))
+        };
+
+        for (LevelParent level : levels) {
+            boolean sawEnemies = false;
+            for (int i = 0; i < TICKS && !level.isStopped(); i++) {
+                if (i % 8 == 0) {
+                    level.fireProjectile();
+                }
+                level.updateScene();
+                sawEnemies |= !level.getEnemyUnits().isEmpty();
+            }
+            assertTrue(sawEnemies, level.getClass().getSimpleName() + " should have spawned enemies");
+        }
+    }
+
+    @Test
+    void testStoppedLevelNotifiesAndFreezes() {
+        LevelParent level = startLevel(new LevelOne(SCREEN_HEIGHT, SCREEN_WIDTH));
+        LevelNotification[] received = new LevelNotification[1];
+        level.getEvents().subscribe(GameEvent.Type.LEVEL_TRANSITION, event -> received[0] = event.getNotification());
+
+        // Without any input the user is eventually worn down by enemies reaching the left edge.
+        for (int i = 0; i < 100_000 && !level.isStopped(); i++) {
+            level.updateScene();
+        }
+
+        assertTrue(level.isStopped());
+        assertNotNull(received[0]);
+        assertEquals(LevelNotification.Action.LOSE_GAME, received[0].nextAction());
+
+        double backgroundPosition = level.getBackgroundPosition();
+        level.updateScene();
+        assertEquals(backgroundPosition, level.getBackgroundPosition());
+    }
+
+    @Test
+    void testActorWidthFollowsSpriteAspectRatio() {
+        LevelParent level = startLevel(new LevelOne(SCREEN_HEIGHT, SCREEN_WIDTH));
+        ActiveActorDestructible user = level.getUser();
+
+        assertEquals(40, user.getFitHeight());
+        assertEquals(654.0 / 175 * 40, user.getFitWidth(), 1e-9);
+        assertEquals(user.getMinX() + user.getFitWidth(), user.getMaxX(), 1e-9);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.EnemyProjectile;
+import com.example.demo.actor.ProjectileBuffer;
+import com.example.demo.actor.UserProjectile;
+import com.example.demo.util.ActorCuller;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.GameScore;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that projectiles moved by a {@link ProjectileBuffer} fly exactly like projectiles moving themselves,
+ * and that the buffer culls them from its primitive columns.
+ */
+class ProjectileBufferTest {
+
+    @Test
+    void testBufferedProjectilesMatchUnbuffered() {
+        ProjectileBuffer buffer = new ProjectileBuffer();
+        UserProjectile[] buffered = new UserProjectile[100];
+        UserProjectile[] unbuffered = new UserProjectile[buffered.length];
+        for (int i = 0; i < buffered.length; i++) {
+            buffered[i] = new UserProjectile(i * 3, i * 7);
+            unbuffered[i] = new UserProjectile(i * 3, i * 7);
+            buffer.attach(buffered[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> buffer.attach(buffered[0]));
+
+        for (int tick = 0; tick < 20; tick++) {
+            buffer.savePreviousPositions();
+            buffer.integrate();
+            for (int i = 0; i < buffered.length; i++) {
+                unbuffered[i].savePreviousPosition();
+                unbuffered[i].updateActor();
+                // Detached projectiles keep their position and move themselves again.
+                if (i < tick && i % 4 == 0) {
+                    buffered[i].savePreviousPosition();
+                    buffered[i].updateActor();
+                }
+            }
+            // Detaching moves the last projectile into the freed slot.
+            if (tick % 4 == 0) {
+                assertTrue(buffer.detach(buffered[tick]));
+                assertFalse(buffer.detach(buffered[tick]));
+            }
+        }
+        assertEquals(buffered.length - 5, buffer.size());
+
+        for (int i = 0; i < buffered.length; i++) {
+            assertEquals(unbuffered[i].getMinX(), buffered[i].getMinX(), 1e-9, "Projectile " + i);
+            assertEquals(unbuffered[i].getMaxY(), buffered[i].getMaxY(), 1e-9, "Projectile " + i);
+            assertEquals(unbuffered[i].getInterpolatedX(0.5), buffered[i].getInterpolatedX(0.5), 1e-9, "Projectile " + i);
+        }
+        assertEquals(unbuffered[4].getTranslateX(), buffered[4].getTranslateX(), 1e-9);
+    }
+
+    @Test
+    void testLevelKeepsEveryProjectileInBuffer() {
+        LevelParent level = new LevelTwo(750, 1300, new GameRandom(11));
+        level.addGameScore(new GameScore(0));
+        for (int tick = 0; tick < 1_000 && !level.isStopped(); tick++) {
+            if (tick % 3 == 0) {
+                level.fireProjectile();
+            }
+            level.updateScene();
+            assertEquals(level.getUserProjectiles().size() + level.getEnemyProjectiles().size(),
+                    level.getProjectileBuffer().size());
+        }
+
+        // Enemy projectiles travel left at a constant speed while in the level.
+        EnemyProjectile projectile = new EnemyProjectile(600, 300);
+        level.getProjectileBuffer().attach(projectile);
+        level.getProjectileBuffer().integrate();
+        assertEquals(600 + projectile.getVelocityX(), projectile.getMinX());
+        level.getProjectileBuffer().detach(projectile);
+        assertEquals(600 + projectile.getVelocityX(), projectile.getMinX());
+    }
+
+    @Test
+    void testCullReadsAliveAndTypeColumns() {
+        ProjectileBuffer buffer = new ProjectileBuffer();
+        ActorCuller culler = new ActorCuller(1300, 750);
+        EnemyProjectile leaving = new EnemyProjectile(-200, 300);
+        UserProjectile parked = new UserProjectile(600, 300);
+        UserProjectile destroyed = new UserProjectile(-500, 300);
+        buffer.attach(leaving);
+        buffer.attach(parked);
+        buffer.attach(destroyed);
+        destroyed.destroy();
+        assertEquals(2, buffer.getAliveCount());
+
+        culler.beginPass();
+        culler.cull(buffer);
+        culler.endPass();
+        assertTrue(leaving.getShouldRemove());
+        assertFalse(destroyed.getShouldRemove(), "Dead slots are skipped");
+        assertEquals(1, culler.getCulledOutOfBoundsCount());
+        assertEquals(1, culler.getLiveCount());
+        assertEquals(1, buffer.getAliveCount());
+
+        // A projectile that never moves is culled once it outlives its lifetime, counted in the buffer.
+        for (int tick = 1; tick < parked.getMaxLifetimeTicks(); tick++) {
+            culler.cull(buffer);
+        }
+        assertEquals(parked.getMaxLifetimeTicks(), parked.getAgeTicks());
+        assertFalse(parked.getShouldRemove());
+        culler.cull(buffer);
+        assertTrue(parked.getShouldRemove());
+        assertEquals(1, culler.getCulledExpiredCount());
+
+        buffer.detach(parked);
+        assertEquals(parked.getMaxLifetimeTicks() + 1, parked.getAgeTicks());
+        assertEquals(0, buffer.getAliveCount());
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.actor.ProjectilePool;
+import com.example.demo.actor.UserProjectile;
+import com.example.demo.util.GameScore;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectilePoolTest {
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double SCREEN_WIDTH = 1300;
+
+    @Test
+    void testRecycledProjectileIsReusedWithFreshState() {
+        ProjectilePool<UserProjectile> pool = new ProjectilePool<>(() -> new UserProjectile(0, 0));
+        UserProjectile first = pool.acquire(100, 200);
+        first.updateActor();
+        first.takeDamage();
+        first.recycle();
+        first.recycle();
+
+        assertEquals(1, pool.getPoolSize(), "Recycling twice should only return the projectile once.");
+
+        UserProjectile second = pool.acquire(300, 400);
+        assertSame(first, second);
+        assertFalse(second.isDestroyed());
+        assertFalse(second.getShouldRemove());
+        assertEquals(300, second.getMinX());
+        assertEquals(400, second.getMinY());
+        assertEquals(300, second.getInterpolatedX(0));
+        assertEquals(0, second.getTranslateX());
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(0.5, pool.getHitRate());
+    }
+
+    @Test
+    void testUserFireReachesSteadyState() {
+        LevelParent level = new LevelOne(SCREEN_HEIGHT, SCREEN_WIDTH);
+        level.addGameScore(new GameScore(0));
+        ProjectilePool<UserProjectile> pool = level.getUser().getProjectilePool();
+
+        int ticks = 0;
+        for (; ticks < 2_000 && !level.isStopped(); ticks++) {
+            level.fireProjectile();
+            level.updateScene();
+        }
+
+        // A projectile crosses the screen in under a hundred ticks, so no more than that are ever in flight.
+        assertTrue(pool.getCreatedCount() <= 100, "Created " + pool.getCreatedCount() + " user projectiles");
+        assertEquals(ticks, pool.getAcquiredCount());
+        assertEquals(level.getUserProjectiles().size(), pool.getActiveCount());
+        for (ActiveActorDestructible projectile : level.getUserProjectiles()) {
+            assertFalse(projectile.isDestroyed());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.level;
+
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.GameScore;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Records scripted sessions and checks that playing them back reproduces the level exactly.
+ */
+class ReplayTest {
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double SCREEN_WIDTH = 1300;
+    private static final long SEED = 2024;
+    private static final int TICKS = 3_000;
+
+    private static final PlayerInput[] SCRIPT = {
+            PlayerInput.MOVE_UP, PlayerInput.FIRE, PlayerInput.STOP, PlayerInput.MOVE_RIGHT,
+            PlayerInput.FIRE, PlayerInput.MOVE_DOWN, PlayerInput.FIRE, PlayerInput.MOVE_LEFT, PlayerInput.STOP
+    };
+
+    /**
+     * Plays LevelOne with a fixed input script while recording it, and returns the recording.
+     */
+    private static byte[] recordSession(LevelParent level) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        level.recordReplay(new ReplayRecorder(bytes, level, SEED));
+        for (int i = 0; i < TICKS && !level.isStopped(); i++) {
+            if (i % 7 == 0) {
+                level.handleInput(SCRIPT[(i / 7) % SCRIPT.length]);
+            }
+            level.updateScene();
+        }
+        level.stopGame();
+        return bytes.toByteArray();
+    }
+
+    private static String snapshot(LevelParent level) {
+        return level.getTickCount() + " " + level.getUser().getNumberOfKills() + " " + level.getUser().getHealth()
+                + " " + level.getUser().getMinX() + "," + level.getUser().getMinY()
+                + " " + level.getEnemyUnits().size() + " " + level.getUserProjectiles().size()
+                + " " + level.getEnemyProjectiles().size();
+    }
+
+    @Test
+    void testPlaybackReproducesRecordedSession() throws Exception {
+        LevelParent recorded = new LevelOne(SCREEN_HEIGHT, SCREEN_WIDTH, new GameRandom(SEED));
+        recorded.addGameScore(new GameScore(0));
+        byte[] replay = recordSession(recorded);
+
+        ReplayPlayer player = ReplayPlayer.load(new ByteArrayInputStream(replay));
+        assertEquals(LevelOne.class.getName(), player.getLevelClassName());
+        assertEquals(SEED, player.getSeed());
+        assertEquals(recorded.getTickCount(), player.getEndTick());
+        // Header plus one or two bytes per input.
+        assertTrue(replay.length < 64 + 2 * player.getInputCount(), "replay is " + replay.length + " bytes");
+
+        LevelParent replayed = player.createLevel();
+        assertEquals(recorded.getTickCount(), player.play(replayed));
+        assertEquals(snapshot(recorded), snapshot(replayed));
+    }
+
+    @Test
+    void testVarLongRoundTrip() throws IOException {
+        long[] values = {0, 1, 127, 128, 300, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE, -1};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (long value : values) {
+            ReplayRecorder.writeVarLong(out, value);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        long[] read = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            read[i] = ReplayPlayer.readVarLong(in);
+        }
+        assertArrayEquals(values, read);
+    }
+
+    @Test
+    void testIncompleteReplayIsRejected() throws IOException {
+        LevelParent level = new LevelOne(SCREEN_HEIGHT, SCREEN_WIDTH, new GameRandom(SEED));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ReplayRecorder recorder = new ReplayRecorder(bytes, level, SEED);
+        recorder.record(5, PlayerInput.FIRE);
+        assertThrows(IllegalArgumentException.class, () -> recorder.record(4, PlayerInput.FIRE));
+
+        byte[] truncated = bytes.toByteArray();
+        assertThrows(IOException.class, () -> ReplayPlayer.load(new ByteArrayInputStream(truncated)));
+
+        byte[] corrupt = Arrays.copyOf(truncated, truncated.length);
+        corrupt[0] = 0;
+        assertThrows(IOException.class, () -> ReplayPlayer.load(new ByteArrayInputStream(corrupt)));
+    }
+}
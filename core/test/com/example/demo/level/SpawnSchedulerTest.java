@@ -0,0 +1,47 @@
+package com.example.demo.level;
+
+import com.example.demo.util.GameRandom;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that spawn schedulers fill free slots at their declared rate.
+ */
+class SpawnSchedulerTest {
+
+    @Test
+    void testSpawnsMatchTheDeclaredRate() {
+        SpawnScheduler scheduler = new SpawnScheduler("enemy", 0.05, new GameRandom(11));
+        int ticks = 200_000;
+        for (long tick = 0; tick < ticks; tick++) {
+            scheduler.poll(tick, 1);
+        }
+        // One slot refilled as soon as it spawns fills on average once every 1 / p ticks.
+        double expected = ticks * scheduler.getProbability();
+        assertEquals(expected, scheduler.getSpawnCount(), expected * 0.05);
+        assertEquals(20, scheduler.getMeanIntervalTicks(), 1e-9);
+    }
+
+    @Test
+    void testSlotsAndRateChanges() {
+        SpawnScheduler scheduler = new SpawnScheduler("health point", 1, new GameRandom(5));
+        assertEquals(3, scheduler.poll(0, 3), "Certain spawns fill every free slot at once");
+        assertEquals(0, scheduler.poll(0, 0));
+
+        scheduler.setProbability(0.01, 1);
+        assertEquals(0, scheduler.poll(1, 4));
+        assertEquals(4, scheduler.getPendingCount());
+        long next = scheduler.getNextSpawnTick();
+        assertTrue(next > 1);
+        assertEquals(0, scheduler.poll(2, 2));
+        assertEquals(2, scheduler.getPendingCount(), "Slots no longer free lose their spawns");
+
+        scheduler.setProbability(0, 3);
+        for (long tick = 3; tick < 100_000; tick++) {
+            assertEquals(0, scheduler.poll(tick, 2));
+        }
+        assertEquals(3, scheduler.getSpawnCount());
+        assertThrows(IllegalArgumentException.class, () -> scheduler.setProbability(1.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SpawnScheduler("enemy", -0.1, new GameRandom(1)));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.level;
+
+import com.example.demo.util.GameScore;
+import com.example.demo.util.LatencyHistogram;
+import com.example.demo.util.TickProfiler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TickProfilerTest {
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double SCREEN_WIDTH = 1300;
+
+    @Test
+    void testHistogramPercentilesBoundSamples() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 99; i++) {
+            histogram.record(1_000);
+        }
+        histogram.record(1_000_000);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMaxNanos());
+        long p50 = histogram.getPercentileNanos(50);
+        assertTrue(p50 >= 1_000 && p50 < 2_000, "p50 should be within a factor of two of 1 us, was " + p50);
+        assertEquals(1_000_000, histogram.getPercentileNanos(100));
+        assertEquals((99 * 1_000 + 1_000_000) / 100.0, histogram.getMeanNanos());
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(99));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(101));
+    }
+
+    @Test
+    void testLevelTicksAreProfiledOnlyWhenEnabled() {
+        LevelParent level = new LevelOne(SCREEN_HEIGHT, SCREEN_WIDTH);
+        level.addGameScore(new GameScore(0));
+        int ticks = 50;
+        for (int i = 0; i < ticks; i++) {
+            level.fireProjectile();
+            level.updateScene();
+        }
+
+        // The profiled-test surefire execution runs this class again with -Ddemo.profile=true.
+        TickProfiler profiler = level.getProfiler();
+        long expected = TickProfiler.ENABLED ? ticks : 0;
+        for (TickProfiler.Phase phase : TickProfiler.Phase.values()) {
+            boolean tickPhase = phase.ordinal() <= TickProfiler.Phase.TICK.ordinal();
+            assertEquals(tickPhase ? expected : 0, profiler.getHistogram(phase).getCount(), phase.name());
+        }
+        assertEquals(TickProfiler.ENABLED ? level.getUserProjectiles().size() : 0,
+                profiler.getGauge(TickProfiler.Gauge.USER_PROJECTILES));
+        assertEquals(TickProfiler.ENABLED ? level.getEnemyUnits().size() : 0,
+                profiler.getGauge(TickProfiler.Gauge.ENEMY_UNITS));
+        assertEquals(TickProfiler.ENABLED ? level.getFriendlyUnits().size() : 0,
+                profiler.getGauge(TickProfiler.Gauge.FRIENDLY_UNITS));
+        if (TickProfiler.ENABLED) {
+            assertTrue(profiler.getPeakGauge(TickProfiler.Gauge.USER_PROJECTILES) > 0);
+            assertTrue(profiler.getHistogram(TickProfiler.Phase.TICK).getMaxNanos() > 0);
+        }
+        assertTrue(profiler.report().contains("GENERIC_COLLISIONS"));
+    }
+}
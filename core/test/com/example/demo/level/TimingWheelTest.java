@@ -0,0 +1,101 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.HealthPoint;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.GameScore;
+import com.example.demo.util.TimingWheel;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the {@link TimingWheel} runs every timer exactly on its due tick across all wheel levels.
+ */
+class TimingWheelTest {
+
+    @Test
+    void testTimersRunOnDueTick() {
+        TimingWheel wheel = new TimingWheel();
+        GameRandom random = new GameRandom(3);
+        List<long[]> runs = new ArrayList<>();
+        long[] delays = {0, 1, 2, 63, 64, 65, 127, 128, 4_095, 4_096, 4_097, 262_143, 262_144, 300_000};
+
+        // Start some timers mid-rotation so slot indices wrap around.
+        for (int i = 0; i < 37; i++) {
+            wheel.advance();
+        }
+        for (long delay : delays) {
+            long due = wheel.getCurrentTick() + Math.max(1, delay);
+            wheel.schedule(delay, () -> runs.add(new long[] {due, wheel.getCurrentTick()}));
+        }
+        for (int i = 0; i < 2_000; i++) {
+            long delay = random.nextInt(10_000);
+            long due = wheel.getCurrentTick() + Math.max(1, delay);
+            wheel.schedule(delay, () -> runs.add(new long[] {due, wheel.getCurrentTick()}));
+        }
+        assertEquals(delays.length + 2_000, wheel.getPendingCount());
+
+        while (wheel.getCurrentTick() < 300_100) {
+            wheel.advance();
+        }
+        assertEquals(delays.length + 2_000, runs.size());
+        for (long[] run : runs) {
+            assertEquals(run[0], run[1]);
+        }
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void testCancelAndReschedule() {
+        TimingWheel wheel = new TimingWheel();
+        int[] count = new int[1];
+        TimingWheel.Timer cancelled = wheel.schedule(5, () -> count[0] += 100);
+        TimingWheel.Timer rescheduled = new TimingWheel.Timer(() -> count[0]++);
+        wheel.schedule(rescheduled, 5);
+        wheel.schedule(rescheduled, 200);
+        cancelled.cancel();
+        assertFalse(cancelled.isPending());
+        assertEquals(1, wheel.getPendingCount());
+
+        for (int i = 0; i < 199; i++) {
+            wheel.advance();
+        }
+        assertEquals(0, count[0]);
+        wheel.advance();
+        assertEquals(1, count[0]);
+        assertFalse(rescheduled.isPending());
+
+        // A timer can reschedule itself from its own task.
+        TimingWheel.Timer[] periodic = new TimingWheel.Timer[1];
+        periodic[0] = new TimingWheel.Timer(() -> {
+            count[0]++;
+            wheel.schedule(periodic[0], 10);
+        });
+        wheel.schedule(periodic[0], 10);
+        for (int i = 0; i < 100; i++) {
+            wheel.advance();
+        }
+        assertEquals(11, count[0]);
+
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(-1, () -> {}));
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(TimingWheel.MAX_DELAY + 1, () -> {}));
+    }
+
+    @Test
+    void testPickupsExpireThroughScheduler() {
+        LevelParent level = new LevelTwo(750, 1300, new GameRandom(5));
+        level.addGameScore(new GameScore(0));
+        HealthPoint healthPoint = new HealthPoint(level.getUser(), 1_000, new GameRandom(1), level.getClock());
+        level.addHealthPoint(healthPoint);
+        assertEquals(1, level.getScheduler().getPendingCount());
+
+        while (level.getTickCount() < healthPoint.getExpiryTick() - 1) {
+            level.updateScene();
+            assertTrue(level.getHealthPoints().contains(healthPoint));
+        }
+        level.updateScene();
+        assertTrue(healthPoint.isDestroyed());
+        assertFalse(level.getHealthPoints().contains(healthPoint));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.Weapon;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.GameScore;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that weapons fire on the ticks their mode and cooldown allow.
+ */
+class WeaponTest {
+
+    private static String fireTicks(Weapon weapon, int ticks, int releaseTick) {
+        StringBuilder fired = new StringBuilder();
+        for (int tick = 0; tick < ticks; tick++) {
+            if (tick == releaseTick) {
+                weapon.releaseTrigger();
+            }
+            if (weapon.update()) {
+                fired.append(tick).append(' ');
+            }
+        }
+        return fired.toString().trim();
+    }
+
+    @Test
+    void testModesFireAtTheirRate() {
+        Weapon automatic = Weapon.automatic(4);
+        automatic.pullTrigger();
+        assertEquals("0 4 8", fireTicks(automatic, 20, 10));
+        assertEquals(3, automatic.getShotsFired());
+
+        // A tap shorter than a tick still fires, once the weapon has cooled down.
+        automatic.pullTrigger();
+        automatic.releaseTrigger();
+        assertTrue(automatic.update());
+        automatic.pullTrigger();
+        automatic.releaseTrigger();
+        assertEquals("3", fireTicks(automatic, 10, -1));
+
+        Weapon burst = new Weapon(Weapon.Mode.BURST, 2, 3);
+        burst.pullTrigger();
+        assertEquals("0 2 4", fireTicks(burst, 12, 1));
+        burst.pullTrigger();
+        assertEquals("0 2 4", fireTicks(burst, 12, -1));
+
+        assertThrows(IllegalArgumentException.class, () -> Weapon.automatic(0));
+        assertThrows(IllegalArgumentException.class, () -> new Weapon(Weapon.Mode.BURST, 1, 0));
+    }
+
+    @Test
+    void testHeldTriggerFiresOnLevelTicks() {
+        LevelParent level = new LevelOne(750, 1300, new GameRandom(8));
+        level.addGameScore(new GameScore(0));
+        Weapon weapon = level.getUser().getWeapon();
+
+        level.handleInput(PlayerInput.PULL_TRIGGER);
+        for (int tick = 0; tick < 10 * weapon.getCooldownTicks(); tick++) {
+            level.updateScene();
+        }
+        level.handleInput(PlayerInput.RELEASE_TRIGGER);
+        for (int tick = 0; tick < 5 * weapon.getCooldownTicks(); tick++) {
+            level.updateScene();
+        }
+        assertEquals(10, weapon.getShotsFired());
+        assertFalse(weapon.isTriggerHeld());
+    }
+}
@@ -1,8 +1,16 @@
 package com.example.demo.controller;
 
+import com.example.demo.level.GameEvent;
+import com.example.demo.level.GameEventListener;
 import com.example.demo.level.LevelNotification;
 import com.example.demo.level.LevelParent;
+import com.example.demo.level.ReplayRecorder;
+import com.example.demo.singleton.SpriteAtlas;
+import com.example.demo.singleton.SpriteCache;
+import com.example.demo.util.GameRandom;
 import com.example.demo.util.GameScore;
+import com.example.demo.view.LevelScene;
+import com.example.demo.view.RenderBackend;
 import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -10,38 +18,82 @@ import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.stage.Stage;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Objects;
-import java.util.Observable;
-import java.util.Observer;
 
 /**
  * The Controller class manages the application's main flow, handling game levels, navigation,
  * and interactions between game components.
  */
-public class Controller implements Observer {
+public class Controller implements GameEventListener {
 
 	private final Stage stage;
-	private LevelParent currentLevel;
+	private final GameRandom random;
+	private LevelScene currentLevelScene;
 	private Scene mainMenuScene;
 	private Scene gameInfoScene;
 	private Scene gameOverScene;
 	private GameOverController gameOverController;
 	private GameScore gameScore;
+	private Path replayDirectory;
+	private RenderBackend renderBackend = RenderBackend.NODES;
 
 	/**
-	 * Constructs a Controller with the specified stage.
+	 * Constructs a Controller with the specified stage and an unseeded source of randomness.
 	 *
 	 * @param stage the main stage of the application.
 	 */
 	public Controller(Stage stage) {
+		this(stage, new GameRandom());
+	}
+
+	/**
+	 * Constructs a Controller with the specified stage and source of randomness.
+	 * Each level receives its own generator seeded from {@code random}, so a seeded run plays out
+	 * the same way every time. Closing the stage stops the current level, so a replay being recorded
+	 * is finished.
+	 *
+	 * @param stage  the main stage of the application.
+	 * @param random the source the levels' seeds are drawn from.
+	 */
+	public Controller(Stage stage, GameRandom random) {
 		this.stage = stage;
+		this.random = random;
 		this.gameScore = new GameScore(0);
+		stage.setOnCloseRequest(event -> {
+			if (currentLevelScene != null) {
+				cleanUp();
+			}
+		});
+	}
+
+	/**
+	 * Records a replay of every following level into the given directory, one file per level.
+	 *
+	 * @param replayDirectory the directory replay files are written to. It is created if missing.
+	 */
+	public void recordReplaysTo(Path replayDirectory) {
+		this.replayDirectory = replayDirectory;
+	}
+
+	/**
+	 * Draws every following level with the given backend.
+	 *
+	 * @param renderBackend the way levels are drawn.
+	 */
+	public void setRenderBackend(RenderBackend renderBackend) {
+		this.renderBackend = renderBackend;
 	}
 
 	/**
 	 * Launches the game by displaying the main menu and making the primary stage visible.
+	 * The {@link SpriteAtlas} is packed first, so the first level does not pay for decoding sprites.
 	 *
 	 * @throws ClassNotFoundException if a required class cannot be found during game initialization.
 	 * @throws NoSuchMethodException if a required method or constructor is missing.
@@ -53,6 +105,7 @@ public class Controller implements Observer {
 	 */
 	public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
 			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		SpriteAtlas.getInstance();
 		showMainMenu();
 		stage.show();
 	}
@@ -104,7 +157,10 @@ public class Controller implements Observer {
 	}
 
 	/**
-	 * Navigates to a specified level by dynamically loading the class and initializing it.
+	 * Navigates to a specified level by dynamically loading the class and presenting it in a {@link LevelScene}.
+	 * Sprites cached by the previous level are trimmed to the sprite cache's memory budget.
+	 * The level is given a generator seeded from the controller's {@link GameRandom}, and its replay is recorded
+	 * when a replay directory is set.
 	 *
 	 * @param className the fully qualified name of the class representing the level.
 	 * @throws ClassNotFoundException if the specified class cannot be located.
@@ -117,21 +173,27 @@ public class Controller implements Observer {
 	 */
 	public void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
 			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-		if (currentLevel != null) {
-			currentLevel.stopGame();
+		if (currentLevelScene != null) {
 			cleanUp();
 		}
+		SpriteCache.getInstance().trimToBudget();
 
 		Class<?> myClass = Class.forName(className);
-		Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
-		currentLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth());
-		currentLevel.addObserver(this);
-		currentLevel.addGameScore(gameScore);
+		Constructor<?> constructor = myClass.getConstructor(double.class, double.class, GameRandom.class);
+		long levelSeed = random.nextLong();
+		LevelParent level = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth(), new GameRandom(levelSeed));
+		level.addGameScore(gameScore);
+		if (replayDirectory != null) {
+			startReplayRecording(level, levelSeed);
+		}
+
+		currentLevelScene = new LevelScene(level, renderBackend);
+		currentLevelScene.getEvents().subscribe(GameEvent.Type.LEVEL_TRANSITION, this);
 
-		Scene scene = currentLevel.initializeScene();
+		Scene scene = currentLevelScene.initializeScene();
 		stage.setScene(scene);
 
-		currentLevel.startGame();
+		currentLevelScene.startGame();
 	}
 
 	/**
@@ -151,8 +213,8 @@ public class Controller implements Observer {
 	public void showError(Exception exception) {
 		exception.printStackTrace();
 
-		if (currentLevel != null && currentLevel instanceof LevelParent) {
-			currentLevel.stopGame();
+		if (currentLevelScene != null) {
+			currentLevelScene.stopGame();
 		}
 
 		Platform.runLater(() -> {
@@ -165,11 +227,34 @@ public class Controller implements Observer {
 	}
 
 	/**
-	 * Cleans up the current level and resets the scene.
+	 * Starts recording the level's inputs into a new file in the replay directory.
+	 * If the file cannot be created the error is shown and the level is played without a recording.
+	 *
+	 * @param level the level about to start.
+	 * @param seed  the seed the level was built with.
+	 */
+	private void startReplayRecording(LevelParent level, long seed) {
+		Path file = replayDirectory.resolve(System.currentTimeMillis() + "-" + level.getClass().getSimpleName() + ".replay");
+		try {
+			Files.createDirectories(replayDirectory);
+			level.recordReplay(new ReplayRecorder(new BufferedOutputStream(Files.newOutputStream(file)), level, seed));
+		} catch (IOException e) {
+			showError(new IOException("Could not record replay to " + file + ": " + e.getMessage(), e));
+		}
+	}
+
+	/**
+	 * Stops the current level and resets the scene. Stopping the level finishes its replay recording at
+	 * the current tick, so a level left before it ends can still be played back.
 	 */
 	private void cleanUp() {
-		currentLevel.deleteObserver(this);
-		currentLevel = null;
+		try {
+			currentLevelScene.stopGame();
+		} catch (UncheckedIOException e) {
+			showError(e);
+		}
+		currentLevelScene.getEvents().unsubscribe(GameEvent.Type.LEVEL_TRANSITION, this);
+		currentLevelScene = null;
 		stage.setScene(null);
 	}
 
@@ -201,25 +286,21 @@ public class Controller implements Observer {
 	}
 
 	/**
-	 * Handles updates received from observed objects.
+	 * Handles level transitions republished by the current level scene.
 	 *
-	 * @param arg0 the observable object.
-	 * @param arg1 the update argument.
+	 * @param event the {@link GameEvent.Type#LEVEL_TRANSITION} event.
 	 */
 	@Override
-	public void update(Observable arg0, Object arg1) {
-		if (arg1 instanceof LevelNotification notification) {
-			try {
-				LevelNotification.Action levelNotificationAction = notification.nextAction();
-				switch (levelNotificationAction) {
-					case NEXT_LEVEL -> goToLevel(notification.levelName());
-					case WIN_GAME, LOSE_GAME -> handleWinOrLoseGame(levelNotificationAction);
-				}
-			} catch (Exception e) {
-				showError(e);
+	public void onGameEvent(GameEvent event) {
+		LevelNotification notification = event.getNotification();
+		try {
+			LevelNotification.Action levelNotificationAction = notification.nextAction();
+			switch (levelNotificationAction) {
+				case NEXT_LEVEL -> goToLevel(notification.levelName());
+				case WIN_GAME, LOSE_GAME -> handleWinOrLoseGame(levelNotificationAction);
 			}
-		} else {
-			showError(new Exception("Unexpected notification type received."));
+		} catch (Exception e) {
+			showError(e);
 		}
 	}
 }
\ No newline at end of file
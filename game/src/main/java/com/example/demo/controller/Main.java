@@ -1,6 +1,9 @@
 package com.example.demo.controller;
 
+import com.example.demo.util.GameRandom;
+import com.example.demo.view.RenderBackend;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
@@ -14,11 +17,17 @@ public class Main extends Application {
 	private static final int SCREEN_WIDTH = 1300;
 	private static final int SCREEN_HEIGHT = 750;
 	private static final String TITLE = "Sky Battle";
+	private static final String SEED_PARAMETER = "seed";
+	private static final String RECORD_PARAMETER = "record";
+	private static final String RENDERER_PARAMETER = "renderer";
 	private Controller myController;
 
 	/**
 	 * Starts the JavaFX application by setting up the primary stage, initializing the game controller,
-	 * and launching the game.
+	 * and launching the game. A {@code --seed=<number>} argument makes the run reproducible;
+	 * without it the game is seeded randomly. A {@code --record=<directory>} argument records a replay
+	 * of every level into the directory. A {@code --renderer=canvas} argument draws the levels into a single
+	 * canvas instead of one scene-graph node per actor.
 	 *
 	 * @param stage the primary stage for the JavaFX application
 	 * @throws ClassNotFoundException    if the controller class cannot be found
@@ -26,7 +35,8 @@ public class Main extends Application {
 	 * @throws SecurityException         if access to a method or class is restricted
 	 * @throws InstantiationException    if the controller class cannot be instantiated
 	 * @throws IllegalAccessException    if the current context does not have access to the controller class
-	 * @throws IllegalArgumentException  if an illegal argument is passed during initialization
+	 * @throws IllegalArgumentException  if an illegal argument is passed during initialization, the seed is not a number,
+	 *                                   or the renderer is unknown
 	 * @throws InvocationTargetException if an error occurs during the method invocation
 	 */
 	@Override
@@ -36,7 +46,17 @@ public class Main extends Application {
 		stage.setResizable(false);
 		stage.setHeight(SCREEN_HEIGHT);
 		stage.setWidth(SCREEN_WIDTH);
-		myController = new Controller(stage);
+		String seed = getParameters().getNamed().get(SEED_PARAMETER);
+		GameRandom random = seed == null ? new GameRandom() : GameRandom.fromSeed(seed);
+		myController = new Controller(stage, random);
+		String replayDirectory = getParameters().getNamed().get(RECORD_PARAMETER);
+		if (replayDirectory != null) {
+			myController.recordReplaysTo(Path.of(replayDirectory));
+		}
+		String renderer = getParameters().getNamed().get(RENDERER_PARAMETER);
+		if (renderer != null) {
+			myController.setRenderBackend(RenderBackend.fromName(renderer));
+		}
 		myController.launchGame();
 	}
 
@@ -44,9 +64,9 @@ public class Main extends Application {
 	 * The main method serves as the entry point of the application.
 	 * It launches the JavaFX application.
 	 *
-	 * @param args command-line arguments passed to the application (not used)
+	 * @param args command-line arguments passed to the application, such as {@code --seed=42}
 	 */
 	public static void main(String[] args) {
-		launch();
+		launch(args);
 	}
 }
\ No newline at end of file
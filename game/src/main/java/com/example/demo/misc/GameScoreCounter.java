@@ -77,17 +77,26 @@ public class GameScoreCounter {
      * @return the formatted game score string.
      */
     private String formatGameScoreCounterText() {
-        return "Score: " + gameScore.getScore() + formatGameScoreLastIncrementText();
+        return formatGameScore(gameScore);
+    }
+
+    /**
+     * Formats a game score as shown by the score counter, for renderers drawing it without a {@link Text} node.
+     *
+     * @param gameScore the score to format.
+     * @return the formatted game score string.
+     */
+    public static String formatGameScore(GameScore gameScore) {
+        return "Score: " + gameScore.getScore() + formatGameScoreLastIncrementText(gameScore);
     }
 
     /**
      * Formats the last increment in the score to display alongside the total score.
      *
+     * @param gameScore the score whose last increment is formatted.
      * @return the formatted last increment string.
      */
-    private String formatGameScoreLastIncrementText() {
-        int lastIncrement = gameScore.getLastIncrement();
-
+    private static String formatGameScoreLastIncrementText(GameScore gameScore) {
         return "  +" + gameScore.getLastIncrement();
     }
 }
\ No newline at end of file
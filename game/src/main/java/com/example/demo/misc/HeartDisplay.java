@@ -1,18 +1,16 @@
 package com.example.demo.misc;
 
-import javafx.scene.image.Image;
+import com.example.demo.singleton.SpriteAtlas;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
-import java.util.Objects;
-
 /**
  * Represents a heart display used to visually indicate the player's remaining health in the game.
  * The display consists of a series of heart icons managed within an {@link HBox}.
  */
 public class HeartDisplay {
 
-	private static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png";
+	private static final String HEART_IMAGE_NAME = "heart.png";
 	private static final int HEART_HEIGHT = 30;
 	private static final int INDEX_OF_FIRST_ITEM = 0;
 
@@ -83,11 +81,13 @@ public class HeartDisplay {
 
 	/**
 	 * Creates a new heart {@link ImageView} with predefined height and ratio settings.
+	 * The heart is shown from its region of the {@link SpriteAtlas}.
 	 *
 	 * @return a configured {@link ImageView} for the heart icon.
 	 */
 	private ImageView createHeartImage() {
-		ImageView heart = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(HEART_IMAGE_NAME)).toExternalForm()));
+		ImageView heart = new ImageView();
+		SpriteAtlas.getInstance().show(heart, HEART_IMAGE_NAME, HEART_HEIGHT);
 		heart.setFitHeight(HEART_HEIGHT);
 		heart.setPreserveRatio(true);
 		return heart;
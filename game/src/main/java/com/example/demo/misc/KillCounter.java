@@ -65,6 +65,17 @@ public class KillCounter {
      * @return the formatted kill counter text.
      */
     private String formatKillCounterText() {
+        return formatKillCount(currentKills, killsToAdvance);
+    }
+
+    /**
+     * Formats a kill count as shown by the kill counter, for renderers drawing it without a {@link Text} node.
+     *
+     * @param currentKills   the current number of kills.
+     * @param killsToAdvance the target number of kills required to advance.
+     * @return the formatted kill counter text.
+     */
+    public static String formatKillCount(int currentKills, int killsToAdvance) {
         return "Kills: " + currentKills + " / " + killsToAdvance;
     }
 }
\ No newline at end of file
@@ -1,20 +1,19 @@
 package com.example.demo.misc;
 
-import javafx.scene.image.Image;
+import com.example.demo.singleton.SpriteAtlas;
 import javafx.scene.image.ImageView;
-import java.util.Objects;
 
 /**
  * Represents an image used to indicate that the boss's ability to fire projectiles is deactivated.
  * The image is positioned on the game screen but is initially hidden and can be toggled
- * to show or hide based on game events.
+ * to show or hide based on game events. The image is shown from its region of the {@link SpriteAtlas}.
  */
 public class NoFireImage extends ImageView {
 
     /**
-     * The file path to the "No Fire" image asset.
+     * The name of the "No Fire" image asset.
      */
-    private static final String IMAGE_NAME = "/com/example/demo/images/NoFireImage.png";
+    private static final String IMAGE_NAME = "NoFireImage.png";
 
     /**
      * The size of the image (height in pixels).
@@ -32,7 +31,7 @@ public class NoFireImage extends ImageView {
     public NoFireImage(double xPosition, double yPosition) {
         this.setLayoutX(xPosition);
         this.setLayoutY(yPosition);
-        this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_NAME)).toExternalForm(), true));
+        SpriteAtlas.getInstance().show(this, IMAGE_NAME, IMG_SIZE);
         this.setVisible(false); // Image is initially hidden
         this.setFitHeight(IMG_SIZE);
         this.setPreserveRatio(true); // Maintains aspect ratio
@@ -1,15 +1,15 @@
 package com.example.demo.misc;
 
-import javafx.scene.image.Image;
+import com.example.demo.singleton.SpriteAtlas;
 import javafx.scene.image.ImageView;
-import java.util.Objects;
 
 /**
  * Represents a shield image in the game. The shield can be shown or hidden as needed.
+ * The image is shown from its region of the {@link SpriteAtlas}.
  */
 public class ShieldImage extends ImageView {
 
-	private static final String IMAGE_NAME = "/com/example/demo/images/shield.png";
+	private static final String IMAGE_NAME = "shield.png";
 	private static final int SHIELD_SIZE = 100;
 
 	/**
@@ -21,7 +21,7 @@ public class ShieldImage extends ImageView {
 	public ShieldImage(double xPosition, double yPosition) {
 		this.setLayoutX(xPosition);
 		this.setLayoutY(yPosition);
-		this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_NAME)).toExternalForm(), true));
+		SpriteAtlas.getInstance().show(this, IMAGE_NAME, SHIELD_SIZE);
 		this.setVisible(false);
 		this.setFitHeight(SHIELD_SIZE);
 		this.setFitWidth(SHIELD_SIZE);
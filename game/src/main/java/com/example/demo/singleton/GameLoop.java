@@ -0,0 +1,220 @@
+/**
+ * Singleton class representing a game loop that manages periodic updates.
+ * <p>
+ * The {@code GameLoop} class uses a JavaFX {@link AnimationTimer}, which fires once per display frame,
+ * and a {@link FixedTimestep} that decides how many fixed-length simulation ticks each frame runs.
+ * The simulation therefore advances at the same rate whatever the display rate is, catches up after
+ * a slow frame up to a cap, and drops ticks beyond the cap instead of falling further behind.
+ * After the ticks of a frame the render task receives the interpolation factor between the last
+ * two ticks. It supports operations such as starting, stopping, pausing, and resuming the game loop.
+ * </p>
+ */
+package com.example.demo.singleton;
+
+import com.example.demo.util.FixedTimestep;
+import javafx.animation.AnimationTimer;
+import javafx.util.Duration;
+
+import java.util.function.DoubleConsumer;
+
+public class GameLoop {
+
+    /**
+     * The maximum number of simulation ticks run in a single display frame.
+     */
+    private static final int MAX_TICKS_PER_FRAME = 5;
+
+    /**
+     * The single instance of the {@code GameLoop}.
+     */
+    private static GameLoop instance;
+
+    /**
+     * The JavaFX {@link AnimationTimer} called on every display frame.
+     */
+    private final AnimationTimer timer;
+
+    /**
+     * The accumulator converting frame times into simulation ticks.
+     */
+    private FixedTimestep timestep;
+
+    private Runnable tickTask = () -> {};
+    private DoubleConsumer renderTask = alpha -> {};
+
+    /**
+     * Incremented whenever the loop is stopped or re-initialized, so a frame in progress
+     * can tell that its remaining ticks no longer apply.
+     */
+    private int generation;
+
+    /**
+     * A flag indicating whether the game loop has been started and not stopped.
+     */
+    private boolean running = false;
+
+    /**
+     * A flag indicating whether the game loop is currently paused.
+     */
+    private boolean paused = false;
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private GameLoop() {
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                runFrame(now);
+            }
+        };
+        timestep = new FixedTimestep(1, MAX_TICKS_PER_FRAME);
+    }
+
+    /**
+     * Retrieves the singleton instance of {@code GameLoop}.
+     * <p>
+     * If the instance does not exist, it will be created.
+     * </p>
+     *
+     * @return the singleton instance of {@code GameLoop}
+     */
+    public static synchronized GameLoop getInstance() {
+        if (instance == null) {
+            instance = new GameLoop();
+        }
+        return instance;
+    }
+
+    /**
+     * Initializes the game loop with a specified tick duration, tick task and render task.
+     * <p>
+     * Replaces any previous tasks and resets the tick statistics.
+     * </p>
+     *
+     * @param tickDuration the duration of each simulation tick
+     * @param tickTask     the task advancing the simulation by one tick
+     * @param renderTask   the task drawing a frame, given the interpolation factor between the last two ticks
+     */
+    public void initialize(Duration tickDuration, Runnable tickTask, DoubleConsumer renderTask) {
+        generation++;
+        this.timestep = new FixedTimestep((long) (tickDuration.toMillis() * 1_000_000), MAX_TICKS_PER_FRAME);
+        this.tickTask = tickTask;
+        this.renderTask = renderTask;
+    }
+
+    /**
+     * Starts the game loop.
+     * <p>
+     * Sets the paused state to {@code false} and starts the {@link AnimationTimer}.
+     * </p>
+     */
+    public void start() {
+        running = true;
+        paused = false;
+        timestep.reset();
+        timer.start();
+    }
+
+    /**
+     * Stops the game loop.
+     * <p>
+     * Sets the paused state to {@code false} and stops the {@link AnimationTimer}.
+     * </p>
+     */
+    public void stop() {
+        generation++;
+        running = false;
+        paused = false;
+        timer.stop();
+    }
+
+    /**
+     * Pauses the game loop.
+     * <p>
+     * Sets the paused state to {@code true} and stops the {@link AnimationTimer}.
+     * </p>
+     */
+    public void pause() {
+        paused = true;
+        timer.stop();
+    }
+
+    /**
+     * Resumes the game loop if it is currently paused.
+     * <p>
+     * Sets the paused state to {@code false} and restarts the {@link AnimationTimer}
+     * without simulating the time spent paused.
+     * </p>
+     */
+    public void resume() {
+        if (paused) {
+            paused = false;
+            timestep.reset();
+            timer.start();
+        }
+    }
+
+    /**
+     * Checks whether the game loop is currently paused.
+     *
+     * @return {@code true} if the game loop is paused, {@code false} otherwise
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Checks whether the game loop is started and not paused.
+     *
+     * @return {@code true} if the game loop is running, {@code false} otherwise
+     */
+    public boolean isRunning() {
+        return running && !paused;
+    }
+
+    /**
+     * Gets the number of simulation ticks run since the loop was initialized.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return timestep.getTickCount();
+    }
+
+    /**
+     * Gets the number of extra ticks run to catch up after slow frames since the loop was initialized.
+     *
+     * @return the caught-up tick count
+     */
+    public long getCaughtUpTicks() {
+        return timestep.getCaughtUpTicks();
+    }
+
+    /**
+     * Gets the number of ticks dropped because a frame exceeded the catch-up cap since the loop was initialized.
+     *
+     * @return the dropped tick count
+     */
+    public long getDroppedTicks() {
+        return timestep.getDroppedTicks();
+    }
+
+    /**
+     * Runs the ticks due for a display frame, then renders it.
+     * Stops early if a tick stops or re-initializes the loop, for example when the level ends.
+     *
+     * @param now the timestamp of the frame in nanoseconds
+     */
+    private void runFrame(long now) {
+        int frameGeneration = generation;
+        int ticks = timestep.advance(now);
+        for (int i = 0; i < ticks; i++) {
+            tickTask.run();
+            if (generation != frameGeneration || paused) {
+                return;
+            }
+        }
+        renderTask.accept(timestep.getAlpha());
+    }
+}
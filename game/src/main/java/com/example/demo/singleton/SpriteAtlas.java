@@ -0,0 +1,220 @@
+package com.example.demo.singleton;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Singleton atlas packing every actor and HUD sprite into one image.
+ * <p>
+ * On first use each sprite listed in {@link #SPRITES} is decoded once at the height it is displayed at,
+ * and the decoded sprites are packed onto shelves of a single {@link WritableImage}, tallest first, with a
+ * transparent gap between them so scaled sprites do not bleed into their neighbours. A region index maps
+ * each sprite and height to its rectangle in the atlas. Views show a sprite by displaying the atlas through
+ * that rectangle as their viewport, and the canvas renderer copies the rectangle, so every sprite on screen
+ * comes from one texture.
+ * </p>
+ * <p>
+ * Sprites that are not in the atlas, such as an enemy variation at a new height, fall back to the
+ * {@link SpriteCache}.
+ * </p>
+ */
+public class SpriteAtlas {
+
+    /**
+     * The base location for all sprite images.
+     */
+    private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+    /**
+     * The width of the atlas image, wide enough for the widest sprite.
+     */
+    private static final int ATLAS_WIDTH = 1024;
+
+    /**
+     * The transparent gap around every sprite in the atlas.
+     */
+    private static final int PADDING = 2;
+
+    /**
+     * Every sprite packed into the atlas, at the heights actors and HUD elements display it.
+     */
+    private static final List<SpriteEntry> SPRITES = List.of(
+            new SpriteEntry("userplane.png", 40),
+            new SpriteEntry("enemyplane.png", 50),
+            new SpriteEntry("enemyplane.png", 100),
+            new SpriteEntry("bossplane.png", 120),
+            new SpriteEntry("userfire.png", 50),
+            new SpriteEntry("enemyFire.png", 30),
+            new SpriteEntry("fireball.png", 50),
+            new SpriteEntry("heart.png", 30),
+            new SpriteEntry("NoFireImage.png", 30),
+            new SpriteEntry("NoFireImage.png", 40),
+            new SpriteEntry("shield.png", 100)
+    );
+
+    /**
+     * The single instance of the {@code SpriteAtlas}.
+     */
+    private static SpriteAtlas instance;
+
+    private final WritableImage image;
+
+    /**
+     * The atlas regions of each image, one per packed height.
+     */
+    private final Map<String, List<Region>> regions;
+
+    private final long buildNanos;
+
+    /**
+     * A sprite to pack, identified by its image file and display height.
+     *
+     * @param imageName   the name of the image file.
+     * @param imageHeight the height the image is decoded at.
+     */
+    private record SpriteEntry(String imageName, int imageHeight) {}
+
+    /**
+     * The rectangle of the atlas holding a sprite decoded at a specific height.
+     *
+     * @param imageHeight the height the sprite was decoded at.
+     * @param viewport    the sprite's rectangle in the atlas.
+     */
+    private record Region(int imageHeight, Rectangle2D viewport) {}
+
+    /**
+     * Private constructor to enforce the singleton pattern. Decodes and packs every listed sprite.
+     *
+     * @throws NullPointerException if a listed image resource cannot be found.
+     */
+    private SpriteAtlas() {
+        long start = System.nanoTime();
+        Image[] sprites = new Image[SPRITES.size()];
+        Integer[] order = new Integer[sprites.length];
+        for (int i = 0; i < sprites.length; i++) {
+            SpriteEntry entry = SPRITES.get(i);
+            String url = Objects.requireNonNull(getClass().getResource(IMAGE_LOCATION + entry.imageName())).toExternalForm();
+            sprites[i] = new Image(url, 0, entry.imageHeight(), true, true);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(sprites[b].getHeight(), sprites[a].getHeight()));
+
+        // Shelf packing: fill a row left to right, then start a new row below the tallest sprite in it.
+        int[] xs = new int[sprites.length];
+        int[] ys = new int[sprites.length];
+        int x = PADDING;
+        int y = PADDING;
+        int shelfHeight = 0;
+        for (int i : order) {
+            int width = (int) sprites[i].getWidth();
+            int height = (int) sprites[i].getHeight();
+            if (x + width + PADDING > ATLAS_WIDTH) {
+                x = PADDING;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            xs[i] = x;
+            ys[i] = y;
+            x += width + PADDING;
+            shelfHeight = Math.max(shelfHeight, height);
+        }
+
+        image = new WritableImage(ATLAS_WIDTH, y + shelfHeight + PADDING);
+        regions = new HashMap<>();
+        for (int i = 0; i < sprites.length; i++) {
+            int width = (int) sprites[i].getWidth();
+            int height = (int) sprites[i].getHeight();
+            image.getPixelWriter().setPixels(xs[i], ys[i], width, height, sprites[i].getPixelReader(), 0, 0);
+            SpriteEntry entry = SPRITES.get(i);
+            regions.computeIfAbsent(entry.imageName(), name -> new ArrayList<>())
+                    .add(new Region(entry.imageHeight(), new Rectangle2D(xs[i], ys[i], width, height)));
+        }
+        buildNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Retrieves the singleton instance of {@code SpriteAtlas}, building the atlas on first use.
+     *
+     * @return the singleton instance of {@code SpriteAtlas}
+     */
+    public static synchronized SpriteAtlas getInstance() {
+        if (instance == null) {
+            instance = new SpriteAtlas();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the atlas image holding every packed sprite.
+     *
+     * @return the atlas image.
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Gets the rectangle of the atlas holding a sprite, without allocating.
+     *
+     * @param imageName   the name of the image file in the images directory.
+     * @param imageHeight the display height of the sprite.
+     * @return the sprite's rectangle in the atlas, or {@code null} if the sprite is not packed at that height.
+     */
+    public Rectangle2D getRegion(String imageName, int imageHeight) {
+        List<Region> imageRegions = regions.get(imageName);
+        if (imageRegions != null) {
+            for (int i = 0; i < imageRegions.size(); i++) {
+                if (imageRegions.get(i).imageHeight() == imageHeight) {
+                    return imageRegions.get(i).viewport();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Shows a sprite in a view: the atlas through the sprite's rectangle if it is packed, otherwise
+     * the sprite from the {@link SpriteCache}.
+     *
+     * @param view        the view to show the sprite in.
+     * @param imageName   the name of the image file in the images directory.
+     * @param imageHeight the display height of the sprite.
+     */
+    public void show(ImageView view, String imageName, int imageHeight) {
+        Rectangle2D region = getRegion(imageName, imageHeight);
+        if (region != null) {
+            view.setImage(image);
+            view.setViewport(region);
+        } else {
+            view.setImage(SpriteCache.getInstance().getSprite(imageName, imageHeight));
+            view.setViewport(null);
+        }
+    }
+
+    /**
+     * Gets the number of sprites packed into the atlas.
+     *
+     * @return the packed sprite count.
+     */
+    public int getSpriteCount() {
+        return SPRITES.size();
+    }
+
+    /**
+     * Gets the time taken to decode and pack the atlas.
+     *
+     * @return the build time in nanoseconds.
+     */
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.demo.singleton;
+
+import javafx.scene.image.Image;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Singleton cache of decoded actor sprites.
+ * <p>
+ * Sprites are keyed by image name and display height, and each one is decoded once
+ * at that height so the full-resolution file is never held in memory. The decoded
+ * {@link Image} is shared by every actor that displays it. Entries are kept in
+ * least-recently-used order and trimmed to the memory budget between levels.
+ * </p>
+ */
+public class SpriteCache {
+
+    /**
+     * The base location for all actor images.
+     */
+    private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+    /**
+     * The default memory budget for decoded sprites, in bytes.
+     */
+    private static final long DEFAULT_MEMORY_BUDGET_BYTES = 16L * 1024 * 1024;
+
+    /**
+     * Decoded images are stored as 32-bit ARGB.
+     */
+    private static final int BYTES_PER_PIXEL = 4;
+
+    /**
+     * The single instance of the {@code SpriteCache}.
+     */
+    private static SpriteCache instance;
+
+    /**
+     * Cached sprites in access order, least recently used first.
+     */
+    private final LinkedHashMap<SpriteKey, Image> sprites;
+
+    private long memoryBudgetBytes;
+    private long memoryUsageBytes;
+    private long hits;
+    private long misses;
+
+    /**
+     * Key identifying a sprite decoded at a specific display height.
+     *
+     * @param imageName   the name of the image file.
+     * @param imageHeight the height the image is decoded at.
+     */
+    private record SpriteKey(String imageName, int imageHeight) {}
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private SpriteCache() {
+        sprites = new LinkedHashMap<>(16, 0.75f, true);
+        memoryBudgetBytes = DEFAULT_MEMORY_BUDGET_BYTES;
+    }
+
+    /**
+     * Retrieves the singleton instance of {@code SpriteCache}.
+     *
+     * @return the singleton instance of {@code SpriteCache}
+     */
+    public static synchronized SpriteCache getInstance() {
+        if (instance == null) {
+            instance = new SpriteCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the sprite for the given image, decoded at the given height.
+     * The image is decoded on the first request and shared afterwards.
+     *
+     * @param imageName   the name of the image file in the images directory.
+     * @param imageHeight the display height of the sprite.
+     * @return the shared decoded {@link Image}.
+     * @throws NullPointerException if the image resource cannot be found.
+     */
+    public Image getSprite(String imageName, int imageHeight) {
+        SpriteKey key = new SpriteKey(imageName, imageHeight);
+        Image sprite = sprites.get(key);
+        if (sprite != null) {
+            hits++;
+            return sprite;
+        }
+
+        misses++;
+        String url = Objects.requireNonNull(getClass().getResource(IMAGE_LOCATION + imageName)).toExternalForm();
+        sprite = new Image(url, 0, imageHeight, true, true);
+        sprites.put(key, sprite);
+        memoryUsageBytes += estimateBytes(sprite);
+        return sprite;
+    }
+
+    /**
+     * Evicts least recently used sprites until the cache fits within its memory budget.
+     * Called when a level changes so sprites that are no longer shown can be released.
+     */
+    public void trimToBudget() {
+        Iterator<Map.Entry<SpriteKey, Image>> iterator = sprites.entrySet().iterator();
+        while (memoryUsageBytes > memoryBudgetBytes && iterator.hasNext()) {
+            memoryUsageBytes -= estimateBytes(iterator.next().getValue());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Removes every cached sprite.
+     */
+    public void clear() {
+        sprites.clear();
+        memoryUsageBytes = 0;
+    }
+
+    /**
+     * Sets the memory budget for cached sprites.
+     *
+     * @param memoryBudgetBytes the budget in bytes.
+     * @throws IllegalArgumentException if the budget is negative.
+     */
+    public void setMemoryBudget(long memoryBudgetBytes) {
+        if (memoryBudgetBytes < 0) {
+            throw new IllegalArgumentException("Invalid memory budget: " + memoryBudgetBytes);
+        }
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    /**
+     * Gets the memory budget for cached sprites.
+     *
+     * @return the budget in bytes.
+     */
+    public long getMemoryBudget() {
+        return memoryBudgetBytes;
+    }
+
+    /**
+     * Gets the estimated memory held by cached sprites.
+     *
+     * @return the estimated usage in bytes.
+     */
+    public long getMemoryUsage() {
+        return memoryUsageBytes;
+    }
+
+    /**
+     * Gets the number of cached sprites.
+     *
+     * @return the number of entries in the cache.
+     */
+    public int getSize() {
+        return sprites.size();
+    }
+
+    /**
+     * Gets the number of requests served from the cache.
+     *
+     * @return the hit count.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of requests that required a decode.
+     *
+     * @return the miss count.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Estimates the memory held by a decoded image.
+     *
+     * @param image the decoded image.
+     * @return the estimated size in bytes.
+     */
+    private static long estimateBytes(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+}
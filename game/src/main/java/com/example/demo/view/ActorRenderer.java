@@ -0,0 +1,187 @@
+package com.example.demo.view;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.level.LevelParent;
+import com.example.demo.singleton.SpriteAtlas;
+import javafx.scene.Group;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Draws the actors of a level into a {@link Group}.
+ * <p>
+ * Actors are plain model objects, so the renderer keeps a pool of {@link ImageView}s and binds
+ * one to each actor that is on screen every frame. Every view shows its sprite as a region of the
+ * {@link SpriteAtlas}, so all actors share one texture. Views are never removed from the scene graph;
+ * views left over when fewer actors are visible are hidden and reused later. A view only reloads
+ * its sprite when it is bound to an actor showing a different image. Debug bounding boxes are
+ * pooled the same way for actors whose bounding box is visible. New views and visibility changes are
+ * queued on a {@link SceneMutationQueue} rather than applied to the scene graph as they are made, so the
+ * scene applies a frame's changes in one batch and only views whose visibility actually flips are touched.
+ * Actors are drawn between their previous and current tick positions using the interpolation factor
+ * of the frame.
+ * </p>
+ */
+public class ActorRenderer {
+
+    private final Group layer;
+    private final double screenWidth;
+    private final double screenHeight;
+    private final List<SpriteSlot> spritePool;
+    private final List<Rectangle> boundingBoxPool;
+    private final SceneMutationQueue mutations;
+    private int spritesInUse;
+    private int boundingBoxesInUse;
+    private double alpha;
+
+    /**
+     * A pooled view and the sprite currently loaded into it.
+     */
+    private static final class SpriteSlot {
+        private final ImageView view = new ImageView();
+        private String imageName;
+        private int imageHeight;
+    }
+
+    /**
+     * Constructs a renderer drawing into the given layer.
+     *
+     * @param layer        the {@link Group} the actor views are added to.
+     * @param mutations    the queue the scene-graph changes are made through.
+     * @param screenWidth  the width of the visible area.
+     * @param screenHeight the height of the visible area.
+     */
+    public ActorRenderer(Group layer, SceneMutationQueue mutations, double screenWidth, double screenHeight) {
+        this.layer = layer;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.spritePool = new ArrayList<>();
+        this.boundingBoxPool = new ArrayList<>();
+        this.mutations = mutations;
+    }
+
+    /**
+     * Binds the pooled views to the visible actors of the level and hides the rest.
+     * The resulting scene-graph changes are queued until the scene applies them.
+     *
+     * @param level the level to draw.
+     * @param alpha the interpolation factor between the previous and current tick.
+     */
+    public void render(LevelParent level, double alpha) {
+        this.alpha = alpha;
+        spritesInUse = 0;
+        boundingBoxesInUse = 0;
+
+        renderActors(level.getFriendlyUnits());
+        renderActors(level.getEnemyUnits());
+        renderActors(level.getUserProjectiles());
+        renderActors(level.getEnemyProjectiles());
+        renderActors(level.getHealthPoints());
+        renderActors(level.getFireDeactivators());
+
+        for (int i = spritesInUse; i < spritePool.size(); i++) {
+            mutations.setVisible(spritePool.get(i).view, false);
+        }
+        for (int i = boundingBoxesInUse; i < boundingBoxPool.size(); i++) {
+            mutations.setVisible(boundingBoxPool.get(i), false);
+        }
+    }
+
+    /**
+     * Gets the number of views bound to an actor in the last frame.
+     *
+     * @return the number of visible actor views.
+     */
+    public int getVisibleCount() {
+        return spritesInUse;
+    }
+
+    /**
+     * Gets the number of pooled actor views, visible or not.
+     *
+     * @return the size of the view pool.
+     */
+    public int getPoolSize() {
+        return spritePool.size();
+    }
+
+    /**
+     * Draws every visible actor in the list.
+     *
+     * @param actors the actors to draw.
+     */
+    private void renderActors(List<? extends ActiveActorDestructible> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (isOnScreen(actor)) {
+                bindSprite(actor);
+                if (actor.isBoundingBoxVisible()) {
+                    bindBoundingBox(actor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Binds the next pooled view to the actor, growing the pool if every view is in use.
+     *
+     * @param actor the actor to draw.
+     */
+    private void bindSprite(ActiveActorDestructible actor) {
+        if (spritesInUse == spritePool.size()) {
+            SpriteSlot slot = new SpriteSlot();
+            slot.view.setPreserveRatio(true);
+            spritePool.add(slot);
+            mutations.add(layer, slot.view);
+        }
+        SpriteSlot slot = spritePool.get(spritesInUse++);
+        ImageView view = slot.view;
+
+        if (!actor.getImageName().equals(slot.imageName) || actor.getImageHeight() != slot.imageHeight) {
+            slot.imageName = actor.getImageName();
+            slot.imageHeight = actor.getImageHeight();
+            SpriteAtlas.getInstance().show(view, slot.imageName, slot.imageHeight);
+            view.setFitHeight(actor.getFitHeight());
+            view.setFitWidth(actor.getFitWidth());
+        }
+        view.setX(actor.getInterpolatedX(alpha));
+        view.setY(actor.getInterpolatedY(alpha));
+        mutations.setVisible(view, true);
+    }
+
+    /**
+     * Binds the next pooled debug rectangle to the actor's bounding box.
+     *
+     * @param actor the actor whose bounding box is drawn.
+     */
+    private void bindBoundingBox(ActiveActorDestructible actor) {
+        if (boundingBoxesInUse == boundingBoxPool.size()) {
+            Rectangle boundingBox = new Rectangle();
+            boundingBox.setStroke(Color.RED);
+            boundingBox.setFill(Color.TRANSPARENT);
+            boundingBoxPool.add(boundingBox);
+            mutations.add(layer, boundingBox);
+        }
+        Rectangle boundingBox = boundingBoxPool.get(boundingBoxesInUse++);
+        boundingBox.setX(actor.getInterpolatedX(alpha));
+        boundingBox.setY(actor.getInterpolatedY(alpha));
+        boundingBox.setWidth(actor.getMaxX() - actor.getMinX());
+        boundingBox.setHeight(actor.getMaxY() - actor.getMinY());
+        mutations.setVisible(boundingBox, true);
+    }
+
+    /**
+     * Checks whether any part of the actor's bounding box lies within the visible area.
+     *
+     * @param actor the actor to check.
+     * @return {@code true} if the actor is on screen, otherwise {@code false}.
+     */
+    private boolean isOnScreen(ActiveActorDestructible actor) {
+        return actor.getMaxX() >= 0 && actor.getMinX() <= screenWidth
+                && actor.getMaxY() >= 0 && actor.getMinY() <= screenHeight;
+    }
+}
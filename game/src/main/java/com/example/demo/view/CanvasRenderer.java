@@ -0,0 +1,245 @@
+package com.example.demo.view;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.actor.Boss;
+import com.example.demo.actor.SpriteDimensions;
+import com.example.demo.level.LevelBoss;
+import com.example.demo.level.LevelParent;
+import com.example.demo.misc.GameScoreCounter;
+import com.example.demo.misc.KillCounter;
+import com.example.demo.singleton.SpriteAtlas;
+import com.example.demo.singleton.SpriteCache;
+import com.example.demo.util.GameScore;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+import java.util.List;
+
+/**
+ * Draws a whole level into a single {@link Canvas}: the scrolling background, every actor and the HUD.
+ * <p>
+ * This is the {@link RenderBackend#CANVAS} alternative to {@link ActorRenderer} and {@link LevelView}. Each
+ * frame the canvas is redrawn with {@code drawImage} calls copying regions of the {@link SpriteAtlas},
+ * so the scene graph holds one node however many actors are on screen, and the renderer does not depend on
+ * Prism's per-node dirty regions. Actors are drawn between their previous and current tick positions using
+ * the interpolation factor of the frame, as by the node renderer. The HUD mirrors the one built by
+ * {@link LevelView} and, on the boss level, {@link LevelViewLevelBoss}; the win, game over and pause overlays
+ * stay scene-graph nodes above the canvas. HUD text is only reformatted when the values it shows change.
+ * </p>
+ */
+public class CanvasRenderer {
+
+    private static final String HEART_IMAGE_NAME = "heart.png";
+    private static final int HEART_HEIGHT = 30;
+    private static final String SHIELD_IMAGE_NAME = "shield.png";
+    private static final int SHIELD_SIZE = 100;
+    private static final String NO_FIRE_IMAGE_NAME = "NoFireImage.png";
+    private static final int NO_FIRE_HEIGHT = 40;
+    private static final Font COUNTER_FONT = Font.font("Arial", FontWeight.EXTRA_BOLD, 20);
+    private static final Font BOSS_HEALTH_FONT = Font.font("Arial", FontWeight.BOLD, 24);
+
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final Image background;
+    private final double screenWidth;
+    private final double screenHeight;
+    private final DropShadow bossHealthShadow;
+    private final SpriteAtlas atlas;
+    private double alpha;
+    private int drawnCount;
+
+    private int shownKills = -1;
+    private String killCounterText;
+    private int shownScore = -1;
+    private int shownScoreIncrement = -1;
+    private String gameScoreText;
+    private int shownBossHealth = -1;
+    private String bossHealthText;
+
+    /**
+     * Constructs a renderer drawing into a new canvas the size of the screen.
+     *
+     * @param background   the background image, drawn stretched to the screen and repeated once as it scrolls.
+     * @param screenWidth  the width of the visible area.
+     * @param screenHeight the height of the visible area.
+     */
+    public CanvasRenderer(Image background, double screenWidth, double screenHeight) {
+        this.canvas = new Canvas(screenWidth, screenHeight);
+        this.graphics = canvas.getGraphicsContext2D();
+        this.background = background;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.bossHealthShadow = new DropShadow();
+        bossHealthShadow.setColor(Color.BLACK);
+        this.atlas = SpriteAtlas.getInstance();
+    }
+
+    /**
+     * Gets the canvas the level is drawn into, to be added to the scene.
+     *
+     * @return the canvas.
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Redraws the background, the visible actors and the HUD from the current state of the level.
+     *
+     * @param level the level to draw.
+     * @param alpha the interpolation factor between the previous and current tick.
+     */
+    public void render(LevelParent level, double alpha) {
+        this.alpha = alpha;
+        drawnCount = 0;
+
+        double backgroundPosition = level.getInterpolatedBackgroundPosition(alpha);
+        graphics.drawImage(background, backgroundPosition, 0, screenWidth, screenHeight);
+        graphics.drawImage(background, backgroundPosition + screenWidth, 0, screenWidth, screenHeight);
+
+        drawActors(level.getFriendlyUnits());
+        drawActors(level.getEnemyUnits());
+        drawActors(level.getUserProjectiles());
+        drawActors(level.getEnemyProjectiles());
+        drawActors(level.getHealthPoints());
+        drawActors(level.getFireDeactivators());
+
+        drawHud(level);
+        if (level instanceof LevelBoss levelBoss) {
+            drawBossHud(levelBoss.getBoss());
+        }
+    }
+
+    /**
+     * Gets the number of actors drawn in the last frame.
+     *
+     * @return the number of visible actors.
+     */
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    /**
+     * Draws every visible actor in the list, with its bounding box if that is visible.
+     *
+     * @param actors the actors to draw.
+     */
+    private void drawActors(List<? extends ActiveActorDestructible> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (!isOnScreen(actor)) {
+                continue;
+            }
+            double x = actor.getInterpolatedX(alpha);
+            double y = actor.getInterpolatedY(alpha);
+            drawSprite(actor.getImageName(), actor.getImageHeight(), x, y, actor.getFitWidth(), actor.getFitHeight());
+            if (actor.isBoundingBoxVisible()) {
+                graphics.setStroke(Color.RED);
+                graphics.strokeRect(x, y, actor.getMaxX() - actor.getMinX(), actor.getMaxY() - actor.getMinY());
+            }
+            drawnCount++;
+        }
+    }
+
+    /**
+     * Draws the hearts, the kill counter and the game score.
+     *
+     * @param level the level being drawn.
+     */
+    private void drawHud(LevelParent level) {
+        double heartWidth = SpriteDimensions.getAspectRatio(HEART_IMAGE_NAME) * HEART_HEIGHT;
+        int hearts = level.getUser().getHealth();
+        for (int i = 0; i < hearts; i++) {
+            drawSprite(HEART_IMAGE_NAME, HEART_HEIGHT, LevelView.HEART_DISPLAY_X_POSITION + i * heartWidth,
+                    LevelView.HEART_DISPLAY_Y_POSITION, heartWidth, HEART_HEIGHT);
+        }
+
+        int kills = level.getUser().getNumberOfKills();
+        if (kills != shownKills) {
+            shownKills = kills;
+            killCounterText = KillCounter.formatKillCount(kills, level.getKillsToAdvance());
+        }
+        GameScore gameScore = level.getGameScore();
+        if (gameScore.getScore() != shownScore || gameScore.getLastIncrement() != shownScoreIncrement) {
+            shownScore = gameScore.getScore();
+            shownScoreIncrement = gameScore.getLastIncrement();
+            gameScoreText = GameScoreCounter.formatGameScore(gameScore);
+        }
+
+        graphics.setFont(COUNTER_FONT);
+        graphics.setLineWidth(1);
+        graphics.setStroke(Color.BLACK);
+        graphics.setFill(Color.WHITE);
+        graphics.fillText(killCounterText, LevelView.KILL_COUNTER_X_POSITION, LevelView.KILL_COUNTER_Y_POSITION);
+        graphics.strokeText(killCounterText, LevelView.KILL_COUNTER_X_POSITION, LevelView.KILL_COUNTER_Y_POSITION);
+        graphics.setFill(Color.YELLOW);
+        graphics.fillText(gameScoreText, LevelView.GAMESCORE_COUNTER_X_POSITION, LevelView.GAMESCORE_COUNTER_Y_POSITION);
+        graphics.strokeText(gameScoreText, LevelView.GAMESCORE_COUNTER_X_POSITION, LevelView.GAMESCORE_COUNTER_Y_POSITION);
+    }
+
+    /**
+     * Draws the boss's shield and fire deactivation indicators and its health.
+     *
+     * @param boss the boss of the level.
+     */
+    private void drawBossHud(Boss boss) {
+        if (boss.getIsShielded()) {
+            drawSprite(SHIELD_IMAGE_NAME, SHIELD_SIZE,
+                    LevelViewLevelBoss.SHIELD_X_POSITION, LevelViewLevelBoss.SHIELD_Y_POSITION, SHIELD_SIZE, SHIELD_SIZE);
+        }
+        if (boss.getIsFireDeactivated()) {
+            drawSprite(NO_FIRE_IMAGE_NAME, NO_FIRE_HEIGHT, LevelViewLevelBoss.NOFIRE_X_POSITION,
+                    LevelViewLevelBoss.NOFIRE_Y_POSITION,
+                    SpriteDimensions.getAspectRatio(NO_FIRE_IMAGE_NAME) * NO_FIRE_HEIGHT, NO_FIRE_HEIGHT);
+        }
+
+        if (boss.getHealth() != shownBossHealth) {
+            shownBossHealth = boss.getHealth();
+            bossHealthText = LevelViewLevelBoss.BOSS_HP_LABEL + shownBossHealth;
+        }
+        graphics.save();
+        graphics.setEffect(bossHealthShadow);
+        graphics.setFont(BOSS_HEALTH_FONT);
+        graphics.setFill(Color.RED);
+        graphics.fillText(bossHealthText, LevelViewLevelBoss.BOSS_HEALTH_TEXT_X_POSITION,
+                LevelViewLevelBoss.BOSS_HEALTH_TEXT_Y_POSITION);
+        graphics.restore();
+    }
+
+    /**
+     * Draws a sprite from its region of the atlas, or from the {@link SpriteCache} if it is not packed.
+     *
+     * @param imageName   the name of the image file.
+     * @param imageHeight the height the sprite is displayed at.
+     * @param x           the left edge to draw at.
+     * @param y           the top edge to draw at.
+     * @param width       the width to draw.
+     * @param height      the height to draw.
+     */
+    private void drawSprite(String imageName, int imageHeight, double x, double y, double width, double height) {
+        Rectangle2D region = atlas.getRegion(imageName, imageHeight);
+        if (region != null) {
+            graphics.drawImage(atlas.getImage(), region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight(),
+                    x, y, width, height);
+        } else {
+            graphics.drawImage(SpriteCache.getInstance().getSprite(imageName, imageHeight), x, y, width, height);
+        }
+    }
+
+    /**
+     * Checks whether any part of the actor's bounding box lies within the visible area.
+     *
+     * @param actor the actor to check.
+     * @return {@code true} if the actor is on screen, otherwise {@code false}.
+     */
+    private boolean isOnScreen(ActiveActorDestructible actor) {
+        return actor.getMaxX() >= 0 && actor.getMinX() <= screenWidth
+                && actor.getMaxY() >= 0 && actor.getMinY() <= screenHeight;
+    }
+}
@@ -0,0 +1,417 @@
+package com.example.demo.view;
+
+import com.example.demo.level.GameEvent;
+import com.example.demo.level.GameEventBus;
+import com.example.demo.level.GameEventListener;
+import com.example.demo.level.InputState;
+import com.example.demo.level.LevelBoss;
+import com.example.demo.level.LevelNotification;
+import com.example.demo.level.LevelParent;
+import com.example.demo.level.PlayerInput;
+import com.example.demo.singleton.GameLoop;
+import com.example.demo.util.GameClock;
+import com.example.demo.util.TickProfiler;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.util.Duration;
+
+import java.util.Objects;
+
+/**
+ * Presents a {@link LevelParent} on screen and drives it from the {@link GameLoop}.
+ * <p>
+ * The scene is layered as the scrolling background, the actors drawn by an {@link ActorRenderer},
+ * and the level's HUD. With the {@link RenderBackend#CANVAS} backend, a {@link CanvasRenderer} draws the
+ * background, actors and HUD into a single canvas instead, and only the outcome and pause overlays remain
+ * scene-graph nodes. The game loop advances the level at a fixed tick rate and redraws it every
+ * display frame, interpolating positions between the last two ticks.
+ * Key events only update an {@link InputState}, which is sampled once at the start of each tick; the sampled
+ * directions and fire key are then translated into {@link PlayerInput}s for the level, so they can be recorded
+ * for replays. Holding the fire key holds the trigger of the user's weapon, which fires at a rate counted in
+ * ticks by the level.
+ * Level transitions published by the level are republished on this scene's own {@link GameEventBus}; win and
+ * lose transitions are delayed so the outcome image can be shown. The outcome delay is counted in ticks of the
+ * level's {@link GameClock}, so it stops while the game is paused and stays in step with the simulation.
+ * Scene-graph changes made while drawing are collected in a {@link SceneMutationQueue} and applied once
+ * at the end of the frame.
+ * When profiling is enabled, the delay from a key event to the tick that samples it, render times,
+ * scene-graph counts and the mutations and HUD updates applied per frame are recorded into the level's
+ * {@link TickProfiler}. When the level ends, its report is logged at {@code INFO} level through
+ * {@link System.Logger} together with the HUD update rate and the game loop's tick counts.
+ * </p>
+ */
+public class LevelScene implements GameEventListener {
+	private static final long OUTCOME_MILLISECOND_DELAY = 1_000;
+	private static final System.Logger LOGGER = System.getLogger(LevelScene.class.getName());
+
+	private final LevelParent level;
+	private final GameLoop gameLoop;
+	private final Group root;
+	private final Group actorLayer;
+	private final Group hudLayer;
+	private final Scene scene;
+	private final ImageView background;
+	private final ImageView backgroundCopy;
+	private final SceneMutationQueue sceneMutations;
+	private final ActorRenderer actorRenderer;
+	private final CanvasRenderer canvasRenderer;
+	private final Node inputNode;
+	private final LevelView levelView;
+	private final GameClock clock;
+	private final GameEventBus events;
+
+	private final InputState input;
+
+	private long shownHudUpdates;
+	private long shownCaughtUpTicks;
+	private long shownDroppedTicks;
+	private LevelNotification pendingOutcome;
+	private long outcomeTicksRemaining;
+
+	/**
+	 * Constructs the scene for the given level, drawn with scene-graph nodes, and binds the game loop to it.
+	 *
+	 * @param level the level to present.
+	 * @throws NullPointerException if the level's background image resource cannot be found.
+	 */
+	public LevelScene(LevelParent level) {
+		this(level, RenderBackend.NODES);
+	}
+
+	/**
+	 * Constructs the scene for the given level, drawn with the given backend, and binds the game loop to it.
+	 *
+	 * @param level         the level to present.
+	 * @param renderBackend the way the level is drawn.
+	 * @throws NullPointerException if the level's background image resource cannot be found.
+	 */
+	public LevelScene(LevelParent level, RenderBackend renderBackend) {
+		this.level = level;
+		this.gameLoop = GameLoop.getInstance();
+		this.root = new Group();
+		this.actorLayer = new Group();
+		this.hudLayer = new Group();
+		this.scene = new Scene(root, level.getScreenWidth(), level.getScreenHeight());
+		this.background = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(level.getBackgroundImageName())).toExternalForm()));
+		this.backgroundCopy = new ImageView(background.getImage());
+		this.sceneMutations = new SceneMutationQueue();
+		this.actorRenderer = new ActorRenderer(actorLayer, sceneMutations, level.getScreenWidth(), level.getScreenHeight());
+		this.canvasRenderer = renderBackend == RenderBackend.CANVAS
+				? new CanvasRenderer(background.getImage(), level.getScreenWidth(), level.getScreenHeight())
+				: null;
+		this.inputNode = canvasRenderer != null ? canvasRenderer.getCanvas() : background;
+		this.levelView = instantiateLevelView();
+		this.clock = level.getClock();
+		this.events = new GameEventBus();
+		this.input = new InputState();
+
+		level.getEvents().subscribe(GameEvent.Type.LEVEL_TRANSITION, this);
+		gameLoop.initialize(Duration.millis(clock.getTickMillis()), this::tick, this::render);
+	}
+
+	/**
+	 * Initializes the scene by setting up the background, the actor layer, and user interface elements.
+	 *
+	 * @return the initialized {@link Scene} object for the level.
+	 */
+	public Scene initializeScene() {
+		initializeBackground();
+		root.getChildren().addAll(actorLayer, hudLayer);
+		if (canvasRenderer == null) {
+			levelView.showHeartDisplay()
+					.showKillCounter()
+					.showGameScoreCounter();
+		}
+		render(1);
+		return scene;
+	}
+
+	/**
+	 * Starts the game by focusing on the node receiving key input and starting the game loop.
+	 */
+	public void startGame() {
+		inputNode.requestFocus();
+		gameLoop.start();
+	}
+
+	/**
+	 * Stops the game by halting the game loop, stopping the level and unbinding any key listeners.
+	 */
+	public void stopGame() {
+		gameLoop.stop();
+		pendingOutcome = null;
+		input.clear();
+		unbindKeyListeners();
+		level.stopGame();
+	}
+
+	/**
+	 * Toggles the game's paused state. If the game is running, it pauses the game loop and displays the pause overlay.
+	 * If the game is paused, it resumes the game loop and hides the pause overlay.
+	 */
+	public void togglePauseGame() {
+		if (gameLoop.isRunning()) {
+			gameLoop.pause();
+			levelView.showPauseOverlay();
+		} else {
+			gameLoop.resume();
+			levelView.hidePauseOverlay();
+		}
+	}
+
+	/**
+	 * Retrieves the level presented by this scene.
+	 *
+	 * @return the {@link LevelParent} being presented.
+	 */
+	public LevelParent getLevel() {
+		return level;
+	}
+
+	/**
+	 * Gets the bus on which the level's transitions are republished once the scene has finished with them.
+	 *
+	 * @return the scene's {@link GameEventBus}.
+	 */
+	public GameEventBus getEvents() {
+		return events;
+	}
+
+	/**
+	 * Handles transitions published by the level. The game is stopped, and win or lose outcomes are
+	 * shown for a moment before the transition is republished on this scene's bus.
+	 * The game loop keeps running while an outcome is shown so the delay is counted in ticks.
+	 *
+	 * @param event the {@link GameEvent.Type#LEVEL_TRANSITION} event published by the level.
+	 */
+	@Override
+	public void onGameEvent(GameEvent event) {
+		LevelNotification notification = event.getNotification();
+		if (TickProfiler.ENABLED) {
+			LOGGER.log(System.Logger.Level.INFO, level.getClass().getSimpleName() + " profile:" + System.lineSeparator()
+					+ level.getProfiler().report() + hudUpdateRate() + gameLoopTicks());
+		}
+		switch (notification.nextAction()) {
+			case NEXT_LEVEL -> {
+				stopGame();
+				render(1);
+				forwardNotification(notification);
+			}
+			case WIN_GAME -> {
+				levelView.showWinImage();
+				showOutcome(notification);
+			}
+			case LOSE_GAME -> {
+				levelView.showGameOverImage();
+				showOutcome(notification);
+			}
+		}
+	}
+
+	/**
+	 * Runs one tick of the game loop. While the level is running, the held controls are sampled and applied
+	 * before the level is updated; once an outcome is being shown, its delay is counted down instead.
+	 */
+	private void tick() {
+		if (pendingOutcome != null) {
+			if (--outcomeTicksRemaining <= 0) {
+				LevelNotification outcome = pendingOutcome;
+				stopGame();
+				forwardNotification(outcome);
+			}
+			return;
+		}
+		if (input.sample(System.nanoTime())) {
+			level.getProfiler().record(TickProfiler.Phase.INPUT_LATENCY, input.getLastLatencyNanos());
+		}
+		level.steer(input.getHorizontalDirection(), input.getVerticalDirection());
+		applyFireControl();
+		level.updateScene();
+	}
+
+	/**
+	 * Pulls the trigger of the user's weapon when the fire key is pressed and releases it when the key is
+	 * released; the weapon fires on the following ticks at its own rate.
+	 */
+	private void applyFireControl() {
+		if (input.wasPressed(InputState.Control.FIRE)) {
+			level.handleInput(PlayerInput.PULL_TRIGGER);
+		}
+		if (input.wasReleased(InputState.Control.FIRE)) {
+			level.handleInput(PlayerInput.RELEASE_TRIGGER);
+		}
+	}
+
+	/**
+	 * Creates the view for the level's HUD.
+	 *
+	 * @return the {@link LevelView} for the level.
+	 */
+	private LevelView instantiateLevelView() {
+		if (canvasRenderer == null && level instanceof LevelBoss levelBoss) {
+			return new LevelViewLevelBoss(hudLayer, levelBoss);
+		}
+		return new LevelView(hudLayer, level.getPlayerInitialHealth(), level.getKillsToAdvance());
+	}
+
+	/**
+	 * Draws the background, the actors and the HUD from the current state of the level, then applies
+	 * the queued scene-graph changes in one batch. The canvas backend redraws all three into its canvas.
+	 *
+	 * @param alpha the interpolation factor between the previous and current tick.
+	 */
+	private void render(double alpha) {
+		TickProfiler profiler = level.getProfiler();
+		long renderStart = profiler.start();
+		if (canvasRenderer != null) {
+			canvasRenderer.render(level, alpha);
+		} else {
+			double backgroundPosition = level.getInterpolatedBackgroundPosition(alpha);
+			background.setTranslateX(backgroundPosition);
+			backgroundCopy.setTranslateX(backgroundPosition + level.getScreenWidth());
+			actorRenderer.render(level, alpha);
+			levelView.update(level);
+		}
+		int mutationCount = sceneMutations.apply();
+		long hudUpdates = levelView.getHudUpdateCount();
+		profiler.stop(TickProfiler.Phase.RENDER, renderStart);
+		profiler.setGauge(TickProfiler.Gauge.SCENE_NODES,
+				root.getChildren().size() + actorLayer.getChildren().size() + hudLayer.getChildren().size());
+		profiler.setGauge(TickProfiler.Gauge.VISIBLE_ACTOR_NODES, actorRenderer.getVisibleCount());
+		profiler.setGauge(TickProfiler.Gauge.CANVAS_ACTORS, canvasRenderer != null ? canvasRenderer.getDrawnCount() : 0);
+		profiler.setGauge(TickProfiler.Gauge.SCENE_MUTATIONS, mutationCount);
+		profiler.setGauge(TickProfiler.Gauge.HUD_UPDATES, (int) (hudUpdates - shownHudUpdates));
+		shownHudUpdates = hudUpdates;
+		long caughtUpTicks = gameLoop.getCaughtUpTicks();
+		long droppedTicks = gameLoop.getDroppedTicks();
+		profiler.setGauge(TickProfiler.Gauge.CAUGHT_UP_TICKS, (int) (caughtUpTicks - shownCaughtUpTicks));
+		profiler.setGauge(TickProfiler.Gauge.DROPPED_TICKS, (int) (droppedTicks - shownDroppedTicks));
+		shownCaughtUpTicks = caughtUpTicks;
+		shownDroppedTicks = droppedTicks;
+	}
+
+	/**
+	 * Describes how often the HUD nodes were changed over the level, in game time.
+	 *
+	 * @return the HUD update count and rate.
+	 */
+	private String hudUpdateRate() {
+		double seconds = Math.max(clock.getElapsedMillis(), 1) / 1_000.0;
+		return String.format("HUD updates: %d (%.1f per second)%n", levelView.getHudUpdateCount(),
+				levelView.getHudUpdateCount() / seconds);
+	}
+
+	/**
+	 * Describes how many ticks the game loop ran for the level, and how many of them it had to catch up
+	 * after slow frames or dropped beyond its per-frame cap.
+	 *
+	 * @return the game loop's tick counts.
+	 */
+	private String gameLoopTicks() {
+		return String.format("Game loop: %d ticks, %d caught up, %d dropped%n", gameLoop.getTickCount(),
+				gameLoop.getCaughtUpTicks(), gameLoop.getDroppedTicks());
+	}
+
+	/**
+	 * Stops input and keeps the outcome image on screen for a moment before the notification is passed on.
+	 *
+	 * @param notification the win or lose notification.
+	 */
+	private void showOutcome(LevelNotification notification) {
+		input.clear();
+		unbindKeyListeners();
+		pendingOutcome = notification;
+		outcomeTicksRemaining = clock.ticksFor(OUTCOME_MILLISECOND_DELAY);
+	}
+
+	/**
+	 * Republishes a level transition on this scene's bus.
+	 *
+	 * @param notification the notification to pass on.
+	 */
+	private void forwardNotification(LevelNotification notification) {
+		events.publishTransition(clock.getTicks(), notification);
+	}
+
+	/**
+	 * Sets up the level's background, including key press and release handlers.
+	 * Adds a secondary background image to simulate a scrolling effect. With the canvas backend the
+	 * canvas takes the place of both background images and receives the key input.
+	 */
+	private void initializeBackground() {
+		inputNode.setFocusTraversable(true);
+		inputNode.setOnKeyPressed(this::handleKeyPress);
+		inputNode.setOnKeyReleased(this::handleKeyRelease);
+		if (canvasRenderer != null) {
+			root.getChildren().add(canvasRenderer.getCanvas());
+			return;
+		}
+		background.setFitHeight(level.getScreenHeight());
+		background.setFitWidth(level.getScreenWidth());
+
+		backgroundCopy.setFitHeight(level.getScreenHeight());
+		backgroundCopy.setFitWidth(level.getScreenWidth());
+		backgroundCopy.setTranslateX(level.getScreenWidth());
+		root.getChildren().addAll(background, backgroundCopy);
+	}
+
+	/**
+	 * Unbinds key press and release listeners from the input node to disable user input.
+	 */
+	private void unbindKeyListeners() {
+		inputNode.setOnKeyPressed(null);
+		inputNode.setOnKeyReleased(null);
+	}
+
+	/**
+	 * Handles user key presses by marking the control held, or toggles the pause state for escape.
+	 * Controls pressed while the game is paused are ignored.
+	 *
+	 * @param e the {@link KeyEvent} representing the key press.
+	 */
+	private void handleKeyPress(KeyEvent e) {
+		if (e.getCode() == KeyCode.ESCAPE) {
+			togglePauseGame();
+			return;
+		}
+		InputState.Control control = toControl(e.getCode());
+		if (control != null && !gameLoop.isPaused()) {
+			input.press(control, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Handles user key releases by marking the control no longer held. Releases are kept while the game
+	 * is paused, so a key let go during the pause is not still held when the game resumes.
+	 *
+	 * @param e the {@link KeyEvent} representing the key release.
+	 */
+	private void handleKeyRelease(KeyEvent e) {
+		InputState.Control control = toControl(e.getCode());
+		if (control != null) {
+			input.release(control, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Maps a key to the control it operates.
+	 *
+	 * @param keyCode the key.
+	 * @return the control, or {@code null} if the key does not operate one.
+	 */
+	private static InputState.Control toControl(KeyCode keyCode) {
+		return switch (keyCode) {
+			case UP -> InputState.Control.UP;
+			case DOWN -> InputState.Control.DOWN;
+			case LEFT -> InputState.Control.LEFT;
+			case RIGHT -> InputState.Control.RIGHT;
+			case SPACE -> InputState.Control.FIRE;
+			default -> null;
+		};
+	}
+}
@@ -1,5 +1,6 @@
-package com.example.demo.level;
+package com.example.demo.view;
 
+import com.example.demo.level.LevelParent;
 import com.example.demo.misc.*;
 import com.example.demo.util.GameScore;
 import javafx.scene.Group;
@@ -7,20 +8,24 @@ import javafx.scene.Group;
 /**
  * Represents the visual elements of a game level, such as hearts, kill counters, and game score.
  * Handles displaying and updating these elements during gameplay.
+ *
+ * <p>{@link #update(LevelParent)} runs every frame but compares each value with the one on screen, so
+ * text is only rebuilt and hearts only added or removed when the value actually changes. Every change
+ * applied to a HUD node is counted, so the HUD's update rate can be measured.</p>
  */
 public class LevelView {
 
 	// Constants for positioning visual elements
-	private static final double HEART_DISPLAY_X_POSITION = 5;
-	private static final double HEART_DISPLAY_Y_POSITION = 15;
+	static final double HEART_DISPLAY_X_POSITION = 5;
+	static final double HEART_DISPLAY_Y_POSITION = 15;
 	private static final int WIN_IMAGE_X_POSITION = 355;
 	private static final int WIN_IMAGE_Y_POSITION = 175;
 	private static final int LOSS_SCREEN_X_POSITION = 450;
 	private static final int LOSS_SCREEN_Y_POSITION = 150;
-	private static final double KILL_COUNTER_X_POSITION = 250;
-	private static final double KILL_COUNTER_Y_POSITION = 30;
-	private static final double GAMESCORE_COUNTER_X_POSITION = 450;
-	private static final double GAMESCORE_COUNTER_Y_POSITION = 30;
+	static final double KILL_COUNTER_X_POSITION = 250;
+	static final double KILL_COUNTER_Y_POSITION = 30;
+	static final double GAMESCORE_COUNTER_X_POSITION = 450;
+	static final double GAMESCORE_COUNTER_Y_POSITION = 30;
 
 	// Visual components
 	private final Group root;
@@ -31,6 +36,13 @@ public class LevelView {
 	private final GameScoreCounter gameScoreCounter;
 	private final PauseOverlay pauseOverlay;
 
+	// Values currently shown, compared against the level every frame
+	private int shownHearts;
+	private int shownKills = -1;
+	private int shownScore = -1;
+	private int shownScoreIncrement = -1;
+	private long hudUpdateCount;
+
 	/**
 	 * Constructs a new LevelView with the given parameters.
 	 *
@@ -46,6 +58,7 @@ public class LevelView {
 		this.killCounter = new KillCounter(KILL_COUNTER_X_POSITION, KILL_COUNTER_Y_POSITION, killsToAdvance);
 		this.gameScoreCounter = new GameScoreCounter(GAMESCORE_COUNTER_X_POSITION, GAMESCORE_COUNTER_Y_POSITION);
 		this.pauseOverlay = new PauseOverlay(root);
+		this.shownHearts = heartsToDisplay;
 	}
 
 	/**
@@ -107,6 +120,43 @@ public class LevelView {
 		pauseOverlay.hide();
 	}
 
+	/**
+	 * Updates the hearts, kill counter and game score from the current state of the level.
+	 * Called once per frame; elements whose value has not changed are left untouched.
+	 *
+	 * @param level the level being displayed.
+	 */
+	public void update(LevelParent level) {
+		int hearts = level.getUser().getHealth();
+		if (hearts != shownHearts) {
+			updateHearts(hearts);
+		}
+		int kills = level.getUser().getNumberOfKills();
+		if (kills != shownKills) {
+			updateKillCount(kills);
+		}
+		GameScore gameScore = level.getGameScore();
+		if (gameScore.getScore() != shownScore || gameScore.getLastIncrement() != shownScoreIncrement) {
+			updateGameScore(gameScore);
+		}
+	}
+
+	/**
+	 * Gets the number of changes applied to HUD nodes since the view was created.
+	 *
+	 * @return the HUD update count.
+	 */
+	public long getHudUpdateCount() {
+		return hudUpdateCount;
+	}
+
+	/**
+	 * Counts a change applied to a HUD node. Called by subclasses for the elements they add.
+	 */
+	protected void countHudUpdate() {
+		hudUpdateCount++;
+	}
+
 	/**
 	 * Updates the heart display to reflect the player's remaining health.
 	 *
@@ -126,6 +176,8 @@ public class LevelView {
 				heartDisplay.removeHeart();
 			}
 		}
+		shownHearts = heartsRemaining;
+		countHudUpdate();
 
 		return this;
 	}
@@ -139,6 +191,8 @@ public class LevelView {
 	public LevelView updateKillCount(int killCount) {
 		killCounter.setCurrentKills(killCount)
 				.updateKillCounterText();
+		shownKills = killCount;
+		countHudUpdate();
 		return this;
 	}
 
@@ -150,6 +204,9 @@ public class LevelView {
 	 */
 	public LevelView updateGameScore(GameScore gameScore) {
 		gameScoreCounter.updateGameScoreCounterText(gameScore);
+		shownScore = gameScore.getScore();
+		shownScoreIncrement = gameScore.getLastIncrement();
+		countHudUpdate();
 		return this;
 	}
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
-package com.example.demo.level;
+package com.example.demo.view;
 
+import com.example.demo.actor.Boss;
+import com.example.demo.level.LevelBoss;
+import com.example.demo.level.LevelParent;
 import com.example.demo.misc.NoFireImage;
 import com.example.demo.misc.ShieldImage;
 import javafx.scene.Group;
@@ -13,36 +16,42 @@ import javafx.scene.paint.Color;
  * A specialized {@link LevelView} for the boss level in the game.
  * This class extends the base level view to include additional features
  * specific to the boss, such as displaying the boss's health, shield status,
- * and fire deactivation state.
+ * and fire deactivation state. Like the common elements, they are only touched when the boss's
+ * state changes.
  */
 public class LevelViewLevelBoss extends LevelView {
 
 	// Constants for positioning elements
-	private static final int SHIELD_X_POSITION = 1000;
-	private static final int SHIELD_Y_POSITION = -5;
-	private static final int NOFIRE_X_POSITION = 970;
-	private static final int NOFIRE_Y_POSITION = 10;
-	private static final double BOSS_HEALTH_TEXT_X_POSITION = 1100;
-	private static final double BOSS_HEALTH_TEXT_Y_POSITION = 40;
-	private static final String BOSS_HP_LABEL = "Boss HP: ";
+	static final int SHIELD_X_POSITION = 1000;
+	static final int SHIELD_Y_POSITION = -5;
+	static final int NOFIRE_X_POSITION = 970;
+	static final int NOFIRE_Y_POSITION = 10;
+	static final double BOSS_HEALTH_TEXT_X_POSITION = 1100;
+	static final double BOSS_HEALTH_TEXT_Y_POSITION = 40;
+	static final String BOSS_HP_LABEL = "Boss HP: ";
 
 	// Visual components
 	private final Group root;
+	private final Boss boss;
 	private final ShieldImage shieldImage;
 	private final NoFireImage noFireImage;
 	private final Text bossHealthText;
+	private int shownBossHealth = -1;
+	private boolean shownShield;
+	private boolean shownNoFire;
 
 	/**
 	 * Constructs a new {@link LevelViewLevelBoss} with the specified parameters.
 	 * Initializes visual elements such as the boss health text, shield indicator,
 	 * and fire deactivation indicator.
 	 *
-	 * @param root            the root {@link Group} for adding visual elements to the game screen.
-	 * @param heartsToDisplay the initial number of hearts to display for the player's health.
+	 * @param root  the root {@link Group} for adding visual elements to the game screen.
+	 * @param level the boss level being displayed.
 	 */
-	public LevelViewLevelBoss(Group root, int heartsToDisplay) {
-		super(root, heartsToDisplay, 1);
+	public LevelViewLevelBoss(Group root, LevelBoss level) {
+		super(root, level.getPlayerInitialHealth(), level.getKillsToAdvance());
 		this.root = root;
+		this.boss = level.getBoss();
 		this.shieldImage = new ShieldImage(SHIELD_X_POSITION, SHIELD_Y_POSITION);
 		this.noFireImage = new NoFireImage(NOFIRE_X_POSITION, NOFIRE_Y_POSITION);
 		this.bossHealthText = new Text(BOSS_HP_LABEL);
@@ -74,11 +83,41 @@ public class LevelViewLevelBoss extends LevelView {
 		root.getChildren().addAll(shieldImage, noFireImage, bossHealthText);
 	}
 
+	/**
+	 * Updates the common level elements, then the boss's health, shield status, and fire deactivation state,
+	 * touching only the elements whose value has changed.
+	 *
+	 * @param level the level being displayed.
+	 */
+	@Override
+	public void update(LevelParent level) {
+		super.update(level);
+		if (boss.getHealth() != shownBossHealth) {
+			updateBossHealth(boss.getHealth());
+		}
+		if (boss.getIsShielded() != shownShield) {
+			if (boss.getIsShielded()) {
+				showShield();
+			} else {
+				hideShield();
+			}
+		}
+		if (boss.getIsFireDeactivated() != shownNoFire) {
+			if (boss.getIsFireDeactivated()) {
+				showNoFire();
+			} else {
+				hideNoFire();
+			}
+		}
+	}
+
 	/**
 	 * Displays the shield image on the game screen to indicate the boss is shielded.
 	 */
 	public void showShield() {
 		shieldImage.showShield();
+		shownShield = true;
+		countHudUpdate();
 	}
 
 	/**
@@ -86,6 +125,8 @@ public class LevelViewLevelBoss extends LevelView {
 	 */
 	public void hideShield() {
 		shieldImage.hideShield();
+		shownShield = false;
+		countHudUpdate();
 	}
 
 	/**
@@ -94,6 +135,8 @@ public class LevelViewLevelBoss extends LevelView {
 	 */
 	public void showNoFire() {
 		noFireImage.showNoFire();
+		shownNoFire = true;
+		countHudUpdate();
 	}
 
 	/**
@@ -102,6 +145,8 @@ public class LevelViewLevelBoss extends LevelView {
 	 */
 	public void hideNoFire() {
 		noFireImage.hideNoFire();
+		shownNoFire = false;
+		countHudUpdate();
 	}
 
 	/**
@@ -111,5 +156,7 @@ public class LevelViewLevelBoss extends LevelView {
 	 */
 	public void updateBossHealth(int health) {
 		bossHealthText.setText(BOSS_HP_LABEL + health);
+		shownBossHealth = health;
+		countHudUpdate();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.demo.view;
+
+import java.util.Locale;
+
+/**
+ * The ways a {@link LevelScene} can draw its level.
+ * <p>
+ * The backend is chosen when the game starts, with {@code --renderer=nodes} or {@code --renderer=canvas},
+ * so the frame times of the two can be compared with the profiler's render phase.
+ * </p>
+ */
+public enum RenderBackend {
+    /** Every actor and HUD element is its own scene-graph node, drawn by an {@link ActorRenderer} and a {@link LevelView}. */
+    NODES,
+    /** The background, actors and HUD are drawn into a single canvas by a {@link CanvasRenderer}. */
+    CANVAS;
+
+    /**
+     * Finds the backend with the given name, ignoring case.
+     *
+     * @param name the name of the backend, such as {@code canvas}.
+     * @return the backend.
+     * @throws IllegalArgumentException if no backend has the name.
+     */
+    public static RenderBackend fromName(String name) {
+        for (RenderBackend backend : values()) {
+            if (backend.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return backend;
+            }
+        }
+        throw new IllegalArgumentException("Invalid render backend: " + name);
+    }
+}
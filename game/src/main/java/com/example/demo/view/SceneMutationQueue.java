@@ -0,0 +1,165 @@
+package com.example.demo.view;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects scene-graph changes made while a frame is drawn and applies them together.
+ * <p>
+ * Adding a child fires a change event on the parent's children list and marks the scene graph dirty, so the
+ * renderer queues its new views here instead. {@link #apply()} then adds the queued children of each parent
+ * with a single {@code addAll}, so a parent sees at most one list change per frame however many actors
+ * spawned, and applies the queued visibility changes.
+ * </p>
+ * <p>
+ * Visibility requests are collapsed per node: a later request for the same node replaces the earlier one,
+ * so hiding and showing a node in one batch leaves only the last request. When the batch is applied, nodes
+ * whose last request matches their current visibility are left alone and do not count as a mutation.
+ * </p>
+ * <p>
+ * The queue counts the mutations of every batch, so scene churn during heavy firefights can be measured.
+ * </p>
+ */
+public class SceneMutationQueue {
+
+    private final List<Group> parents;
+    private final List<List<Node>> pendingAdds;
+    private final List<Node> visibilityNodes;
+    private final Map<Node, Boolean> visibilityValues;
+    private int pendingCount;
+    private int lastBatchSize;
+    private int peakBatchSize;
+    private long totalMutations;
+
+    /**
+     * Constructs an empty queue.
+     */
+    public SceneMutationQueue() {
+        this.parents = new ArrayList<>();
+        this.pendingAdds = new ArrayList<>();
+        this.visibilityNodes = new ArrayList<>();
+        this.visibilityValues = new IdentityHashMap<>();
+    }
+
+    /**
+     * Queues a node to be added to the end of a parent's children.
+     *
+     * @param parent the parent to add to.
+     * @param node   the node to add.
+     */
+    public void add(Group parent, Node node) {
+        pendingAdds.get(indexOf(parent)).add(node);
+        pendingCount++;
+    }
+
+    /**
+     * Queues a visibility change, replacing any request already queued for the node in this batch.
+     * A first request that matches the node's current visibility is dropped.
+     *
+     * @param node    the node to show or hide.
+     * @param visible whether the node should be visible.
+     */
+    public void setVisible(Node node, boolean visible) {
+        if (visibilityValues.containsKey(node)) {
+            visibilityValues.put(node, visible);
+        } else if (node.isVisible() != visible) {
+            visibilityNodes.add(node);
+            visibilityValues.put(node, visible);
+            pendingCount++;
+        }
+    }
+
+    /**
+     * Applies every queued change: additions first, then the last visibility request of each node.
+     *
+     * @return the number of mutations applied.
+     */
+    public int apply() {
+        int applied = 0;
+        for (int i = 0; i < parents.size(); i++) {
+            List<Node> adds = pendingAdds.get(i);
+            if (!adds.isEmpty()) {
+                parents.get(i).getChildren().addAll(adds);
+                applied += adds.size();
+                adds.clear();
+            }
+        }
+        for (int i = 0; i < visibilityNodes.size(); i++) {
+            Node node = visibilityNodes.get(i);
+            boolean visible = visibilityValues.get(node);
+            if (node.isVisible() != visible) {
+                node.setVisible(visible);
+                applied++;
+            }
+        }
+        visibilityNodes.clear();
+        visibilityValues.clear();
+
+        lastBatchSize = applied;
+        peakBatchSize = Math.max(peakBatchSize, applied);
+        totalMutations += applied;
+        pendingCount = 0;
+        return lastBatchSize;
+    }
+
+    /**
+     * Gets the number of additions and nodes with a visibility request queued since the last batch
+     * was applied. Requests that end up matching a node's visibility are not applied, so the batch
+     * may be smaller.
+     *
+     * @return the pending mutation count.
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Gets the number of mutations applied by the last batch.
+     *
+     * @return the size of the last batch.
+     */
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    /**
+     * Gets the largest number of mutations applied by a single batch.
+     *
+     * @return the size of the largest batch.
+     */
+    public int getPeakBatchSize() {
+        return peakBatchSize;
+    }
+
+    /**
+     * Gets the number of mutations applied by every batch so far.
+     *
+     * @return the total mutation count.
+     */
+    public long getTotalMutations() {
+        return totalMutations;
+    }
+
+    /**
+     * Finds the pending lists of a parent, registering it on first use. A scene has only a few parents,
+     * so they are searched by identity.
+     *
+     * @param parent the parent to look up.
+     * @return the index of the parent's pending lists.
+     */
+    private int indexOf(Group parent) {
+        for (int i = 0; i < parents.size(); i++) {
+            if (parents.get(i) == parent) {
+                return i;
+            }
+        }
+        parents.add(parent);
+        pendingAdds.add(new ArrayList<>());
+        return parents.size() - 1;
+    }
+}
@@ -1,8 +1,9 @@
 module com.example.demo {
     requires javafx.controls;
     requires javafx.fxml;
+    requires com.example.demo.core;
 
     opens com.example.demo.controller to javafx.fxml;
 
     exports com.example.demo.controller;
-}
\ No newline at end of file
+}